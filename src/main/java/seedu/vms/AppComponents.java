@@ -0,0 +1,172 @@
+package seedu.vms;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.logging.Logger;
+
+import seedu.vms.commons.core.Config;
+import seedu.vms.commons.core.LogsCenter;
+import seedu.vms.commons.util.ConfigUtil;
+import seedu.vms.commons.util.StringUtil;
+import seedu.vms.logic.Logic;
+import seedu.vms.logic.LogicManager;
+import seedu.vms.model.Model;
+import seedu.vms.model.ModelManager;
+import seedu.vms.model.ReadOnlyUserPrefs;
+import seedu.vms.model.UserPrefs;
+import seedu.vms.model.appointment.AppointmentManager;
+import seedu.vms.model.keyword.KeywordManager;
+import seedu.vms.model.patient.PatientManager;
+import seedu.vms.model.vaccination.VaxTypeManager;
+import seedu.vms.storage.JsonUserPrefsStorage;
+import seedu.vms.storage.Storage;
+import seedu.vms.storage.StorageManager;
+import seedu.vms.storage.UserPrefsStorage;
+import seedu.vms.storage.appointment.AppointmentStorage;
+import seedu.vms.storage.appointment.JsonAppointmentStorage;
+import seedu.vms.storage.keyword.JsonKeywordStorage;
+import seedu.vms.storage.keyword.KeywordStorage;
+import seedu.vms.storage.patient.JsonPatientManagerStorage;
+import seedu.vms.storage.patient.PatientManagerStorage;
+import seedu.vms.storage.vaccination.JsonVaxTypeStorage;
+import seedu.vms.storage.vaccination.VaxTypeStorage;
+
+/**
+ * The components of the application that do not depend on the UI. They are
+ * shared by the JavaFX application and the headless runtime.
+ */
+public class AppComponents {
+    private static final Logger logger = LogsCenter.getLogger(AppComponents.class);
+
+    private final Config config;
+    private final Storage storage;
+    private final Model model;
+    private final Logic logic;
+
+    private AppComponents(Config config, Storage storage, Model model, Logic logic) {
+        this.config = config;
+        this.storage = storage;
+        this.model = model;
+        this.logic = logic;
+    }
+
+    /**
+     * Initializes the components of the application from the given parameters.
+     * The data of the model is not loaded until {@link Logic#loadManagers} is
+     * called.
+     */
+    public static AppComponents init(AppParameters appParameters) {
+        Config config = initConfig(appParameters.getConfigPath());
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage();
+        UserPrefs userPrefs = initPrefs(userPrefsStorage);
+        PatientManagerStorage patientManagerStorage = new JsonPatientManagerStorage();
+        VaxTypeStorage vaxTypeStorage = new JsonVaxTypeStorage();
+        AppointmentStorage appointmentStorage = new JsonAppointmentStorage();
+        KeywordStorage keywordStorage = new JsonKeywordStorage();
+        Storage storage = new StorageManager(patientManagerStorage, vaxTypeStorage,
+                appointmentStorage, userPrefsStorage, keywordStorage);
+
+        initLogging(config);
+
+        Model model = initModelManager(storage, userPrefs);
+
+        Logic logic = new LogicManager(model, storage);
+        return new AppComponents(config, storage, model, logic);
+    }
+
+    /**
+     * Returns a {@code ModelManager} with the data from {@code storage}'s patient manager and {@code userPrefs}. <br>
+     * The data from the sample patient manager will be used instead if {@code storage}'s patient manager is not found,
+     * or an empty patient manager will be used instead if errors occur when reading {@code storage}'s patient manager.
+     */
+    private static Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+        return new ModelManager(
+                new PatientManager(),
+                new VaxTypeManager(),
+                new AppointmentManager(),
+                new KeywordManager(),
+                userPrefs);
+    }
+
+    private static void initLogging(Config config) {
+        LogsCenter.init(config);
+    }
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null.
+     */
+    private static Config initConfig(Path configFilePath) {
+        Config initializedConfig;
+        Path configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            initializedConfig = ConfigUtil.readConfig(configFilePathUsed);
+        } catch (IOException ioEx) {
+            logger.warning("Default config will be used due to: " + ioEx.getMessage());
+            initializedConfig = new Config();
+        }
+
+        // Update config file in case it was missing to begin with or there are new/unused fields
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
+     * or a new {@code UserPrefs} with default configuration if errors occur when
+     * reading from the file.
+     */
+    private static UserPrefs initPrefs(UserPrefsStorage storage) {
+        UserPrefs initializedPrefs;
+        try {
+            initializedPrefs = storage.readUserPrefs();
+        } catch (IOException e) {
+            logger.warning("Default user preference will be used due to: " + e.getMessage());
+            initializedPrefs = new UserPrefs();
+        }
+        return initializedPrefs;
+    }
+
+    public Config getConfig() {
+        return config;
+    }
+
+    public Storage getStorage() {
+        return storage;
+    }
+
+    public Model getModel() {
+        return model;
+    }
+
+    public Logic getLogic() {
+        return logic;
+    }
+
+    /**
+     * Saves the user preferences of the model, logging any failure.
+     */
+    public void saveUserPrefs() {
+        try {
+            storage.saveUserPrefs(model.getUserPrefs());
+        } catch (IOException e) {
+            logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package seedu.vms;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.logging.Logger;
+
+import seedu.vms.commons.core.LogsCenter;
+import seedu.vms.logic.CommandMessage;
+import seedu.vms.logic.Logic;
+import seedu.vms.logic.commands.basic.RunCommand;
+
+/**
+ * Runs the application without a UI, executing commands read from the
+ * standard input or from clients of a local socket. No JavaFX toolkit is
+ * started.
+ *
+ * <p>The values the model and logic expose, such as the detailed patient and
+ * the load progress, are plain {@code ValueProperty} instances with no
+ * JavaFX dependency. The data and filtered maps are still the observable maps
+ * of {@code javafx.base}: the batched change events, the filtered views, the
+ * transaction journal and the list panels are all built on their change
+ * listeners, so they are kept as plain library classes rather than replaced.
+ * Neither notifies its listeners through {@code Platform}, so nothing on the
+ * headless path needs a toolkit or the JavaFX application thread. Only the UI
+ * hands changes over to that thread.
+ *
+ * <p>Each command is executed to completion before the next is read, and the
+ * messages of its execution are written to the output, one per line, prefixed
+ * by their state.
+ */
+public class HeadlessApp {
+    /** The command-line argument that starts the headless runtime. */
+    public static final String HEADLESS_FLAG = "--headless";
+
+    private static final String PORT_PARAMETER = "port";
+    private static final String NAMED_PARAMETER_PREFIX = "--";
+    private static final String MESSAGE_FORMAT = "[%s] %s";
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessApp.class);
+
+    private final Logic logic;
+    private volatile PrintWriter output;
+    private volatile boolean isExitRequested = false;
+    private volatile boolean hasLoadFailed = false;
+
+
+    /**
+     * Constructs a {@code HeadlessApp}.
+     *
+     * @param logic - the logic to execute commands with.
+     * @param output - where the messages of executions are written to.
+     */
+    public HeadlessApp(Logic logic, PrintWriter output) {
+        this.logic = Objects.requireNonNull(logic);
+        this.output = Objects.requireNonNull(output);
+        logic.setOnExecutionCompletion(this::write);
+        logic.setCloseAction(() -> isExitRequested = true);
+    }
+
+
+    /**
+     * Starts the headless runtime. Named parameters are given as
+     * {@code --name=value}, with the same names as the JavaFX application and
+     * an additional {@code --port=PORT} to serve clients of a local socket
+     * instead of the standard input.
+     */
+    public static void main(String[] args) {
+        Map<String, String> namedParameters = parseNamedParameters(args);
+        AppParameters appParameters = AppParameters.parse(namedParameters);
+        AppComponents components = AppComponents.init(appParameters);
+        logger.info("Starting headless VMS " + MainApp.VERSION);
+
+        HeadlessApp app = new HeadlessApp(components.getLogic(), new PrintWriter(System.out, true));
+        int exitCode = 0;
+        try {
+            if (!app.load()) {
+                exitCode = 1;
+            } else {
+                if (appParameters.getScriptPath() != null) {
+                    app.execute(RunCommand.COMMAND_WORD + " " + appParameters.getScriptPath());
+                }
+                String port = namedParameters.get(PORT_PARAMETER);
+                if (port != null) {
+                    app.serve(Integer.parseInt(port));
+                } else {
+                    app.run(new BufferedReader(new InputStreamReader(System.in, UTF_8)));
+                }
+            }
+        } catch (IOException | NumberFormatException ex) {
+            logger.severe("Headless runtime stopped: " + ex);
+            exitCode = 1;
+        } catch (InterruptedException intEx) {
+            Thread.currentThread().interrupt();
+            exitCode = 1;
+        }
+
+        components.saveUserPrefs();
+        components.getLogic().shutdown();
+        System.exit(exitCode);
+    }
+
+
+    private static Map<String, String> parseNamedParameters(String[] args) {
+        HashMap<String, String> namedParameters = new HashMap<>();
+        for (String arg : args) {
+            int separatorIndex = arg.indexOf('=');
+            if (!arg.startsWith(NAMED_PARAMETER_PREFIX) || separatorIndex < 0) {
+                continue;
+            }
+            namedParameters.put(arg.substring(NAMED_PARAMETER_PREFIX.length(), separatorIndex),
+                    arg.substring(separatorIndex + 1));
+        }
+        return namedParameters;
+    }
+
+
+    /**
+     * Loads the data of the model on the calling thread. Returns {@code true}
+     * if the data could be loaded and {@code false} otherwise.
+     */
+    public boolean load() {
+        logic.loadManagers((title, description) -> {
+            hasLoadFailed = true;
+            output.println(String.format(MESSAGE_FORMAT, CommandMessage.State.DEATH, title));
+            output.println(description);
+        });
+        return !hasLoadFailed;
+    }
+
+
+    /**
+     * Executes the given command and waits for it to complete.
+     *
+     * @param commandText - the command to execute.
+     * @throws InterruptedException if the thread is interrupted while
+     *      waiting.
+     */
+    public void execute(String commandText) throws InterruptedException {
+        logic.queue(commandText);
+        logic.awaitIdle();
+    }
+
+
+    /**
+     * Executes the commands read from the given input, one per line, until
+     * the input ends or an exit command is executed.
+     *
+     * @param input - the input to read commands from.
+     * @throws IOException if the input cannot be read.
+     * @throws InterruptedException if the thread is interrupted while
+     *      waiting for a command to complete.
+     */
+    public void run(BufferedReader input) throws IOException, InterruptedException {
+        String line;
+        while (!isExitRequested && (line = input.readLine()) != null) {
+            if (!line.isBlank()) {
+                execute(line.strip());
+            }
+        }
+    }
+
+
+    /**
+     * Serves clients connecting to the given port of the loopback address one
+     * at a time, executing the commands each client sends until an exit
+     * command is executed.
+     *
+     * @param port - the port to listen on.
+     * @throws IOException if the socket cannot be opened.
+     * @throws InterruptedException if the thread is interrupted while
+     *      waiting for a command to complete.
+     */
+    public void serve(int port) throws IOException, InterruptedException {
+        try (ServerSocket serverSocket = new ServerSocket(port, 0, InetAddress.getLoopbackAddress())) {
+            logger.info("Listening on " + serverSocket.getLocalSocketAddress());
+            while (!isExitRequested) {
+                serveClient(serverSocket.accept());
+            }
+        }
+    }
+
+
+    private void serveClient(Socket socket) throws InterruptedException {
+        PrintWriter defaultOutput = output;
+        try (socket;
+                BufferedReader input = new BufferedReader(new InputStreamReader(socket.getInputStream(), UTF_8));
+                PrintWriter clientOutput = new PrintWriter(
+                        new OutputStreamWriter(socket.getOutputStream(), UTF_8), true)) {
+            output = clientOutput;
+            run(input);
+        } catch (IOException ioEx) {
+            logger.warning("Client disconnected: " + ioEx.getMessage());
+        } finally {
+            output = defaultOutput;
+        }
+    }
+
+
+    private void write(List<CommandMessage> messages) {
+        PrintWriter currentOutput = output;
+        synchronized (currentOutput) {
+            for (CommandMessage message : messages) {
+                currentOutput.println(String.format(MESSAGE_FORMAT, message.getState(), message.getMessage()));
+            }
+            currentOutput.flush();
+        }
+    }
+}
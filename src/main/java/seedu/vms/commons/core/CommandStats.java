@@ -0,0 +1,118 @@
+package seedu.vms.commons.core;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * Records the latencies of the phases of command executions per type of
+ * command, along with the number of records that filters scanned. All
+ * methods are safe to call from any thread.
+ */
+public class CommandStats {
+    /** The type recorded for the refreshes of the UI, which do not belong to a command. */
+    public static final String UI_TYPE = "ui";
+
+    /** A phase of the execution of a command. */
+    public enum Phase {
+        PARSE,
+        EXECUTE,
+        SAVE_PATIENTS,
+        SAVE_VACCINATIONS,
+        SAVE_APPOINTMENTS,
+        SAVE_KEYWORDS,
+        REFRESH
+    }
+
+    private static final Phase[] PHASES = Phase.values();
+
+    private final ConcurrentHashMap<String, TypeStats> typeStatsMap = new ConcurrentHashMap<>();
+    private final LongAdder scannedCount = new LongAdder();
+
+
+    /**
+     * Records the latency of a phase.
+     *
+     * @param type - the type of command the phase belongs to.
+     * @param phase - the phase.
+     * @param nanos - the latency of the phase in nanoseconds.
+     */
+    public void record(String type, Phase phase, long nanos) {
+        getTypeStats(type).histograms[phase.ordinal()].record(nanos);
+    }
+
+
+    /**
+     * Records the number of records scanned by a command.
+     *
+     * @param type - the type of command that scanned the records.
+     * @param count - the number of records scanned.
+     */
+    public void recordScanned(String type, long count) {
+        if (count > 0) {
+            getTypeStats(type).scannedCount.add(count);
+        }
+    }
+
+
+    /** Adds to the number of records scanned by filters, regardless of command. */
+    public void addScanned(long count) {
+        scannedCount.add(count);
+    }
+
+
+    /** Returns the number of records scanned by filters so far. */
+    public long getScannedCount() {
+        return scannedCount.sum();
+    }
+
+
+    /**
+     * Returns the histogram of the latencies of a phase of the given type of
+     * command.
+     */
+    public LatencyHistogram getHistogram(String type, Phase phase) {
+        return getTypeStats(type).histograms[phase.ordinal()];
+    }
+
+
+    private TypeStats getTypeStats(String type) {
+        return typeStatsMap.computeIfAbsent(type, key -> new TypeStats());
+    }
+
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("Command latencies:");
+        for (Map.Entry<String, TypeStats> entry : new TreeMap<>(typeStatsMap).entrySet()) {
+            TypeStats typeStats = entry.getValue();
+            builder.append(String.format("\n%s (records scanned: %d)",
+                    entry.getKey(), typeStats.scannedCount.sum()));
+            for (Phase phase : PHASES) {
+                LatencyHistogram histogram = typeStats.histograms[phase.ordinal()];
+                if (histogram.getCount() > 0) {
+                    builder.append(String.format("\n    %-17s %s", phase, histogram));
+                }
+            }
+        }
+        return builder.toString();
+    }
+
+
+
+
+
+    /** The stats of a type of command. */
+    private static class TypeStats {
+        private final LatencyHistogram[] histograms = new LatencyHistogram[PHASES.length];
+        private final LongAdder scannedCount = new LongAdder();
+
+        TypeStats() {
+            for (int i = 0; i < histograms.length; i++) {
+                histograms[i] = new LatencyHistogram();
+            }
+        }
+    }
+}
@@ -11,9 +11,11 @@ import java.util.logging.Level;
 public class Config {
 
     public static final Path DEFAULT_CONFIG_FILE = Paths.get("config.json");
+    public static final int DEFAULT_MAX_FRAME_RATE = 30;
 
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
+    private int maxFrameRate = DEFAULT_MAX_FRAME_RATE;
 
     public Level getLogLevel() {
         return logLevel;
@@ -23,6 +25,14 @@ public class Config {
         this.logLevel = logLevel;
     }
 
+    public int getMaxFrameRate() {
+        return maxFrameRate;
+    }
+
+    public void setMaxFrameRate(int maxFrameRate) {
+        this.maxFrameRate = maxFrameRate;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -34,12 +44,13 @@ public class Config {
 
         Config o = (Config) other;
 
-        return Objects.equals(logLevel, o.logLevel);
+        return Objects.equals(logLevel, o.logLevel)
+                && maxFrameRate == o.maxFrameRate;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel);
+        return Objects.hash(logLevel, maxFrameRate);
     }
 
     @Override
@@ -0,0 +1,105 @@
+package seedu.vms.commons.core;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * A histogram of latencies in nanoseconds with log-linear buckets, in the
+ * style of an HDR histogram. Each power of two is split into
+ * {@value #SUB_BUCKET_COUNT} buckets, so percentiles are accurate to about
+ * 6% of their value while the histogram stays a fixed size.
+ *
+ * <p>Recording is lock free and safe to call from any thread.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT;
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder totalCount = new LongAdder();
+    private final AtomicLong maxValue = new AtomicLong();
+
+
+    /**
+     * Records a latency.
+     *
+     * @param nanos - the latency in nanoseconds. Negative values are recorded
+     *      as 0.
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts.incrementAndGet(indexOf(value));
+        totalCount.increment();
+        maxValue.accumulateAndGet(value, Math::max);
+    }
+
+
+    private static int indexOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = (Long.SIZE - 1 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKET_COUNT + (int) ((value >>> shift) & (SUB_BUCKET_COUNT - 1));
+    }
+
+
+    /** Returns the largest value that falls in the bucket of the given index. */
+    private static long highestValueOf(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_COUNT - 1;
+        long lowestValue = (long) (SUB_BUCKET_COUNT + index % SUB_BUCKET_COUNT) << shift;
+        return lowestValue + (1L << shift) - 1;
+    }
+
+
+    public long getCount() {
+        return totalCount.sum();
+    }
+
+
+    /**
+     * Returns the latency in nanoseconds at or below which the given
+     * percentage of the recorded latencies fall, or 0 if nothing has been
+     * recorded.
+     *
+     * @param percentile - the percentage, from 0 to 100.
+     */
+    public long getValueAtPercentile(double percentile) {
+        long count = getCount();
+        if (count == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts.get(i);
+            if (seen >= target) {
+                return Math.min(highestValueOf(i), getMax());
+            }
+        }
+        return getMax();
+    }
+
+
+    /** Returns the largest recorded latency in nanoseconds. */
+    public long getMax() {
+        return maxValue.get();
+    }
+
+
+    @Override
+    public String toString() {
+        return String.format("n=%d p50=%.3f ms p99=%.3f ms max=%.3f ms",
+                getCount(),
+                getValueAtPercentile(50) / NANOS_PER_MILLI,
+                getValueAtPercentile(99) / NANOS_PER_MILLI,
+                getMax() / NANOS_PER_MILLI);
+    }
+}
@@ -0,0 +1,50 @@
+package seedu.vms.commons.core;
+
+
+/**
+ * A value that can be read and listened to but not set. Unlike the JavaFX
+ * properties, it needs no JavaFX runtime, and its listeners are notified on
+ * the thread that sets the value.
+ *
+ * @param <T> the type of the value.
+ */
+public interface ReadOnlyValueProperty<T> {
+    /** Returns the current value, which may be {@code null}. */
+    T get();
+
+
+    /**
+     * Adds a listener that is notified of every change of the value.
+     *
+     * @param listener - the listener to add.
+     */
+    void addListener(ChangeListener<? super T> listener);
+
+
+    /**
+     * Removes a listener that was added.
+     *
+     * @param listener - the listener to remove.
+     */
+    void removeListener(ChangeListener<? super T> listener);
+
+
+
+
+
+    /**
+     * A listener of the changes of a {@code ReadOnlyValueProperty}.
+     *
+     * @param <T> the type of the value.
+     */
+    @FunctionalInterface
+    interface ChangeListener<T> {
+        /**
+         * Called after the value has changed.
+         *
+         * @param oldValue - the value before the change.
+         * @param newValue - the value after the change.
+         */
+        void changed(T oldValue, T newValue);
+    }
+}
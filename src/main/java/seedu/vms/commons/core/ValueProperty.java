@@ -0,0 +1,72 @@
+package seedu.vms.commons.core;
+
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+
+/**
+ * A value that can be set, read and listened to, without a JavaFX runtime.
+ * It may be set and read from any thread. Listeners are notified on the
+ * thread that sets the value, only when the new value is not equal to the old
+ * one, and in the order in which the value was set.
+ *
+ * @param <T> the type of the value.
+ */
+public class ValueProperty<T> implements ReadOnlyValueProperty<T> {
+    private final CopyOnWriteArrayList<ChangeListener<? super T>> listeners = new CopyOnWriteArrayList<>();
+
+    private volatile T value;
+
+
+    /**
+     * Constructs a {@code ValueProperty} with a {@code null} value.
+     */
+    public ValueProperty() {
+        this(null);
+    }
+
+
+    /**
+     * Constructs a {@code ValueProperty}.
+     *
+     * @param value - the initial value.
+     */
+    public ValueProperty(T value) {
+        this.value = value;
+    }
+
+
+    @Override
+    public T get() {
+        return value;
+    }
+
+
+    /**
+     * Sets the value, notifying the listeners if it changed.
+     *
+     * @param newValue - the new value.
+     */
+    public synchronized void set(T newValue) {
+        T oldValue = value;
+        value = newValue;
+        if (Objects.equals(oldValue, newValue)) {
+            return;
+        }
+        for (ChangeListener<? super T> listener : listeners) {
+            listener.changed(oldValue, newValue);
+        }
+    }
+
+
+    @Override
+    public void addListener(ChangeListener<? super T> listener) {
+        listeners.add(Objects.requireNonNull(listener));
+    }
+
+
+    @Override
+    public void removeListener(ChangeListener<? super T> listener) {
+        listeners.remove(listener);
+    }
+}
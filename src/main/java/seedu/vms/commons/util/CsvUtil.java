@@ -0,0 +1,129 @@
+package seedu.vms.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.vms.commons.exceptions.IllegalValueException;
+
+
+/**
+ * Helper functions for handling lines of comma separated values.
+ *
+ * <p>Fields may be enclosed in double quotes to contain commas, and double
+ * quotes within such fields are escaped by doubling them. Quoted fields
+ * cannot span multiple lines.
+ */
+public class CsvUtil {
+    public static final char SEPARATOR = ',';
+    public static final char QUOTE = '"';
+
+    public static final String MESSAGE_UNTERMINATED_QUOTE = "Unterminated quote in field %d";
+    public static final String MESSAGE_UNEXPECTED_QUOTE = "Unexpected quote in field %d";
+
+
+    /**
+     * Splits the given line into its fields in a single scan.
+     *
+     * @param line - the line to split.
+     * @return the fields of the line, unquoted.
+     * @throws IllegalValueException if the quotes of the line are malformed.
+     */
+    public static List<String> parseLine(String line) throws IllegalValueException {
+        requireNonNull(line);
+        ArrayList<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        int i = 0;
+        while (true) {
+            if (i < line.length() && line.charAt(i) == QUOTE) {
+                i = readQuoted(line, i + 1, field, fields.size() + 1);
+                if (i < line.length() && line.charAt(i) != SEPARATOR) {
+                    throw new IllegalValueException(String.format(MESSAGE_UNEXPECTED_QUOTE, fields.size() + 1));
+                }
+            } else {
+                int end = line.indexOf(SEPARATOR, i);
+                end = end < 0 ? line.length() : end;
+                int quote = line.indexOf(QUOTE, i);
+                if (quote >= 0 && quote < end) {
+                    throw new IllegalValueException(String.format(MESSAGE_UNEXPECTED_QUOTE, fields.size() + 1));
+                }
+                field.append(line, i, end);
+                i = end;
+            }
+            fields.add(field.toString());
+            field.setLength(0);
+            if (i >= line.length()) {
+                return fields;
+            }
+            i++; // skip separator
+        }
+    }
+
+
+    /**
+     * Joins the given fields into a line, quoting the fields that contain
+     * separators, quotes or line breaks. The line can be split back with
+     * {@link #parseLine(String)}.
+     *
+     * @param fields - the fields to join.
+     */
+    public static String formatLine(List<String> fields) {
+        requireNonNull(fields);
+        StringBuilder line = new StringBuilder();
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                line.append(SEPARATOR);
+            }
+            appendField(line, fields.get(i));
+        }
+        return line.toString();
+    }
+
+
+    private static void appendField(StringBuilder line, String field) {
+        boolean needsQuotes = false;
+        for (int i = 0; i < field.length() && !needsQuotes; i++) {
+            char c = field.charAt(i);
+            needsQuotes = c == SEPARATOR || c == QUOTE || c == '\n' || c == '\r';
+        }
+        if (!needsQuotes) {
+            line.append(field);
+            return;
+        }
+        line.append(QUOTE);
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (c == QUOTE) {
+                line.append(QUOTE);
+            }
+            line.append(c);
+        }
+        line.append(QUOTE);
+    }
+
+
+    /**
+     * Reads the quoted field starting right after its opening quote into the
+     * given builder.
+     *
+     * @return the index right after the closing quote.
+     */
+    private static int readQuoted(String line, int start, StringBuilder field, int fieldNumber)
+                throws IllegalValueException {
+        int i = start;
+        while (true) {
+            int quote = line.indexOf(QUOTE, i);
+            if (quote < 0) {
+                throw new IllegalValueException(String.format(MESSAGE_UNTERMINATED_QUOTE, fieldNumber));
+            }
+            field.append(line, i, quote);
+            if (quote + 1 < line.length() && line.charAt(quote + 1) == QUOTE) {
+                field.append(QUOTE);
+                i = quote + 2;
+            } else {
+                return quote + 1;
+            }
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package seedu.vms.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+
+
+/**
+ * Writes records to a file as they are given, so that exports take constant
+ * memory regardless of the number of records.
+ *
+ * <p>Records are lists of values in the order of the columns given when the
+ * writer is opened. Values may be strings, booleans, integers or collections
+ * of strings. Two formats are supported, chosen by the file extension:
+ * <ul>
+ * <li>{@code .csv} - a header line of the column names followed by a record
+ *      per line. Collections are joined by {@value #VALUE_SEPARATOR}.
+ * <li>{@code .ndjson} - a JSON object per line, keyed by the column names.
+ *      Collections are written as arrays.
+ * </ul>
+ */
+public abstract class RecordWriter implements Closeable {
+    public static final String CSV_EXTENSION = ".csv";
+    public static final String NDJSON_EXTENSION = ".ndjson";
+    public static final String VALUE_SEPARATOR = ";";
+
+    public static final String MESSAGE_UNSUPPORTED_FORMAT =
+            "Unsupported file format, expected a " + CSV_EXTENSION + " or " + NDJSON_EXTENSION + " file";
+
+    protected final List<String> columns;
+
+
+    private RecordWriter(List<String> columns) {
+        this.columns = List.copyOf(columns);
+    }
+
+
+    /**
+     * Opens a writer to the given file, whose format is chosen by its
+     * extension. Missing parent directories are created and an existing file
+     * is overwritten.
+     *
+     * @param path - the path of the file to write to.
+     * @param columns - the names of the columns of the records.
+     * @throws IOException if the file cannot be written to or is of an
+     *      unsupported format.
+     */
+    public static RecordWriter open(Path path, List<String> columns) throws IOException {
+        requireNonNull(path);
+        requireNonNull(columns);
+        String fileName = path.getFileName().toString().toLowerCase(Locale.ROOT);
+        if (!fileName.endsWith(CSV_EXTENSION) && !fileName.endsWith(NDJSON_EXTENSION)) {
+            throw new IOException(MESSAGE_UNSUPPORTED_FORMAT);
+        }
+
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8);
+        try {
+            if (fileName.endsWith(CSV_EXTENSION)) {
+                return new CsvWriter(writer, columns);
+            }
+            return new NdjsonWriter(writer, columns);
+        } catch (IOException | RuntimeException ex) {
+            writer.close();
+            throw ex;
+        }
+    }
+
+
+    /**
+     * Writes a record.
+     *
+     * @param values - the values of the record in the order of the columns.
+     * @throws IOException if the record cannot be written.
+     * @throws IllegalArgumentException if the number of values does not match
+     *      the number of columns.
+     */
+    public void write(List<?> values) throws IOException {
+        requireNonNull(values);
+        if (values.size() != columns.size()) {
+            throw new IllegalArgumentException(String.format("Expected %d values but found %d",
+                    columns.size(), values.size()));
+        }
+        writeRecord(values);
+    }
+
+
+    /** Writes a record whose number of values has been checked. */
+    protected abstract void writeRecord(List<?> values) throws IOException;
+
+
+
+
+
+    /** Writes records as lines of comma separated values. */
+    private static class CsvWriter extends RecordWriter {
+        private final BufferedWriter writer;
+
+
+        CsvWriter(BufferedWriter writer, List<String> columns) throws IOException {
+            super(columns);
+            this.writer = writer;
+            writeLine(columns);
+        }
+
+
+        @Override
+        protected void writeRecord(List<?> values) throws IOException {
+            ArrayList<String> fields = new ArrayList<>(values.size());
+            for (Object value : values) {
+                fields.add(toField(value));
+            }
+            writeLine(fields);
+        }
+
+
+        private static String toField(Object value) {
+            if (value == null) {
+                return "";
+            }
+            if (value instanceof Collection) {
+                StringBuilder builder = new StringBuilder();
+                for (Object element : (Collection<?>) value) {
+                    if (builder.length() > 0) {
+                        builder.append(VALUE_SEPARATOR);
+                    }
+                    builder.append(element);
+                }
+                return builder.toString();
+            }
+            return value.toString();
+        }
+
+
+        private void writeLine(List<String> fields) throws IOException {
+            writer.write(CsvUtil.formatLine(fields));
+            writer.newLine();
+        }
+
+
+        @Override
+        public void close() throws IOException {
+            writer.close();
+        }
+    }
+
+
+
+
+
+    /** Writes records as JSON objects, one per line. */
+    private static class NdjsonWriter extends RecordWriter {
+        private static final JsonFactory FACTORY = new JsonFactory();
+        private static final String LINE_SEPARATOR = "\n";
+
+        private final JsonGenerator generator;
+        private boolean hasRecords = false;
+
+
+        NdjsonWriter(BufferedWriter writer, List<String> columns) throws IOException {
+            super(columns);
+            generator = FACTORY.createGenerator(writer);
+            // root values are separated by line breaks instead of spaces
+            generator.setPrettyPrinter(new MinimalPrettyPrinter(LINE_SEPARATOR));
+        }
+
+
+        @Override
+        protected void writeRecord(List<?> values) throws IOException {
+            generator.writeStartObject();
+            for (int i = 0; i < values.size(); i++) {
+                generator.writeFieldName(columns.get(i));
+                writeValue(values.get(i));
+            }
+            generator.writeEndObject();
+            hasRecords = true;
+        }
+
+
+        private void writeValue(Object value) throws IOException {
+            if (value == null) {
+                generator.writeNull();
+            } else if (value instanceof Boolean) {
+                generator.writeBoolean((Boolean) value);
+            } else if (value instanceof Integer || value instanceof Long) {
+                generator.writeNumber(((Number) value).longValue());
+            } else if (value instanceof Collection) {
+                generator.writeStartArray();
+                for (Object element : (Collection<?>) value) {
+                    generator.writeString(element.toString());
+                }
+                generator.writeEndArray();
+            } else {
+                generator.writeString(value.toString());
+            }
+        }
+
+
+        @Override
+        public void close() throws IOException {
+            if (hasRecords) {
+                generator.writeRaw(LINE_SEPARATOR);
+            }
+            generator.close();
+        }
+    }
+}
@@ -33,6 +33,39 @@ public class StringUtil {
         return text.toUpperCase().matches(compilePattern(patterns));
     }
 
+    /**
+     * Checks if every text that matches {@code patterns} also matches
+     * {@code otherPatterns} in the sense of {@link #isMatching}. This is the
+     * case if each of the other patterns is contained in a distinct pattern
+     * of {@code patterns}, in the same order, ignoring case. Returns
+     * {@code false} if that cannot be shown this way.
+     *
+     * @param patterns - the patterns that may be narrower.
+     * @param otherPatterns - the patterns that may be wider.
+     * @return {@code true} if {@code patterns} narrow {@code otherPatterns}.
+     */
+    public static boolean isNarrowing(List<String> patterns, List<String> otherPatterns) {
+        if (patterns.isEmpty()) {
+            // nothing matches no patterns
+            return true;
+        }
+        if (otherPatterns.isEmpty()) {
+            return false;
+        }
+        int pos = 0;
+        for (String otherPattern : otherPatterns) {
+            String upperOtherPattern = otherPattern.toUpperCase();
+            while (pos < patterns.size() && !patterns.get(pos).toUpperCase().contains(upperOtherPattern)) {
+                pos++;
+            }
+            if (pos == patterns.size()) {
+                return false;
+            }
+            pos++;
+        }
+        return true;
+    }
+
     private static String compilePattern(Collection<String> patterns) {
         StringBuilder builder = new StringBuilder();
         for (String pattern : patterns) {
@@ -0,0 +1,79 @@
+package seedu.vms.logic;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Executes processes one at a time in the order they are submitted, on a
+ * single long-lived thread.
+ *
+ * <p>The thread is a virtual thread when the runtime supports them and a
+ * daemon platform thread otherwise.
+ */
+public class CommandExecutor {
+    private static final String THREAD_NAME = "command-executor";
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(createThreadFactory());
+
+
+    /**
+     * Submits the given process for execution after all previously submitted
+     * processes.
+     *
+     * @param process - the process to execute.
+     * @throws java.util.concurrent.RejectedExecutionException if this
+     *      executor has been shut down.
+     */
+    public void execute(Runnable process) {
+        executor.execute(process);
+    }
+
+
+    /**
+     * Stops accepting processes and waits for the submitted processes to
+     * complete, interrupting them if they do not complete within the given
+     * timeout.
+     *
+     * @param timeoutMillis - the time to wait in milliseconds.
+     * @return {@code true} if all processes completed within the timeout and
+     *      {@code false} otherwise.
+     */
+    public boolean shutdown(long timeoutMillis) {
+        executor.shutdown();
+        try {
+            if (executor.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+        } catch (InterruptedException intEx) {
+            Thread.currentThread().interrupt();
+        }
+        executor.shutdownNow();
+        return false;
+    }
+
+
+    /** Returns if this executor has been shut down. */
+    public boolean isShutdown() {
+        return executor.isShutdown();
+    }
+
+
+    private static ThreadFactory createThreadFactory() {
+        try {
+            // Thread.ofVirtual is only available from Java 21
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderClass.getMethod("name", String.class).invoke(builder, THREAD_NAME);
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException | ClassCastException unsupportedEx) {
+            return runnable -> {
+                Thread thread = new Thread(runnable, THREAD_NAME);
+                thread.setDaemon(true);
+                return thread;
+            };
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package seedu.vms.logic;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * Records the queue depth and latencies of command executions. All methods
+ * are safe to call from any thread.
+ */
+public class CommandMetrics {
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final AtomicInteger maxQueueDepth = new AtomicInteger();
+    private final LongAdder completedCount = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final LongAdder totalRunNanos = new LongAdder();
+    private final AtomicLong maxRunNanos = new AtomicLong();
+
+
+    /** Records that a command has been queued. */
+    public void recordQueued() {
+        maxQueueDepth.accumulateAndGet(queueDepth.incrementAndGet(), Math::max);
+    }
+
+
+    /**
+     * Records that a command has left the queue to be executed.
+     *
+     * @param waitNanos - the time the command spent in the queue.
+     */
+    public void recordStarted(long waitNanos) {
+        queueDepth.decrementAndGet();
+        totalWaitNanos.add(waitNanos);
+    }
+
+
+    /**
+     * Records that a command, including its follow up commands, has completed.
+     *
+     * @param runNanos - the time taken to execute the command.
+     */
+    public void recordCompleted(long runNanos) {
+        completedCount.increment();
+        totalRunNanos.add(runNanos);
+        maxRunNanos.accumulateAndGet(runNanos, Math::max);
+    }
+
+
+    /** Returns the number of commands waiting in the queue. */
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+
+    /** Returns the largest number of commands that had waited in the queue. */
+    public int getMaxQueueDepth() {
+        return maxQueueDepth.get();
+    }
+
+
+    public long getCompletedCount() {
+        return completedCount.sum();
+    }
+
+
+    /** Returns the average time in milliseconds that commands waited in the queue. */
+    public double getAverageWaitMillis() {
+        return toAverageMillis(totalWaitNanos.sum(), getCompletedCount());
+    }
+
+
+    /** Returns the average time in milliseconds that commands took to execute. */
+    public double getAverageRunMillis() {
+        return toAverageMillis(totalRunNanos.sum(), getCompletedCount());
+    }
+
+
+    /** Returns the longest time in milliseconds that a command took to execute. */
+    public double getMaxRunMillis() {
+        return (double) maxRunNanos.get() / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+
+    private static double toAverageMillis(long totalNanos, long count) {
+        if (count == 0) {
+            return 0;
+        }
+        return (double) totalNanos / count / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+
+    @Override
+    public String toString() {
+        return String.format(
+                "completed: %d, queued: %d (max %d), avg wait: %.2f ms, avg run: %.2f ms, max run: %.2f ms",
+                getCompletedCount(), getQueueDepth(), getMaxQueueDepth(),
+                getAverageWaitMillis(), getAverageRunMillis(), getMaxRunMillis());
+    }
+}
@@ -4,10 +4,10 @@ import java.util.List;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
-import javafx.beans.property.ObjectProperty;
-import javafx.collections.ObservableList;
 import javafx.collections.ObservableMap;
+import seedu.vms.commons.core.CommandStats;
 import seedu.vms.commons.core.GuiSettings;
+import seedu.vms.commons.core.ReadOnlyValueProperty;
 import seedu.vms.model.IdData;
 import seedu.vms.model.appointment.Appointment;
 import seedu.vms.model.patient.Patient;
@@ -16,6 +16,12 @@ import seedu.vms.model.vaccination.VaxType;
 
 /**
  * API of the Logic component
+ *
+ * <p>Commands are executed, and the given actions, handlers and the listeners
+ * of the returned observables are called, on the threads of the logic. None
+ * of them is ever called on or handed over to the JavaFX application thread,
+ * which need not be running, so a UI must hand over what it displays to its
+ * own thread itself.
  */
 public interface Logic {
     /**
@@ -46,6 +52,39 @@ public interface Logic {
     void loadManagers(BiConsumer<String, String> beyondDeathErrHandler);
 
 
+    /**
+     * Blocks until all queued commands, including their follow up commands,
+     * have completed their execution or until an exit command has been
+     * executed. Commands are not executed before the managers are loaded.
+     *
+     * @throws InterruptedException if the thread is interrupted while
+     *      waiting.
+     */
+    void awaitIdle() throws InterruptedException;
+
+
+    /**
+     * Returns the property of the fraction of managers that have been loaded,
+     * from 0 to 1. It may be updated from any thread.
+     */
+    ReadOnlyValueProperty<Double> loadProgressProperty();
+
+
+    /** Returns the queue depth and latency metrics of command executions. */
+    CommandMetrics getCommandMetrics();
+
+
+    /** Returns the latencies of the phases of command executions per type of command. */
+    CommandStats getCommandStats();
+
+
+    /**
+     * Stops executing commands, waiting a bounded time for the executing
+     * command to complete. Commands queued afterwards are not executed.
+     */
+    void shutdown();
+
+
     /**
      * Returns the PatientManager.
      *
@@ -74,26 +113,24 @@ public interface Logic {
 
 
     /**
-     * Returns the {@code ObjectProperty} of the patient to be detailed.
+     * Returns the property of the patient to be detailed.
      */
-    ObjectProperty<IdData<Patient>> detailedPatientProperty();
+    ReadOnlyValueProperty<IdData<Patient>> detailedPatientProperty();
 
 
     /**
-     * Returns the {@code ObjectProperty} of the vaccination to be detailed.
+     * Returns the names of the vaccinations the given patient can take, in
+     * sorted order.
+     *
+     * @param patientId - the ID of the patient.
      */
-    ObjectProperty<VaxType> detailedVaxTypeProperty();
+    List<String> getEligibleVaccinations(int patientId);
 
 
     /**
-     * Binds the given {@code ObservableList} to the {@code Model} within this
-     * {@code Logic}. The list is used to refer to {@code VaxType} by index if
-     * needed.
-     *
-     * @param displayList - the {@code ObservableList} to bind to
-     *      {@code Model}.
+     * Returns the property of the vaccination to be detailed.
      */
-    void bindVaccinationDisplayList(ObservableList<VaxType> displayList);
+    ReadOnlyValueProperty<VaxType> detailedVaxTypeProperty();
 
 
     /**
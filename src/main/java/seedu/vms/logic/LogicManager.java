@@ -2,19 +2,28 @@ package seedu.vms.logic;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.logging.Logger;
 
-import javafx.beans.property.ObjectProperty;
-import javafx.collections.ObservableList;
 import javafx.collections.ObservableMap;
+import seedu.vms.commons.core.CommandStats;
+import seedu.vms.commons.core.CommandStats.Phase;
 import seedu.vms.commons.core.GuiSettings;
 import seedu.vms.commons.core.LogsCenter;
+import seedu.vms.commons.core.ReadOnlyValueProperty;
+import seedu.vms.commons.core.ValueProperty;
 import seedu.vms.commons.util.StringUtil;
 import seedu.vms.logic.commands.Command;
 import seedu.vms.logic.commands.exceptions.CommandException;
@@ -45,6 +54,13 @@ public class LogicManager implements Logic {
     private static final String LOAD_EMPTY_FORMAT = "Empty data for %s will be loaded";
     private static final String LOAD_ERROR_FORMAT = "Unable to load %s: %s";
     private static final String LOAD_DEATH_FORMAT = "Died loading %s: %s";
+    private static final int LOAD_STEP_COUNT = 4;
+    private static final int LOAD_BATCH_SIZE = 1000;
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 5000;
+    private static final long STATS_LOG_INTERVAL_MINUTES = 10;
+    private static final long ELIGIBILITY_REFRESH_INTERVAL_MINUTES = TimeUnit.DAYS.toMinutes(1);
+    private static final String INVALID_COMMAND_TYPE = "invalid";
+    private static final String COMMANDS_PACKAGE = Command.class.getPackageName() + ".";
 
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
@@ -53,8 +69,20 @@ public class LogicManager implements Logic {
 
     private Consumer<List<CommandMessage>> completionHandler = results -> {};
 
-    private final LinkedBlockingDeque<String> cmdQueue = new LinkedBlockingDeque<>();
+    private final LinkedBlockingDeque<QueuedCommand> cmdQueue = new LinkedBlockingDeque<>();
     private volatile boolean isExecuting = true;
+    private long executionStartTime;
+    private boolean isClosed = false;
+
+    private final CommandExecutor executor = new CommandExecutor();
+    private final CommandMetrics metrics = new CommandMetrics();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "logic-scheduler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final ValueProperty<Double> loadProgress = new ValueProperty<>(0D);
 
     private Runnable closeAction = () -> {};
     private Runnable showHelpAction = () -> {};
@@ -65,23 +93,35 @@ public class LogicManager implements Logic {
     public LogicManager(Model model, Storage storage) {
         this.model = model;
         this.storage = storage;
+        scheduler.scheduleAtFixedRate(this::logStats,
+                STATS_LOG_INTERVAL_MINUTES, STATS_LOG_INTERVAL_MINUTES, TimeUnit.MINUTES);
+        // refreshed just after every midnight so that ages roll over with the year
+        LocalDateTime now = LocalDateTime.now();
+        long minutesToMidnight = Duration.between(now, now.toLocalDate().plusDays(1).atStartOfDay()).toMinutes() + 1;
+        scheduler.scheduleAtFixedRate(this::refreshEligibility,
+                minutesToMidnight, ELIGIBILITY_REFRESH_INTERVAL_MINUTES, TimeUnit.MINUTES);
     }
 
 
     @Override
     public void queue(String commandText) {
-        cmdQueue.add(commandText);
+        cmdQueue.add(new QueuedCommand(commandText));
+        metrics.recordQueued();
         startNext();
     }
 
     private synchronized void startNext() {
-        if (isExecuting || cmdQueue.isEmpty()) {
+        // wakes threads awaiting idle whenever a command completes
+        notifyAll();
+        if (isExecuting || cmdQueue.isEmpty() || executor.isShutdown()) {
             return;
         }
         isExecuting = true;
-        String commandText = cmdQueue.poll();
-        new Thread(() -> attemptProcess(
-                () -> processCommand(commandText))).start();
+        QueuedCommand command = cmdQueue.poll();
+        executionStartTime = System.nanoTime();
+        metrics.recordStarted(executionStartTime - command.queueTime);
+        executor.execute(() -> attemptProcess(
+                () -> processCommand(command.text)));
     }
 
 
@@ -105,12 +145,65 @@ public class LogicManager implements Logic {
 
     private void processCommand(String commandText) {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
+        ParseResult parseResult;
         try {
-            execute(model.parseCommand(commandText));
+            parseResult = parseCommand(commandText);
         } catch (ParseException parseEx) {
             completeExecution(List.of(new CommandMessage(
                     parseEx.getMessage(),
                     CommandMessage.State.ERROR)));
+            return;
+        }
+
+        execute(parseResult);
+    }
+
+
+    private ParseResult parseCommand(String commandText) throws ParseException {
+        Lock lock = model.getLock();
+        lock.lock();
+        long startTime = System.nanoTime();
+        String type = INVALID_COMMAND_TYPE;
+        try {
+            ParseResult parseResult = model.parseCommand(commandText);
+            type = typeOf(parseResult.getCommand());
+            return parseResult;
+        } finally {
+            lock.unlock();
+            model.getCommandStats().record(type, Phase.PARSE, System.nanoTime() - startTime);
+        }
+    }
+
+
+    /**
+     * Returns the type of the given command that its stats are recorded
+     * under, which is its class name relative to the commands package.
+     */
+    private static String typeOf(Command command) {
+        String className = command.getClass().getName();
+        if (className.startsWith(COMMANDS_PACKAGE)) {
+            return className.substring(COMMANDS_PACKAGE.length());
+        }
+        return command.getClass().getSimpleName();
+    }
+
+
+    /**
+     * Executes the given command, recording the time it took and the number
+     * of records its filters scanned.
+     */
+    private CommandMessage executeTimed(Command command) throws CommandException {
+        CommandStats stats = model.getCommandStats();
+        String type = typeOf(command);
+        long scannedCount = stats.getScannedCount();
+        long startTime = System.nanoTime();
+        try {
+            return command.execute(model);
+        } finally {
+            stats.record(type, Phase.EXECUTE, System.nanoTime() - startTime);
+            // commands run one at a time, so this only counts the records
+            // scanned for this command
+            stats.recordScanned(type, stats.getScannedCount() - scannedCount);
         }
     }
 
@@ -120,17 +213,23 @@ public class LogicManager implements Logic {
         parseResult.getMessage().ifPresent(results::add);
         Command command = parseResult.getCommand();
 
+        Optional<Command> followUp = Optional.empty();
+        Lock lock = model.getLock();
+        lock.lock();
         try {
-            results.add(command.execute(model));
+            results.add(executeTimed(command));
+            // changes of a transaction are saved once it is committed
+            if (!command.isViewOnly() && !model.isInTransaction()) {
+                results.addAll(saveModel(typeOf(command)));
+            }
+            followUp = command.getFollowUp();
         } catch (CommandException ex) {
             results.add(new CommandMessage(ex.getMessage(), CommandMessage.State.ERROR));
-            completeExecution(results);
-            return;
+        } finally {
+            lock.unlock();
         }
 
-        results.addAll(saveModel());
-
-        completeExecution(results, command.getFollowUp());
+        completeExecution(results, followUp);
     }
 
 
@@ -139,33 +238,33 @@ public class LogicManager implements Logic {
     }
 
 
-    private List<CommandMessage> saveModel() {
+    private List<CommandMessage> saveModel(String type) {
         ArrayList<CommandMessage> results = new ArrayList<>();
-        try {
-            storage.savePatientManager(model.getPatientManager());
-        } catch (IOException ioe) {
-            results.add(new CommandMessage(FILE_OPS_ERROR_MESSAGE + ioe, CommandMessage.State.WARNING));
-        }
-
-        try {
-            storage.saveVaxTypes(model.getVaxTypeManager());
-        } catch (IOException ioe) {
-            results.add(new CommandMessage(FILE_OPS_ERROR_MESSAGE + ioe, CommandMessage.State.WARNING));
-        }
+        save(type, Phase.SAVE_PATIENTS,
+                () -> storage.savePatientManager(model.getPatientManager()), results);
+        save(type, Phase.SAVE_VACCINATIONS,
+                () -> storage.saveVaxTypes(model.getVaxTypeManager()), results);
+        save(type, Phase.SAVE_APPOINTMENTS,
+                () -> storage.saveAppointments(model.getAppointmentManager()), results);
+        save(type, Phase.SAVE_KEYWORDS,
+                () -> storage.saveKeywords(model.getKeywordManager()), results);
+        return results;
+    }
 
-        try {
-            storage.saveAppointments(model.getAppointmentManager());
-        } catch (IOException ioe) {
-            results.add(new CommandMessage(FILE_OPS_ERROR_MESSAGE + ioe, CommandMessage.State.WARNING));
-        }
 
+    /**
+     * Performs the given save, recording the time it took. A warning is
+     * added to the given results if the save fails.
+     */
+    private void save(String type, Phase phase, SaveAction saveAction, List<CommandMessage> results) {
+        long startTime = System.nanoTime();
         try {
-            storage.saveKeywords(model.getKeywordManager());
+            saveAction.save();
         } catch (IOException ioe) {
             results.add(new CommandMessage(FILE_OPS_ERROR_MESSAGE + ioe, CommandMessage.State.WARNING));
+        } finally {
+            model.getCommandStats().record(type, phase, System.nanoTime() - startTime);
         }
-
-        return results;
     }
 
 
@@ -180,10 +279,11 @@ public class LogicManager implements Logic {
             return;
         }
         if (followUp.isPresent()) {
-            new Thread(() -> attemptProcess(
-                    () -> execute(followUp.get()))).start();
+            executor.execute(() -> attemptProcess(
+                    () -> execute(followUp.get())));
             return;
         }
+        metrics.recordCompleted(System.nanoTime() - executionStartTime);
         isExecuting = false;
         startNext();
     }
@@ -199,6 +299,8 @@ public class LogicManager implements Logic {
     private boolean performActions(List<CommandMessage> messages) {
         for (CommandMessage message : messages) {
             if (message.isExit()) {
+                isClosed = true;
+                notifyAll();
                 closeAction.run();
                 return true;
             }
@@ -212,6 +314,7 @@ public class LogicManager implements Logic {
 
     @Override
     public void loadManagers(BiConsumer<String, String> beyondDeathErrHandler) {
+        long startTime = System.nanoTime();
         if (Path.of("data").toFile().isFile()) {
             beyondDeathErrHandler.accept(
                     "[data] already exists and is not a directory",
@@ -221,21 +324,30 @@ public class LogicManager implements Logic {
 
         // @@author francisyzy
         // load patients
-        ReadOnlyPatientManager patientManager = new PatientManager();
+        ArrayList<IdData<Patient>> patientBatch = new ArrayList<>();
         try {
-            patientManager = storage.readPatientManager();
+            // patients are shown in batches as they are decoded
+            storage.readPatientManager(patientData -> {
+                patientBatch.add(patientData);
+                if (patientBatch.size() >= LOAD_BATCH_SIZE) {
+                    loadPatients(patientBatch);
+                }
+            });
+            loadPatients(patientBatch);
             sendLoadInfo(String.format(LOAD_SUCCESS_FORMAT, "patients"));
         } catch (IOException ioEx) {
             sendLoadWarning(String.format(LOAD_ERROR_FORMAT,
                     "patients", ioEx.getMessage()));
-            patientManager = SampleDataUtil.getSamplePatientManager();
+            ReadOnlyPatientManager samplePatientManager = SampleDataUtil.getSamplePatientManager();
+            runWithLock(() -> model.setPatientManager(samplePatientManager));
             sendLoadInfo(String.format(LOAD_DEFAULT_FORMAT, "patients"));
         } catch (Throwable deathEx) {
             sendLoadDeath(String.format(LOAD_DEATH_FORMAT,
                     "patients", deathEx.toString()));
+            runWithLock(() -> model.setPatientManager(new PatientManager()));
             sendLoadInfo(String.format(LOAD_EMPTY_FORMAT, "patients"));
         }
-        model.setPatientManager(patientManager);
+        loadProgress.set(1D / LOAD_STEP_COUNT);
 
         // @@author daitenshionyan
         // load vaccinations
@@ -253,7 +365,9 @@ public class LogicManager implements Logic {
                     "vaccinations", deathEx.toString()));
             sendLoadInfo(String.format(LOAD_EMPTY_FORMAT, "vaccinations"));
         }
-        model.setVaxTypeManager(vaxTypeManager);
+        VaxTypeManager loadedVaxTypeManager = vaxTypeManager;
+        runWithLock(() -> model.setVaxTypeManager(loadedVaxTypeManager));
+        loadProgress.set(2D / LOAD_STEP_COUNT);
 
         // @@author nusE0726844
         // load appointments
@@ -270,8 +384,12 @@ public class LogicManager implements Logic {
                     "appointments", deathEx.toString()));
             sendLoadInfo(String.format(LOAD_EMPTY_FORMAT, "appointments"));
         }
-        validateAppointments(appointmentManager, patientManager, vaxTypeManager);
-        model.setAppointmentManager(appointmentManager);
+        AppointmentManager loadedAppointmentManager = appointmentManager;
+        runWithLock(() -> {
+            validateAppointments(loadedAppointmentManager, model.getPatientManager(), loadedVaxTypeManager);
+            model.setAppointmentManager(loadedAppointmentManager);
+        });
+        loadProgress.set(3D / LOAD_STEP_COUNT);
 
         // @@author slackernoob
         // load keywords
@@ -289,10 +407,102 @@ public class LogicManager implements Logic {
                     "keywords", deathEx.toString()));
             sendLoadInfo(String.format(LOAD_EMPTY_FORMAT, "keywords"));
         }
-        model.setKeywordManager(keywordManager);
+        KeywordManager loadedKeywordManager = keywordManager;
+        runWithLock(() -> model.setKeywordManager(loadedKeywordManager));
+        loadProgress.set(1D);
 
         // @@author
+        logger.info(String.format("Data loaded in %d ms", (System.nanoTime() - startTime) / 1_000_000));
+        releaseExecution();
+    }
+
+
+    /**
+     * Adds the given batch of decoded patients to the model under its lock,
+     * so that they are never read while only partly added, and then
+     * empties the batch.
+     */
+    private void loadPatients(List<IdData<Patient>> patientBatch) {
+        if (patientBatch.isEmpty()) {
+            return;
+        }
+        List<IdData<Patient>> batch = List.copyOf(patientBatch);
+        patientBatch.clear();
+        runWithLock(() -> model.loadPatients(batch));
+    }
+
+
+    private void runWithLock(Runnable action) {
+        Lock lock = model.getLock();
+        lock.lock();
+        try {
+            action.run();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+
+    /** Allows the next queued command to start executing. */
+    private synchronized void releaseExecution() {
         isExecuting = false;
+        startNext();
+    }
+
+
+    @Override
+    public synchronized void awaitIdle() throws InterruptedException {
+        while (!isClosed && (isExecuting || !cmdQueue.isEmpty())) {
+            wait();
+        }
+    }
+
+
+    @Override
+    public ReadOnlyValueProperty<Double> loadProgressProperty() {
+        return loadProgress;
+    }
+
+
+    @Override
+    public CommandMetrics getCommandMetrics() {
+        return metrics;
+    }
+
+
+    @Override
+    public CommandStats getCommandStats() {
+        return model.getCommandStats();
+    }
+
+
+    private void logStats() {
+        logger.info(model.getCommandStats().toString());
+    }
+
+
+    private void refreshEligibility() {
+        Lock lock = model.getLock();
+        lock.lock();
+        try {
+            model.refreshEligibility(LocalDate.now().getYear());
+        } catch (RuntimeException ex) {
+            // an uncaught exception would cancel all later refreshes
+            logger.warning("Failed to refresh eligibility: " + StringUtil.getDetails(ex));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+
+    @Override
+    public void shutdown() {
+        scheduler.shutdownNow();
+        if (!executor.shutdown(SHUTDOWN_TIMEOUT_MILLIS)) {
+            logger.warning("Command executor did not stop in time, executing commands were interrupted");
+        }
+        logger.info("Command metrics: " + metrics);
+        logStats();
     }
 
 
@@ -366,20 +576,20 @@ public class LogicManager implements Logic {
 
 
     @Override
-    public ObjectProperty<IdData<Patient>> detailedPatientProperty() {
+    public ReadOnlyValueProperty<IdData<Patient>> detailedPatientProperty() {
         return model.detailedPatientProperty();
     }
 
 
     @Override
-    public ObjectProperty<VaxType> detailedVaxTypeProperty() {
-        return model.detailedVaccinationProperty();
+    public List<String> getEligibleVaccinations(int patientId) {
+        return model.getEligibleVaccinations(patientId);
     }
 
 
     @Override
-    public void bindVaccinationDisplayList(ObservableList<VaxType> displayList) {
-        model.bindVaccinationDisplayList(displayList);
+    public ReadOnlyValueProperty<VaxType> detailedVaxTypeProperty() {
+        return model.detailedVaccinationProperty();
     }
 
 
@@ -393,4 +603,28 @@ public class LogicManager implements Logic {
     public void setShowHelpAction(Runnable showHelpAction) {
         this.showHelpAction = showHelpAction;
     }
+
+
+
+
+
+    /** A command text with the time it was queued. */
+    private static class QueuedCommand {
+        private final String text;
+        private final long queueTime = System.nanoTime();
+
+
+        QueuedCommand(String text) {
+            this.text = text;
+        }
+    }
+
+
+
+
+
+    /** A save of the data of the model to storage. */
+    private interface SaveAction {
+        void save() throws IOException;
+    }
 }
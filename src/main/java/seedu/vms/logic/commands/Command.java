@@ -34,4 +34,17 @@ public abstract class Command {
         return Optional.empty();
     }
 
+
+    /**
+     * Returns if this command changes or reads only what is displayed, such
+     * as the filters of the displayed lists, and never changes the data of the
+     * model. The model is not saved after view-only commands are executed.
+     *
+     * @return {@code true} if this command is view-only and {@code false}
+     *      otherwise.
+     */
+    public boolean isViewOnly() {
+        return false;
+    }
+
 }
@@ -8,13 +8,8 @@ import static seedu.vms.logic.parser.CliSyntax.PREFIX_STARTTIME;
 import static seedu.vms.logic.parser.CliSyntax.PREFIX_VACCINATION;
 
 import java.time.LocalDateTime;
-import java.util.HashSet;
-import java.util.List;
 import java.util.Map;
-import java.util.Objects;
-import java.util.stream.Collectors;
 
-import javafx.collections.ObservableMap;
 import seedu.vms.commons.core.Messages;
 import seedu.vms.commons.core.Retriever;
 import seedu.vms.commons.core.index.Index;
@@ -24,12 +19,10 @@ import seedu.vms.logic.CommandMessage;
 import seedu.vms.logic.commands.Command;
 import seedu.vms.logic.commands.exceptions.CommandException;
 import seedu.vms.model.Age;
-import seedu.vms.model.GroupName;
 import seedu.vms.model.IdData;
 import seedu.vms.model.Model;
 import seedu.vms.model.appointment.Appointment;
 import seedu.vms.model.patient.Patient;
-import seedu.vms.model.vaccination.VaxChecker;
 import seedu.vms.model.vaccination.VaxType;
 
 /**
@@ -108,24 +101,13 @@ public class AddCommand extends Command {
         }
 
 
-        ObservableMap<String, VaxType> vaccinationList = model.getVaxTypeManager().asUnmodifiableObservableMap();
-        List<VaxType> patientHistory = patient.getVaccine()
-                .stream()
-                .map(vaxName -> vaccinationList.get(vaxName.getName()))
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
-
-        Age patientAge;
-        try {
-            patientAge = new Age(LocalDateTime.now().getYear() - patient.getDob().value.getYear());
-        } catch (IllegalArgumentException illArgEx) {
+        if (!Age.isValid(LocalDateTime.now().getYear() - patient.getDob().value.getYear())) {
             // if for some reason the user decide to turn back time on their system
             throw new CommandException("Patient contains an invalid DOB");
         }
 
-        HashSet<GroupName> allergies = new HashSet<>(patient.getAllergy());
-
-        boolean isTakable = VaxChecker.check(toTake, patientAge, allergies, patientHistory);
+        // the result is cached until the patient or the vaccinations involved change
+        boolean isTakable = model.canTakeVaccination(patientId.getZeroBased(), toTake);
 
         if (!isTakable) {
             throw new CommandException("Patient cannot take the vaccination");
@@ -0,0 +1,56 @@
+package seedu.vms.logic.commands.appointment;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.vms.logic.CommandMessage;
+import seedu.vms.logic.commands.Command;
+import seedu.vms.model.Model;
+import seedu.vms.model.appointment.Appointment;
+
+
+/**
+ * Deletes all appointments that satisfy the filters of an
+ * {@code appointment find} as a single batch.
+ */
+public class BulkDeleteCommand extends Command {
+    public static final String MESSAGE_USAGE = DeleteCommand.COMMAND_GROUP + " " + DeleteCommand.COMMAND_WORD
+            + ": Deletes all appointments that match the given " + DeleteCommand.COMMAND_GROUP + " "
+            + FindCommand.COMMAND_WORD + " flags.\n"
+            + "Syntax: " + DeleteCommand.COMMAND_GROUP + " " + DeleteCommand.COMMAND_WORD
+            + " --ATTRIBUTE_FLAG FLAG_ARGUMENT...\n"
+            + "Example: " + DeleteCommand.COMMAND_GROUP + " " + DeleteCommand.COMMAND_WORD + " --v Dose 1";
+
+    public static final String MESSAGE_SUCCESS = "Deleted %d appointments";
+
+    private final List<Predicate<Appointment>> filters;
+
+
+    /**
+     * Constructs a {@code BulkDeleteCommand}.
+     *
+     * @param filters - the filters the appointments to delete satisfy.
+     */
+    public BulkDeleteCommand(List<Predicate<Appointment>> filters) {
+        this.filters = List.copyOf(filters);
+    }
+
+
+    @Override
+    public CommandMessage execute(Model model) {
+        requireNonNull(model);
+        List<Integer> ids = model.findAppointmentIds(filters);
+        model.deleteAppointments(ids);
+        return new CommandMessage(String.format(MESSAGE_SUCCESS, ids.size()));
+    }
+
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this
+                || (other instanceof BulkDeleteCommand
+                        && filters.equals(((BulkDeleteCommand) other).filters));
+    }
+}
@@ -0,0 +1,56 @@
+package seedu.vms.logic.commands.appointment;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.vms.logic.CommandMessage;
+import seedu.vms.logic.commands.Command;
+import seedu.vms.model.Model;
+import seedu.vms.model.appointment.Appointment;
+
+
+/**
+ * Marks all appointments that satisfy the filters of an
+ * {@code appointment find} as completed in a single batch.
+ */
+public class BulkMarkCommand extends Command {
+    public static final String MESSAGE_USAGE = MarkCommand.COMMAND_GROUP + " " + MarkCommand.COMMAND_WORD
+            + ": Marks all appointments that match the given " + MarkCommand.COMMAND_GROUP + " "
+            + FindCommand.COMMAND_WORD + " flags as completed.\n"
+            + "Syntax: " + MarkCommand.COMMAND_GROUP + " " + MarkCommand.COMMAND_WORD
+            + " --ATTRIBUTE_FLAG FLAG_ARGUMENT...\n"
+            + "Example: " + MarkCommand.COMMAND_GROUP + " " + MarkCommand.COMMAND_WORD + " --v Dose 1";
+
+    public static final String MESSAGE_SUCCESS = "Marked %d appointments";
+
+    private final List<Predicate<Appointment>> filters;
+
+
+    /**
+     * Constructs a {@code BulkMarkCommand}.
+     *
+     * @param filters - the filters the appointments to mark satisfy.
+     */
+    public BulkMarkCommand(List<Predicate<Appointment>> filters) {
+        this.filters = List.copyOf(filters);
+    }
+
+
+    @Override
+    public CommandMessage execute(Model model) {
+        requireNonNull(model);
+        List<Integer> ids = model.findAppointmentIds(filters);
+        model.markAppointments(ids);
+        return new CommandMessage(String.format(MESSAGE_SUCCESS, ids.size()));
+    }
+
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this
+                || (other instanceof BulkMarkCommand
+                        && filters.equals(((BulkMarkCommand) other).filters));
+    }
+}
@@ -8,12 +8,8 @@ import static seedu.vms.logic.parser.CliSyntax.PREFIX_VACCINATION;
 import static seedu.vms.model.Model.PREDICATE_SHOW_ALL_APPOINTMENTS;
 
 import java.time.LocalDateTime;
-import java.util.HashSet;
-import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 import javafx.collections.ObservableMap;
 import seedu.vms.commons.core.Messages;
@@ -30,7 +26,6 @@ import seedu.vms.model.IdData;
 import seedu.vms.model.Model;
 import seedu.vms.model.appointment.Appointment;
 import seedu.vms.model.patient.Patient;
-import seedu.vms.model.vaccination.VaxChecker;
 import seedu.vms.model.vaccination.VaxType;
 
 /**
@@ -125,23 +120,13 @@ public class EditCommand extends Command {
         Patient patient = patientList.get(editedAppointment.getPatient().getZeroBased()).getValue();
         VaxType toTake = vaccinationList.get(editedAppointment.getVaccination().getName());
 
-        List<VaxType> patientHistory = patient.getVaccine()
-                .stream()
-                .map(vaxName -> vaccinationList.get(vaxName.getName()))
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
-
-        Age patientAge;
-        try {
-            patientAge = new Age(LocalDateTime.now().getYear() - patient.getDob().value.getYear());
-        } catch (IllegalArgumentException illArgEx) {
+        if (!Age.isValid(LocalDateTime.now().getYear() - patient.getDob().value.getYear())) {
             // if for some reason the user decide to turn back time on their system
             throw new CommandException("Patient contains an invalid DOB");
         }
 
-        HashSet<GroupName> allergies = new HashSet<>(patient.getAllergy());
-
-        boolean isTakable = VaxChecker.check(toTake, patientAge, allergies, patientHistory);
+        // the result is cached until the patient or the vaccinations involved change
+        boolean isTakable = model.canTakeVaccination(editedAppointment.getPatient().getZeroBased(), toTake);
 
         if (!isTakable) {
             throw new CommandException("Patient cannot take the vaccination");
@@ -0,0 +1,105 @@
+package seedu.vms.logic.commands.appointment;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.vms.logic.parser.CliSyntax.DELIMITER;
+import static seedu.vms.logic.parser.CliSyntax.PREFIX_ALL;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.vms.commons.util.RecordWriter;
+import seedu.vms.logic.CommandMessage;
+import seedu.vms.logic.commands.Command;
+import seedu.vms.logic.commands.exceptions.CommandException;
+import seedu.vms.model.IdData;
+import seedu.vms.model.Model;
+import seedu.vms.model.appointment.Appointment;
+
+
+/**
+ * Exports the appointments of the appointment list to a CSV or NDJSON file.
+ *
+ * <p>Like {@link seedu.vms.logic.commands.patient.ExportCommand}, the
+ * appointments are streamed through a snapshot of the filters of the
+ * appointment list, and the export holds the model lock while it writes.
+ */
+public class ExportCommand extends Command {
+    public static final String COMMAND_WORD = "export";
+
+    public static final String MESSAGE_USAGE = AddCommand.COMMAND_GROUP + " " + COMMAND_WORD
+            + ": Exports the appointments of the appointment list to a " + RecordWriter.CSV_EXTENSION + " or "
+            + RecordWriter.NDJSON_EXTENSION + " file. All appointments are exported instead if "
+            + DELIMITER + PREFIX_ALL + " is true.\n"
+            + "Syntax: " + AddCommand.COMMAND_GROUP + " " + COMMAND_WORD + " FILE ["
+            + DELIMITER + PREFIX_ALL + " true]\n"
+            + "Example: " + AddCommand.COMMAND_GROUP + " " + COMMAND_WORD + " reports/appointments.ndjson";
+
+    public static final String MESSAGE_SUCCESS = "Exported %d appointments to %s";
+    public static final String MESSAGE_WRITE_ERROR = "Unable to write %s: %s";
+
+    public static final List<String> COLUMNS =
+            List.of("id", "patientId", "vaccination", "startTime", "endTime", "isCompleted");
+
+    private final Path filePath;
+    private final boolean isAll;
+
+
+    /**
+     * Constructs an {@code ExportCommand}.
+     *
+     * @param filePath - the path of the file to export to.
+     * @param isAll - if all appointments should be exported regardless of
+     *      the filters of the appointment list.
+     */
+    public ExportCommand(Path filePath, boolean isAll) {
+        this.filePath = requireNonNull(filePath);
+        this.isAll = isAll;
+    }
+
+
+    @Override
+    public CommandMessage execute(Model model) throws CommandException {
+        requireNonNull(model);
+        Predicate<IdData<Appointment>> filter = isAll ? data -> true : model.getAppointmentFiltersSnapshot();
+        int count = 0;
+        try (RecordWriter writer = RecordWriter.open(filePath, COLUMNS)) {
+            for (IdData<Appointment> data : model.getAppointmentManager().getMapView().values()) {
+                if (filter.test(data)) {
+                    writer.write(toRecord(data));
+                    count++;
+                }
+            }
+        } catch (IOException ioEx) {
+            throw new CommandException(String.format(MESSAGE_WRITE_ERROR, filePath, ioEx.getMessage()));
+        }
+        return new CommandMessage(String.format(MESSAGE_SUCCESS, count, filePath));
+    }
+
+
+    private static List<Object> toRecord(IdData<Appointment> data) {
+        Appointment appointment = data.getValue();
+        return List.of(data.getId() + 1,
+                appointment.getPatient().getOneBased(),
+                appointment.getVaccination().toString(),
+                appointment.getAppointmentTime().toString(),
+                appointment.getAppointmentEndTime().toString(),
+                appointment.getStatus());
+    }
+
+
+    @Override
+    public boolean isViewOnly() {
+        return true;
+    }
+
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this
+                || (other instanceof ExportCommand
+                        && filePath.equals(((ExportCommand) other).filePath)
+                        && isAll == ((ExportCommand) other).isAll);
+    }
+}
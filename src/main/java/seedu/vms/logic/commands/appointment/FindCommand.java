@@ -3,6 +3,7 @@ package seedu.vms.logic.commands.appointment;
 import static java.util.Objects.requireNonNull;
 import static seedu.vms.logic.parser.CliSyntax.DELIMITER;
 import static seedu.vms.logic.parser.CliSyntax.PREFIX_ENDTIME;
+import static seedu.vms.logic.parser.CliSyntax.PREFIX_EXPLAIN;
 import static seedu.vms.logic.parser.CliSyntax.PREFIX_STARTTIME;
 import static seedu.vms.logic.parser.CliSyntax.PREFIX_VACCINATION;
 
@@ -27,6 +28,7 @@ import seedu.vms.model.appointment.predicates.EndTimePredicate;
 import seedu.vms.model.appointment.predicates.IndexPredicate;
 import seedu.vms.model.appointment.predicates.StartTimePredicate;
 import seedu.vms.model.appointment.predicates.VaccineContainsKeywordsPredicate;
+import seedu.vms.model.query.QueryPlan;
 
 /**
  * Finds and lists all appointments in appointment manager where any of the argument keywords match.
@@ -45,7 +47,8 @@ public class FindCommand extends Command {
             + " [...KEYWORDS...] "
             + "[" + DELIMITER + PREFIX_STARTTIME + " START_TIME] "
             + "[" + DELIMITER + PREFIX_ENDTIME + " END_TIME] "
-            + "[" + DELIMITER + PREFIX_VACCINATION + " VAX_GROUP]\n"
+            + "[" + DELIMITER + PREFIX_VACCINATION + " VAX_GROUP] "
+            + "[" + DELIMITER + PREFIX_EXPLAIN + " true]\n"
             + "Example: " + COMMAND_GROUP + " " + COMMAND_WORD + " Dose 1\n"
             + "(List all appointments that uses \"Dose 1')\"";
 
@@ -54,6 +57,7 @@ public class FindCommand extends Command {
     private final Optional<EndTimePredicate> endTimePredicate;
     private final Optional<VaccineContainsKeywordsPredicate> vaccinePredicate;
     private final Optional<Boolean> isCompletedPredicate;
+    private final boolean isExplain;
 
     /**
      * FindCommand that contains more appointment information that is given by the user.
@@ -62,6 +66,18 @@ public class FindCommand extends Command {
      * @param findAppointmentDescriptor
      */
     public FindCommand(FindAppointmentDescriptor findAppointmentDescriptor) {
+        this(findAppointmentDescriptor, false);
+    }
+
+    /**
+     * FindCommand that also reports the plan used to find the appointments if
+     * {@code isExplain} is {@code true}.
+     *
+     * @param findAppointmentDescriptor
+     * @param isExplain
+     */
+    public FindCommand(FindAppointmentDescriptor findAppointmentDescriptor, boolean isExplain) {
+        this.isExplain = isExplain;
         if (findAppointmentDescriptor.getPatient().isPresent()) {
             this.indexPredicate = Optional.of(new IndexPredicate(findAppointmentDescriptor.getPatient().get()));
         } else {
@@ -96,17 +112,28 @@ public class FindCommand extends Command {
         }
     }
 
-    @Override
-    public CommandMessage execute(Model model) {
-        requireNonNull(model);
+    /**
+     * Returns the filters the appointments found must satisfy. Shared with
+     * commands that act on the same appointments as a find.
+     */
+    public List<Predicate<Appointment>> getFilters() {
         List<Optional<? extends Predicate<Appointment>>> optionalFilters = List.of(indexPredicate, vaccinePredicate);
-        List<Predicate<Appointment>> filters = optionalFilters.stream()
+        return optionalFilters.stream()
                 .filter(Objects::nonNull)
                 .flatMap(Optional::stream)
                 .collect(Collectors.toList());
-        model.setAppointmentFilters(filters);
-        return new CommandMessage(
-                String.format(Messages.MESSAGE_APPOINTMENTS_LISTED_OVERVIEW, model.getFilteredAppointmentMap().size()));
+    }
+
+    @Override
+    public CommandMessage execute(Model model) {
+        requireNonNull(model);
+        QueryPlan<Appointment> plan = model.setAppointmentFilters(getFilters());
+        String message = String.format(Messages.MESSAGE_APPOINTMENTS_LISTED_OVERVIEW,
+                model.getFilteredAppointmentMap().size());
+        if (isExplain) {
+            message = message + "\n" + plan.explain();
+        }
+        return new CommandMessage(message);
     }
 
     @Override
@@ -114,7 +141,13 @@ public class FindCommand extends Command {
         return other == this // short circuit if same object
                 || (other instanceof FindCommand // instanceof handles Optional.empty()s
                         && indexPredicate.equals(((FindCommand) other).indexPredicate) // state check
-                        && vaccinePredicate.equals(((FindCommand) other).vaccinePredicate)); // state check
+                        && vaccinePredicate.equals(((FindCommand) other).vaccinePredicate) // state check
+                        && isExplain == ((FindCommand) other).isExplain); // state check
+    }
+
+    @Override
+    public boolean isViewOnly() {
+        return true;
     }
 
     /**
@@ -23,4 +23,10 @@ public class ListCommand extends Command {
         model.updateFilteredAppointmentList(PREDICATE_SHOW_ALL_APPOINTMENTS);
         return new CommandMessage(MESSAGE_SUCCESS);
     }
+
+
+    @Override
+    public boolean isViewOnly() {
+        return true;
+    }
 }
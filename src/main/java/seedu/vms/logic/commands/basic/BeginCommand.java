@@ -0,0 +1,45 @@
+package seedu.vms.logic.commands.basic;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.vms.logic.CommandMessage;
+import seedu.vms.logic.commands.Command;
+import seedu.vms.logic.commands.exceptions.CommandException;
+import seedu.vms.model.Model;
+
+
+/**
+ * Begins a transaction, so that the changes of the following commands are
+ * saved together once committed or undone together if rolled back.
+ */
+public class BeginCommand extends Command {
+    public static final String COMMAND_WORD = "begin";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Begins a transaction. Changes made until it is committed with " + CommitCommand.COMMAND_WORD
+            + " are saved together. Checks for appointments that deletions would remove are done on commit,"
+            + " which rolls back the transaction if they fail."
+            + " Changes can be undone with " + RollbackCommand.COMMAND_WORD + ".\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Transaction begun, changes will be saved on "
+            + CommitCommand.COMMAND_WORD;
+    public static final String MESSAGE_IN_TRANSACTION = "A transaction is already in progress";
+
+
+    @Override
+    public CommandMessage execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (model.isInTransaction()) {
+            throw new CommandException(MESSAGE_IN_TRANSACTION);
+        }
+        model.beginTransaction();
+        return new CommandMessage(MESSAGE_SUCCESS);
+    }
+
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this || other instanceof BeginCommand;
+    }
+}
@@ -0,0 +1,47 @@
+package seedu.vms.logic.commands.basic;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.vms.commons.exceptions.UnexpectedChangeException;
+import seedu.vms.logic.CommandMessage;
+import seedu.vms.logic.commands.Command;
+import seedu.vms.logic.commands.exceptions.CommandException;
+import seedu.vms.model.Model;
+
+
+/**
+ * Commits the transaction in progress. If the transaction cannot be
+ * committed, it is rolled back.
+ */
+public class CommitCommand extends Command {
+    public static final String COMMAND_WORD = "commit";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Commits and saves the changes of the transaction in progress.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Transaction committed";
+    public static final String MESSAGE_NO_TRANSACTION = "No transaction in progress";
+    public static final String MESSAGE_NOT_COMMITTED = "Transaction not committed and rolled back:\n%s";
+
+
+    @Override
+    public CommandMessage execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!model.isInTransaction()) {
+            throw new CommandException(MESSAGE_NO_TRANSACTION);
+        }
+        try {
+            model.commitTransaction();
+        } catch (UnexpectedChangeException unexpectedEx) {
+            throw new CommandException(String.format(MESSAGE_NOT_COMMITTED, unexpectedEx.getMessage()));
+        }
+        return new CommandMessage(MESSAGE_SUCCESS);
+    }
+
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this || other instanceof CommitCommand;
+    }
+}
@@ -20,4 +20,9 @@ public class HelpCommand extends Command {
     public CommandMessage execute(Model model) {
         return new CommandMessage(SHOWING_HELP_MESSAGE, true, false);
     }
+
+    @Override
+    public boolean isViewOnly() {
+        return true;
+    }
 }
@@ -0,0 +1,39 @@
+package seedu.vms.logic.commands.basic;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.vms.logic.CommandMessage;
+import seedu.vms.logic.commands.Command;
+import seedu.vms.logic.commands.exceptions.CommandException;
+import seedu.vms.model.Model;
+
+
+/**
+ * Rolls back the transaction in progress, undoing all of its changes.
+ */
+public class RollbackCommand extends Command {
+    public static final String COMMAND_WORD = "rollback";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Undoes the changes of the transaction in progress.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Transaction rolled back";
+
+
+    @Override
+    public CommandMessage execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!model.isInTransaction()) {
+            throw new CommandException(CommitCommand.MESSAGE_NO_TRANSACTION);
+        }
+        model.rollbackTransaction();
+        return new CommandMessage(MESSAGE_SUCCESS);
+    }
+
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this || other instanceof RollbackCommand;
+    }
+}
@@ -0,0 +1,192 @@
+package seedu.vms.logic.commands.basic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.vms.commons.exceptions.UnexpectedChangeException;
+import seedu.vms.logic.CommandMessage;
+import seedu.vms.logic.commands.Command;
+import seedu.vms.logic.commands.exceptions.CommandException;
+import seedu.vms.logic.parser.exceptions.ParseException;
+import seedu.vms.model.Model;
+
+
+/**
+ * Executes the commands in a script file as a single batch. The model is
+ * saved once after the whole script has been executed.
+ *
+ * <p>Atomic scripts are executed in a transaction of the model, which is
+ * rolled back if any of their commands fails or it cannot be committed.
+ *
+ * <p>A command whose result is an error fails its line. The warnings of the
+ * other commands are collected into the summary of the script. Commands that
+ * act on the application rather than the model, such as exiting, cannot be
+ * run from a script.
+ */
+public class RunCommand extends Command {
+    public static final String COMMAND_WORD = "run";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Executes the commands in a script file, one command per line. Blank lines and lines starting"
+            + " with " + RunCommand.COMMENT_PREFIX + " are ignored.\n"
+            + "Syntax: " + COMMAND_WORD + " FILE [--atomic true]\n"
+            + "Example: " + COMMAND_WORD + " data/daily.txt --atomic true";
+
+    public static final String COMMENT_PREFIX = "#";
+
+    public static final String MESSAGE_SUCCESS = "Executed %d commands from %s";
+    public static final String MESSAGE_PARTIAL = "Executed %d of %d commands from %s. Failed commands:%s";
+    public static final String MESSAGE_ROLLED_BACK =
+            "%d of %d commands from %s failed, no changes were made. Failed commands:%s";
+    public static final String MESSAGE_READ_ERROR = "Unable to read script %s: %s";
+    public static final String MESSAGE_NOT_COMMITTED =
+            "Executed %d commands from %s but no changes were made: %s";
+    public static final String MESSAGE_WARNINGS = "\nWarnings:%s";
+    public static final String MESSAGE_NESTED_RUN = "Scripts cannot run other scripts";
+    public static final String MESSAGE_NOT_SCRIPTABLE = "Scripts cannot exit or show help";
+    public static final String MESSAGE_NESTED_TRANSACTION =
+            "Atomic scripts cannot be run in or control transactions";
+
+    private static final String ERROR_FORMAT = "\nLine %d: %s";
+
+    private final Path scriptPath;
+    private final boolean isAtomic;
+
+
+    /**
+     * Constructs a {@code RunCommand}.
+     *
+     * @param scriptPath - the path to the script file.
+     * @param isAtomic - if the changes of the script should be undone when
+     *      any of its commands fails.
+     */
+    public RunCommand(Path scriptPath, boolean isAtomic) {
+        this.scriptPath = requireNonNull(scriptPath);
+        this.isAtomic = isAtomic;
+    }
+
+
+    @Override
+    public CommandMessage execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(scriptPath);
+        } catch (IOException ioEx) {
+            throw new CommandException(String.format(MESSAGE_READ_ERROR, scriptPath, ioEx.getMessage()));
+        }
+
+        if (isAtomic) {
+            if (model.isInTransaction()) {
+                throw new CommandException(MESSAGE_NESTED_TRANSACTION);
+            }
+            model.beginTransaction();
+        }
+        StringBuilder errors = new StringBuilder();
+        StringBuilder warnings = new StringBuilder();
+        int commandCount = 0;
+        int failedCount = 0;
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            if (line.isEmpty() || line.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+            commandCount++;
+            try {
+                for (CommandMessage warning : executeLine(model, line)) {
+                    warnings.append(String.format(ERROR_FORMAT, i + 1, warning.getMessage()));
+                }
+            } catch (ParseException | CommandException | RuntimeException ex) {
+                failedCount++;
+                errors.append(String.format(ERROR_FORMAT, i + 1, ex.getMessage()));
+            }
+        }
+
+        String warningMessage = warnings.length() == 0 ? "" : String.format(MESSAGE_WARNINGS, warnings);
+        if (failedCount == 0) {
+            if (isAtomic) {
+                commit(model, commandCount);
+            }
+            if (warnings.length() == 0) {
+                return new CommandMessage(String.format(MESSAGE_SUCCESS, commandCount, scriptPath));
+            }
+            return new CommandMessage(String.format(MESSAGE_SUCCESS, commandCount, scriptPath) + warningMessage,
+                    CommandMessage.State.WARNING);
+        }
+        if (isAtomic) {
+            model.rollbackTransaction();
+            throw new CommandException(String.format(MESSAGE_ROLLED_BACK,
+                    failedCount, commandCount, scriptPath, errors));
+        }
+        return new CommandMessage(String.format(MESSAGE_PARTIAL,
+                commandCount - failedCount, commandCount, scriptPath, errors) + warningMessage,
+                CommandMessage.State.WARNING);
+    }
+
+
+    /**
+     * Commits the transaction of the script, which is rolled back if it
+     * cannot be committed.
+     */
+    private void commit(Model model, int commandCount) throws CommandException {
+        try {
+            model.commitTransaction();
+        } catch (UnexpectedChangeException unexpectedEx) {
+            throw new CommandException(String.format(MESSAGE_NOT_COMMITTED,
+                    commandCount, scriptPath, unexpectedEx.getMessage()));
+        }
+    }
+
+
+    /**
+     * Parses and executes a command of the script along with its follow up
+     * commands, returning the warnings of their results.
+     *
+     * @throws CommandException if any of the commands fails or its result is
+     *      an error.
+     */
+    private List<CommandMessage> executeLine(Model model, String line) throws ParseException, CommandException {
+        Command command = model.parseCommand(line).getCommand();
+        if (command instanceof RunCommand) {
+            throw new CommandException(MESSAGE_NESTED_RUN);
+        }
+        if (command instanceof ExitCommand || command instanceof HelpCommand) {
+            throw new CommandException(MESSAGE_NOT_SCRIPTABLE);
+        }
+        if (isAtomic && (command instanceof BeginCommand || command instanceof CommitCommand
+                || command instanceof RollbackCommand)) {
+            throw new CommandException(MESSAGE_NESTED_TRANSACTION);
+        }
+        ArrayList<CommandMessage> warnings = new ArrayList<>();
+        Optional<Command> next = Optional.of(command);
+        while (next.isPresent()) {
+            CommandMessage message = next.get().execute(model);
+            switch (message.getState()) {
+            case INFO:
+                break;
+            case WARNING:
+                warnings.add(message);
+                break;
+            default:
+                throw new CommandException(message.getMessage());
+            }
+            next = next.get().getFollowUp();
+        }
+        return warnings;
+    }
+
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this
+                || (other instanceof RunCommand
+                        && scriptPath.equals(((RunCommand) other).scriptPath)
+                        && isAtomic == ((RunCommand) other).isAtomic);
+    }
+}
@@ -0,0 +1,29 @@
+package seedu.vms.logic.commands.basic;
+
+import seedu.vms.logic.CommandMessage;
+import seedu.vms.logic.commands.Command;
+import seedu.vms.model.Model;
+
+/**
+ * Shows the latencies of the phases of command executions per type of
+ * command, along with the hit and miss counts of the eligibility cache.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows the p50 and p99 latencies of parsing, executing and saving each type of command,"
+            + " and how often eligibility checks were answered from the cache.\n"
+            + "Example: " + COMMAND_WORD;
+
+    @Override
+    public CommandMessage execute(Model model) {
+        return new CommandMessage(model.getCommandStats() + "\n" + model.getEligibilityCache());
+    }
+
+    @Override
+    public boolean isViewOnly() {
+        return true;
+    }
+}
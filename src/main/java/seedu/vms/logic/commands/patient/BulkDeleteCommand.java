@@ -0,0 +1,75 @@
+package seedu.vms.logic.commands.patient;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.vms.logic.parser.CliSyntax.DELIMITER;
+import static seedu.vms.logic.parser.CliSyntax.PREFIX_FORCE;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.vms.commons.core.Messages;
+import seedu.vms.commons.exceptions.UnexpectedChangeException;
+import seedu.vms.logic.CommandMessage;
+import seedu.vms.logic.commands.Command;
+import seedu.vms.logic.commands.exceptions.CommandException;
+import seedu.vms.model.Model;
+import seedu.vms.model.patient.Patient;
+
+
+/**
+ * Deletes all patients that satisfy the filters of a {@code patient find}.
+ *
+ * <p>The patients are resolved once through the query planner and deleted as
+ * a single batch, so the appointments are scanned once to validate and
+ * cascade the deletion and the model is saved once.
+ */
+public class BulkDeleteCommand extends Command {
+    public static final String MESSAGE_USAGE = DeleteCommand.COMMAND_GROUP + " " + DeleteCommand.COMMAND_WORD
+            + ": Deletes all patients that match the given " + DeleteCommand.COMMAND_GROUP + " "
+            + FindCommand.COMMAND_WORD + " flags.\n"
+            + "Syntax: " + DeleteCommand.COMMAND_GROUP + " " + DeleteCommand.COMMAND_WORD
+            + " --ATTRIBUTE_FLAG FLAG_ARGUMENT... [" + DELIMITER + PREFIX_FORCE + " true]\n"
+            + "Example: " + DeleteCommand.COMMAND_GROUP + " " + DeleteCommand.COMMAND_WORD + " --v covax";
+
+    public static final String MESSAGE_SUCCESS = "Deleted %d patients";
+
+    private final List<Predicate<Patient>> filters;
+    private final boolean isForce;
+
+
+    /**
+     * Constructs a {@code BulkDeleteCommand}.
+     *
+     * @param filters - the filters the patients to delete satisfy.
+     * @param isForce - {@code true} if the appointments of the patients
+     *      should be deleted as well and {@code false} otherwise.
+     */
+    public BulkDeleteCommand(List<Predicate<Patient>> filters, boolean isForce) {
+        this.filters = List.copyOf(filters);
+        this.isForce = isForce;
+    }
+
+
+    @Override
+    public CommandMessage execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Integer> ids = model.findPatientIds(filters);
+        try {
+            model.deletePatients(ids, isForce);
+        } catch (UnexpectedChangeException uce) {
+            throw new CommandException(String.format("%s\n%s",
+                    uce.getMessage(),
+                    Messages.MESSAGE_USE_FORCE));
+        }
+        return new CommandMessage(String.format(MESSAGE_SUCCESS, ids.size()));
+    }
+
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this
+                || (other instanceof BulkDeleteCommand
+                        && filters.equals(((BulkDeleteCommand) other).filters)
+                        && isForce == ((BulkDeleteCommand) other).isForce);
+    }
+}
@@ -55,4 +55,9 @@ public class DetailCommand extends Command {
                 || (other instanceof DetailCommand // instanceof handles nulls
                         && index.equals(((DetailCommand) other).index)); // state check
     }
+
+    @Override
+    public boolean isViewOnly() {
+        return true;
+    }
 }
@@ -0,0 +1,112 @@
+package seedu.vms.logic.commands.patient;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.vms.logic.parser.CliSyntax.DELIMITER;
+import static seedu.vms.logic.parser.CliSyntax.PREFIX_ALL;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+
+import seedu.vms.commons.util.RecordWriter;
+import seedu.vms.logic.CommandMessage;
+import seedu.vms.logic.commands.Command;
+import seedu.vms.logic.commands.exceptions.CommandException;
+import seedu.vms.model.IdData;
+import seedu.vms.model.Model;
+import seedu.vms.model.patient.Patient;
+
+
+/**
+ * Exports the patients of the patient list, along with their vaccination
+ * history, to a CSV or NDJSON file.
+ *
+ * <p>Patients are streamed from the patient manager through a snapshot of the
+ * filters of the patient list, so the export takes constant memory. The
+ * export reads the filters of the list, so it is view-only rather than
+ * read-only: like every command it runs in order with the others and holds
+ * the model lock while it writes, so a large export delays the commands
+ * queued after it. The columns of the CSV file match those read by
+ * {@link ImportCommand}.
+ */
+public class ExportCommand extends Command {
+    public static final String COMMAND_WORD = "export";
+
+    public static final String MESSAGE_USAGE = AddCommand.COMMAND_GROUP + " " + COMMAND_WORD
+            + ": Exports the patients of the patient list to a " + RecordWriter.CSV_EXTENSION + " or "
+            + RecordWriter.NDJSON_EXTENSION + " file. All patients are exported instead if "
+            + DELIMITER + PREFIX_ALL + " is true.\n"
+            + "Syntax: " + AddCommand.COMMAND_GROUP + " " + COMMAND_WORD + " FILE ["
+            + DELIMITER + PREFIX_ALL + " true]\n"
+            + "Example: " + AddCommand.COMMAND_GROUP + " " + COMMAND_WORD + " reports/patients.csv";
+
+    public static final String MESSAGE_SUCCESS = "Exported %d patients to %s";
+    public static final String MESSAGE_WRITE_ERROR = "Unable to write %s: %s";
+
+    public static final List<String> COLUMNS =
+            List.of("id", "name", "phone", "dob", "bloodType", "allergies", "vaccines");
+
+    private final Path filePath;
+    private final boolean isAll;
+
+
+    /**
+     * Constructs an {@code ExportCommand}.
+     *
+     * @param filePath - the path of the file to export to.
+     * @param isAll - if all patients should be exported regardless of the
+     *      filters of the patient list.
+     */
+    public ExportCommand(Path filePath, boolean isAll) {
+        this.filePath = requireNonNull(filePath);
+        this.isAll = isAll;
+    }
+
+
+    @Override
+    public CommandMessage execute(Model model) throws CommandException {
+        requireNonNull(model);
+        Predicate<IdData<Patient>> filter = isAll ? data -> true : model.getPatientFiltersSnapshot();
+        int count = 0;
+        try (RecordWriter writer = RecordWriter.open(filePath, COLUMNS)) {
+            for (IdData<Patient> data : model.getPatientManager().getMapView().values()) {
+                if (filter.test(data)) {
+                    writer.write(toRecord(data));
+                    count++;
+                }
+            }
+        } catch (IOException ioEx) {
+            throw new CommandException(String.format(MESSAGE_WRITE_ERROR, filePath, ioEx.getMessage()));
+        }
+        return new CommandMessage(String.format(MESSAGE_SUCCESS, count, filePath));
+    }
+
+
+    private static List<Object> toRecord(IdData<Patient> data) {
+        Patient patient = data.getValue();
+        return List.of(data.getId() + 1,
+                patient.getName().toString(),
+                patient.getPhone().toString(),
+                patient.getDob().toString(),
+                patient.getBloodType().toString(),
+                new TreeSet<>(patient.getAllergy()),
+                new TreeSet<>(patient.getVaccine()));
+    }
+
+
+    @Override
+    public boolean isViewOnly() {
+        return true;
+    }
+
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this
+                || (other instanceof ExportCommand
+                        && filePath.equals(((ExportCommand) other).filePath)
+                        && isAll == ((ExportCommand) other).isAll);
+    }
+}
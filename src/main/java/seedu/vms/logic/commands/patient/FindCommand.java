@@ -5,6 +5,7 @@ import static seedu.vms.logic.parser.CliSyntax.DELIMITER;
 import static seedu.vms.logic.parser.CliSyntax.PREFIX_ALLERGY;
 import static seedu.vms.logic.parser.CliSyntax.PREFIX_BLOODTYPE;
 import static seedu.vms.logic.parser.CliSyntax.PREFIX_DOB;
+import static seedu.vms.logic.parser.CliSyntax.PREFIX_EXPLAIN;
 import static seedu.vms.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.vms.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.vms.logic.parser.CliSyntax.PREFIX_VACCINATION;
@@ -35,6 +36,7 @@ import seedu.vms.model.patient.predicates.DobPredicate;
 import seedu.vms.model.patient.predicates.NameContainsKeywordsPredicate;
 import seedu.vms.model.patient.predicates.PhoneNumberPredicate;
 import seedu.vms.model.patient.predicates.VaccineContainsKeywordsPredicate;
+import seedu.vms.model.query.QueryPlan;
 
 /**
  * Finds and lists all patients in patient manager whose name contains any of the argument keywords.
@@ -55,7 +57,8 @@ public class FindCommand extends Command {
             + "[" + DELIMITER + PREFIX_DOB + " Date of Birth] "
             + "[" + DELIMITER + PREFIX_BLOODTYPE + " BLOODTYPE] "
             + "[" + DELIMITER + PREFIX_ALLERGY + " ALLERGY] "
-            + "[" + DELIMITER + PREFIX_VACCINATION + " VACCINE]\n"
+            + "[" + DELIMITER + PREFIX_VACCINATION + " VACCINE] "
+            + "[" + DELIMITER + PREFIX_EXPLAIN + " true]\n"
             + "Example: " + COMMAND_GROUP + " " + COMMAND_WORD + " alex\n";
 
     private final Optional<NameContainsKeywordsPredicate> namePredicate;
@@ -64,6 +67,7 @@ public class FindCommand extends Command {
     private final Optional<BloodTypePredicate> bloodTypePredicate;
     private final Optional<AllergyContainsKeywordsPredicate> allergyPredicate;
     private final Optional<VaccineContainsKeywordsPredicate> vaccinePredicate;
+    private final boolean isExplain;
 
     /**
      * Existing FindCommand that was previously used to search using name only
@@ -77,6 +81,7 @@ public class FindCommand extends Command {
         this.bloodTypePredicate = Optional.empty();
         this.allergyPredicate = Optional.empty();
         this.vaccinePredicate = Optional.empty();
+        this.isExplain = false;
     }
 
     /**
@@ -86,6 +91,18 @@ public class FindCommand extends Command {
      * @param findPatientDescriptor
      */
     public FindCommand(FindPatientDescriptor findPatientDescriptor) {
+        this(findPatientDescriptor, false);
+    }
+
+    /**
+     * FindCommand that also reports the plan used to find the patients if
+     * {@code isExplain} is {@code true}.
+     *
+     * @param findPatientDescriptor
+     * @param isExplain
+     */
+    public FindCommand(FindPatientDescriptor findPatientDescriptor, boolean isExplain) {
+        this.isExplain = isExplain;
         if (findPatientDescriptor.getNameSearch().isPresent()) {
             String[] nameKeywords = findPatientDescriptor.getNameSearch().get().split("\\s+");
             this.namePredicate = Optional.of(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
@@ -126,18 +143,29 @@ public class FindCommand extends Command {
         }
     }
 
-    @Override
-    public CommandMessage execute(Model model) {
-        requireNonNull(model);
+    /**
+     * Returns the filters the patients found must satisfy. Shared with
+     * commands that act on the same patients as a find.
+     */
+    public List<Predicate<Patient>> getFilters() {
         List<Optional<? extends Predicate<Patient>>> optionalFilters = List.of(namePredicate, phonePredicate,
                 dobPredicate, bloodTypePredicate, allergyPredicate, vaccinePredicate);
-        List<Predicate<Patient>> filters = optionalFilters.stream()
+        return optionalFilters.stream()
                 .filter(Objects::nonNull)
                 .flatMap(Optional::stream)
                 .collect(Collectors.toList());
-        model.setPatientFilters(filters);
-        return new CommandMessage(
-                String.format(Messages.MESSAGE_PATIENTS_LISTED_OVERVIEW, model.getFilteredPatientList().size()));
+    }
+
+    @Override
+    public CommandMessage execute(Model model) {
+        requireNonNull(model);
+        QueryPlan<Patient> plan = model.setPatientFilters(getFilters());
+        String message = String.format(Messages.MESSAGE_PATIENTS_LISTED_OVERVIEW,
+                model.getFilteredPatientList().size());
+        if (isExplain) {
+            message = message + "\n" + plan.explain();
+        }
+        return new CommandMessage(message);
     }
 
     @Override
@@ -149,7 +177,13 @@ public class FindCommand extends Command {
                         && dobPredicate.equals(((FindCommand) other).dobPredicate) // state check
                         && bloodTypePredicate.equals(((FindCommand) other).bloodTypePredicate) // state check
                         && allergyPredicate.equals(((FindCommand) other).allergyPredicate) // state check
-                        && vaccinePredicate.equals(((FindCommand) other).vaccinePredicate)); // state check
+                        && vaccinePredicate.equals(((FindCommand) other).vaccinePredicate) // state check
+                        && isExplain == ((FindCommand) other).isExplain); // state check
+    }
+
+    @Override
+    public boolean isViewOnly() {
+        return true;
     }
 
     /**
@@ -0,0 +1,174 @@
+package seedu.vms.logic.commands.patient;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import seedu.vms.commons.exceptions.LimitExceededException;
+import seedu.vms.logic.CommandMessage;
+import seedu.vms.logic.commands.Command;
+import seedu.vms.logic.commands.exceptions.CommandException;
+import seedu.vms.logic.parser.exceptions.ParseException;
+import seedu.vms.logic.parser.patient.AddCommandParser;
+import seedu.vms.logic.parser.patient.PatientRecordReader;
+import seedu.vms.model.Model;
+import seedu.vms.model.patient.Patient;
+
+
+/**
+ * Imports patients from a CSV, JSON or NDJSON file.
+ *
+ * <p>The file is streamed in batches, each of which is validated in parallel.
+ * Valid patients are added to the model in a single bulk operation, so the
+ * patient list is refreshed and the model is saved once for the whole file
+ * instead of once per patient. Invalid records are skipped and reported with
+ * their line numbers.
+ */
+public class ImportCommand extends Command {
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = AddCommand.COMMAND_GROUP + " " + COMMAND_WORD
+            + ": Imports patients from a " + PatientRecordReader.CSV_EXTENSION + ", "
+            + PatientRecordReader.JSON_EXTENSION + " or " + PatientRecordReader.NDJSON_EXTENSION
+            + " file. CSV files start with a header of the columns name, phone, dob, bloodType, allergies and"
+            + " vaccines, with multiple allergies or vaccines separated by " + PatientRecordReader.VALUE_SEPARATOR
+            + ". JSON files contain an array of patient objects with the same fields, and NDJSON files contain a"
+            + " patient object per line.\n"
+            + "Syntax: " + AddCommand.COMMAND_GROUP + " " + COMMAND_WORD + " FILE\n"
+            + "Example: " + AddCommand.COMMAND_GROUP + " " + COMMAND_WORD + " data/patients.csv";
+
+    public static final String MESSAGE_SUCCESS = "Imported %d patients from %s";
+    public static final String MESSAGE_PARTIAL = "Imported %d patients from %s. Rejected %d records:%s";
+    public static final String MESSAGE_READ_ERROR = "Unable to read %s: %s";
+    public static final String MESSAGE_MORE_REJECTS = "\n... and %d more";
+
+    /** The number of records read before they are validated. */
+    public static final int BATCH_SIZE = 1024;
+    /** The maximum number of rejected records that are reported. */
+    public static final int MAX_REPORTED_REJECTS = 50;
+
+    private static final String REJECT_FORMAT = "\nLine %d: %s";
+
+    private final Path filePath;
+
+
+    /**
+     * Constructs an {@code ImportCommand}.
+     *
+     * @param filePath - the path to the file to import.
+     */
+    public ImportCommand(Path filePath) {
+        this.filePath = requireNonNull(filePath);
+    }
+
+
+    @Override
+    public CommandMessage execute(Model model) throws CommandException {
+        requireNonNull(model);
+        ArrayList<Patient> patients = new ArrayList<>();
+        ArrayList<String> rejects = new ArrayList<>();
+        try (PatientRecordReader reader = PatientRecordReader.open(filePath)) {
+            ArrayList<PatientRecordReader.Record> batch = new ArrayList<>(BATCH_SIZE);
+            Optional<PatientRecordReader.Record> record;
+            while ((record = reader.next()).isPresent()) {
+                batch.add(record.get());
+                if (batch.size() >= BATCH_SIZE) {
+                    validateBatch(batch, patients, rejects);
+                    batch.clear();
+                }
+            }
+            validateBatch(batch, patients, rejects);
+        } catch (IOException | RuntimeException ex) {
+            throw new CommandException(String.format(MESSAGE_READ_ERROR, filePath, ex.getMessage()));
+        }
+
+        try {
+            model.addPatients(patients);
+        } catch (LimitExceededException limitEx) {
+            throw new CommandException(String.format("Patient: %s", limitEx.toString()));
+        }
+
+        if (rejects.isEmpty()) {
+            return new CommandMessage(String.format(MESSAGE_SUCCESS, patients.size(), filePath));
+        }
+        return new CommandMessage(String.format(MESSAGE_PARTIAL,
+                patients.size(), filePath, rejects.size(), formatRejects(rejects)),
+                CommandMessage.State.WARNING);
+    }
+
+
+    /**
+     * Validates the records of the batch in parallel, adding the valid
+     * patients and the reasons for the rejected records in the order of the
+     * records.
+     */
+    private static void validateBatch(List<PatientRecordReader.Record> batch,
+                List<Patient> patients, List<String> rejects) {
+        List<Outcome> outcomes = batch.parallelStream()
+                .map(ImportCommand::validate)
+                .collect(Collectors.toList());
+        for (Outcome outcome : outcomes) {
+            if (outcome.patient != null) {
+                patients.add(outcome.patient);
+            } else {
+                rejects.add(outcome.reject);
+            }
+        }
+    }
+
+
+    private static Outcome validate(PatientRecordReader.Record record) {
+        if (record.getError().isPresent()) {
+            return Outcome.rejected(record.getLineNumber(), record.getError().get());
+        }
+        try {
+            return new Outcome(AddCommandParser.parsePatient(record.getArgs().get()), null);
+        } catch (ParseException parseEx) {
+            return Outcome.rejected(record.getLineNumber(), parseEx.getMessage());
+        }
+    }
+
+
+    private static String formatRejects(List<String> rejects) {
+        StringBuilder builder = new StringBuilder();
+        rejects.stream().limit(MAX_REPORTED_REJECTS).forEach(builder::append);
+        if (rejects.size() > MAX_REPORTED_REJECTS) {
+            builder.append(String.format(MESSAGE_MORE_REJECTS, rejects.size() - MAX_REPORTED_REJECTS));
+        }
+        return builder.toString();
+    }
+
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this
+                || (other instanceof ImportCommand
+                        && filePath.equals(((ImportCommand) other).filePath));
+    }
+
+
+
+
+
+    /** The result of validating a record, either a patient or a rejection. */
+    private static class Outcome {
+        private final Patient patient;
+        private final String reject;
+
+
+        Outcome(Patient patient, String reject) {
+            this.patient = patient;
+            this.reject = reject;
+        }
+
+
+        static Outcome rejected(int lineNumber, String reason) {
+            return new Outcome(null, String.format(REJECT_FORMAT, lineNumber, reason));
+        }
+    }
+}
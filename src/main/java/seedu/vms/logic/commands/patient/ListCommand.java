@@ -21,4 +21,9 @@ public class ListCommand extends Command {
         model.updateFilteredPatientList(PREDICATE_SHOW_ALL_PATIENTS);
         return new CommandMessage(MESSAGE_SUCCESS);
     }
+
+    @Override
+    public boolean isViewOnly() {
+        return true;
+    }
 }
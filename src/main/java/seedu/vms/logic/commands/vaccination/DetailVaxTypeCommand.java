@@ -35,4 +35,10 @@ public class DetailVaxTypeCommand extends Command {
         model.setDetailedVaxType(vaxType);
         return new CommandMessage(String.format("Detailing vaccination: %s", vaxType.getName()));
     }
+
+
+    @Override
+    public boolean isViewOnly() {
+        return true;
+    }
 }
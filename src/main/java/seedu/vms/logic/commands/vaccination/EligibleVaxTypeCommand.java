@@ -0,0 +1,66 @@
+package seedu.vms.logic.commands.vaccination;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.vms.commons.core.Retriever;
+import seedu.vms.commons.exceptions.IllegalValueException;
+import seedu.vms.logic.CommandMessage;
+import seedu.vms.logic.commands.Command;
+import seedu.vms.logic.commands.exceptions.CommandException;
+import seedu.vms.model.Model;
+import seedu.vms.model.patient.predicates.VaxEligibilityPredicate;
+import seedu.vms.model.vaccination.VaxType;
+
+
+/**
+ * Command to list the patients that can take a vaccination today.
+ *
+ * <p>The patients are filtered by the filtered patient map, which checks
+ * them in parallel once there are enough of them.
+ */
+public class EligibleVaxTypeCommand extends Command {
+    public static final String MESSAGE_SUCCESS = "%d of %d patients are eligible for %s (checked in %.3f ms)";
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final Retriever<String, VaxType> retriever;
+
+
+    /**
+     * Constructs an {@code EligibleVaxTypeCommand}.
+     *
+     * @param retriever - the retriever of the vaccination to check for.
+     */
+    public EligibleVaxTypeCommand(Retriever<String, VaxType> retriever) {
+        this.retriever = requireNonNull(retriever);
+    }
+
+
+    @Override
+    public CommandMessage execute(Model model) throws CommandException {
+        requireNonNull(model);
+        VaxType vaxType;
+        try {
+            vaxType = model.getVaccination(retriever);
+        } catch (IllegalValueException ive) {
+            throw new CommandException(ive.getMessage());
+        }
+
+        long startTime = System.nanoTime();
+        model.setPatientFilters(List.of(new VaxEligibilityPredicate(
+                vaxType, model.getVaxTypeManager().asUnmodifiableObservableMap())));
+        long checkTime = System.nanoTime() - startTime;
+
+        return new CommandMessage(String.format(MESSAGE_SUCCESS,
+                model.getFilteredPatientList().size(), model.getPatientManager().getMapView().size(),
+                vaxType.getName(), checkTime / NANOS_PER_MILLI));
+    }
+
+
+    @Override
+    public boolean isViewOnly() {
+        return true;
+    }
+}
@@ -32,4 +32,10 @@ public class FilterVaxTypeCommand extends Command {
         return new CommandMessage(String.format(Messages.MESSAGE_VACCINATION_LISTED_OVERVIEW,
                 numListed));
     }
+
+
+    @Override
+    public boolean isViewOnly() {
+        return true;
+    }
 }
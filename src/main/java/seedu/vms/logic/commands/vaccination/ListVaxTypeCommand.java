@@ -18,4 +18,9 @@ public class ListVaxTypeCommand extends Command {
         int numListed = model.getFilteredVaxTypeMap().size();
         return new CommandMessage(String.format(Messages.MESSAGE_VACCINATION_LISTED_OVERVIEW, numListed));
     }
+
+    @Override
+    public boolean isViewOnly() {
+        return true;
+    }
 }
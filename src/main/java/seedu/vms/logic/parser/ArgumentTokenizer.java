@@ -9,11 +9,15 @@ import seedu.vms.logic.parser.exceptions.ParseException;
  * 2. Leading and trailing whitespaces of an argument value will be discarded.<br>
  * 3. An argument may be repeated and all its values will be accumulated e.g. the value of {@code t/}
  *    in the above example.<br>
+ *
+ * <p>The arguments string is tokenized in a single scan without regular
+ * expressions, and flags of the CLI syntax map to their interned
+ * {@link Prefix}.
  */
 public class ArgumentTokenizer {
     public static final String MESSAGE_MISSING_FLAG = "Argument flag missing";
 
-    private static final String DELIMITER_PATTERN = "\\s*" + CliSyntax.DELIMITER;
+    private static final String DELIMITER = CliSyntax.DELIMITER;
 
 
     /**
@@ -22,36 +26,87 @@ public class ArgumentTokenizer {
      * @throws ParseException if a flag name is blank.
      */
     public static ArgumentMultimap tokenize(String argString) throws ParseException {
-        argString = argString.strip() + " ";
+        return tokenize(argString, 0);
+    }
+
 
+    /**
+     * Parses the part of an argument String from the given index to an
+     * {@link ArgumentMultimap}.
+     *
+     * @throws ParseException if a flag name is blank.
+     */
+    public static ArgumentMultimap tokenize(String argString, int fromIndex) throws ParseException {
         ArgumentMultimap argMap = new ArgumentMultimap();
-        String[] args = argString.split(DELIMITER_PATTERN);
 
-        // preamble
-        argMap.put(new Prefix(""), args[0].strip());
+        int delimiterIndex = argString.indexOf(DELIMITER, fromIndex);
+        int end = delimiterIndex < 0 ? argString.length() : delimiterIndex;
+        argMap.put(Prefix.PREAMBLE, strip(argString, fromIndex, end));
 
-        for (int i = 1; i < args.length; i++) {
-            addArgument(args[i].strip(), argMap);
+        while (delimiterIndex >= 0) {
+            int start = delimiterIndex + DELIMITER.length();
+            delimiterIndex = argString.indexOf(DELIMITER, start);
+            end = delimiterIndex < 0 ? argString.length() : delimiterIndex;
+            addArgument(argString, start, end, argMap);
         }
 
         return argMap;
     }
 
 
-    private static void addArgument(String input, ArgumentMultimap argMap) throws ParseException {
-        String[] inputs = input.split("\\s+", 2);
+    /**
+     * Returns the index of the first non-whitespace character of the input
+     * from the given index, or the length of the input if there is none.
+     */
+    public static int findWordStart(String input, int fromIndex) {
+        return skipWhitespace(input, fromIndex, input.length());
+    }
+
 
-        String flagName = inputs[0];
-        if (flagName.isBlank()) {
+    /**
+     * Returns the index of the first whitespace character of the input from
+     * the given index, or the length of the input if there is none.
+     */
+    public static int findWordEnd(String input, int fromIndex) {
+        return skipWord(input, fromIndex, input.length());
+    }
+
+
+    private static void addArgument(String argString, int start, int end, ArgumentMultimap argMap)
+                throws ParseException {
+        int flagStart = skipWhitespace(argString, start, end);
+        int flagEnd = skipWord(argString, flagStart, end);
+        if (flagStart == flagEnd) {
             throw new ParseException(MESSAGE_MISSING_FLAG);
         }
-        Prefix flag = new Prefix(flagName);
+        Prefix flag = Prefix.of(argString.substring(flagStart, flagEnd));
+
+        argMap.put(flag, strip(argString, flagEnd, end));
+    }
+
+
+    private static int skipWhitespace(String input, int start, int end) {
+        while (start < end && Character.isWhitespace(input.charAt(start))) {
+            start++;
+        }
+        return start;
+    }
+
 
-        String argValue = "";
-        if (inputs.length > 1) {
-            argValue = inputs[1];
+    private static int skipWord(String input, int start, int end) {
+        while (start < end && !Character.isWhitespace(input.charAt(start))) {
+            start++;
         }
+        return start;
+    }
+
 
-        argMap.put(flag, argValue);
+    /** Returns the part of the input within the given range without surrounding whitespace. */
+    private static String strip(String input, int start, int end) {
+        start = skipWhitespace(input, start, end);
+        while (end > start && Character.isWhitespace(input.charAt(end - 1))) {
+            end--;
+        }
+        return input.substring(start, end);
     }
 }
@@ -12,16 +12,19 @@ public class CliSyntax {
      * ========================================================================
      */
 
-    public static final Prefix PREFIX_FORCE = new Prefix("force");
-    public static final Prefix PREFIX_SET = new Prefix("set");
+    public static final Prefix PREFIX_FORCE = Prefix.intern("force");
+    public static final Prefix PREFIX_SET = Prefix.intern("set");
+    public static final Prefix PREFIX_EXPLAIN = Prefix.intern("explain");
+    public static final Prefix PREFIX_ATOMIC = Prefix.intern("atomic");
+    public static final Prefix PREFIX_ALL = Prefix.intern("all");
 
     /* Prefix definitions */
-    public static final Prefix PREFIX_NAME = new Prefix("n");
-    public static final Prefix PREFIX_PHONE = new Prefix("p");
-    public static final Prefix PREFIX_DOB = new Prefix("d");
-    public static final Prefix PREFIX_BLOODTYPE = new Prefix("b");
-    public static final Prefix PREFIX_ALLERGY = new Prefix("a");
-    public static final Prefix PREFIX_VACCINATION = new Prefix("v");
+    public static final Prefix PREFIX_NAME = Prefix.intern("n");
+    public static final Prefix PREFIX_PHONE = Prefix.intern("p");
+    public static final Prefix PREFIX_DOB = Prefix.intern("d");
+    public static final Prefix PREFIX_BLOODTYPE = Prefix.intern("b");
+    public static final Prefix PREFIX_ALLERGY = Prefix.intern("a");
+    public static final Prefix PREFIX_VACCINATION = Prefix.intern("v");
 
     /*
      * ========================================================================
@@ -29,11 +32,11 @@ public class CliSyntax {
      * ========================================================================
      */
 
-    public static final Prefix PREFIX_VAX_GROUPS = new Prefix("g");
-    public static final Prefix PREFIX_MIN_AGE = new Prefix("lal");
-    public static final Prefix PREFIX_MAX_AGE = new Prefix("ual");
-    public static final Prefix PREFIX_INGREDIENTS = new Prefix("i");
-    public static final Prefix PREFIX_HISTORY_REQ = new Prefix("h");
+    public static final Prefix PREFIX_VAX_GROUPS = Prefix.intern("g");
+    public static final Prefix PREFIX_MIN_AGE = Prefix.intern("lal");
+    public static final Prefix PREFIX_MAX_AGE = Prefix.intern("ual");
+    public static final Prefix PREFIX_INGREDIENTS = Prefix.intern("i");
+    public static final Prefix PREFIX_HISTORY_REQ = Prefix.intern("h");
 
     /*
      * ========================================================================
@@ -41,17 +44,17 @@ public class CliSyntax {
      * ========================================================================
      */
 
-    public static final Prefix PREFIX_PATIENT = new Prefix("p");
-    public static final Prefix PREFIX_STARTTIME = new Prefix("s");
-    public static final Prefix PREFIX_ENDTIME = new Prefix("e");
-    public static final Prefix PREFIX_COMPLETED = new Prefix("c");
+    public static final Prefix PREFIX_PATIENT = Prefix.intern("p");
+    public static final Prefix PREFIX_STARTTIME = Prefix.intern("s");
+    public static final Prefix PREFIX_ENDTIME = Prefix.intern("e");
+    public static final Prefix PREFIX_COMPLETED = Prefix.intern("c");
 
     /*
      * ========================================================================
      * Keyword
      * ========================================================================
      */
-    public static final Prefix PREFIX_KEYWORD_MAIN = new Prefix("k");
-    public static final Prefix PREFIX_KEYWORD_SUB = new Prefix("n");
+    public static final Prefix PREFIX_KEYWORD_MAIN = Prefix.intern("k");
+    public static final Prefix PREFIX_KEYWORD_SUB = Prefix.intern("n");
 
 }
@@ -3,8 +3,6 @@ package seedu.vms.logic.parser;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import seedu.vms.commons.core.Messages;
 import seedu.vms.logic.CommandMessage;
@@ -15,9 +13,6 @@ import seedu.vms.logic.parser.exceptions.ParseException;
 
 /** A parser to parse the command of a feature. */
 public abstract class FeatureParser {
-    private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
-
-
     /**
      * Parses the given CLI input to a {@code Command}.
      *
@@ -25,14 +20,27 @@ public abstract class FeatureParser {
      * @throws ParseException - if a command cannot be parsed.
      */
     public ParseResult parse(String commandInput) throws ParseException {
-        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(commandInput.trim());
-        if (!matcher.matches()) {
+        return parse(commandInput, 0);
+    }
+
+
+    /**
+     * Parses the part of the given CLI input from the given index to a
+     * {@code Command}. This allows the input to be parsed without copying
+     * the part parsed by an outer parser.
+     *
+     * @param commandInput - the command input to parse.
+     * @param fromIndex - the index the command of the feature starts from.
+     * @throws ParseException - if a command cannot be parsed.
+     */
+    public ParseResult parse(String commandInput, int fromIndex) throws ParseException {
+        int wordStart = ArgumentTokenizer.findWordStart(commandInput, fromIndex);
+        int wordEnd = ArgumentTokenizer.findWordEnd(commandInput, wordStart);
+        if (wordStart == wordEnd) {
             throw new ParseException(String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
         }
-
-        String commandWord = matcher.group("commandWord");
-        String argString = matcher.group("arguments");
-        ArgumentMultimap args = ArgumentTokenizer.tokenize(argString);
+        String commandWord = commandInput.substring(wordStart, wordEnd);
+        ArgumentMultimap args = ArgumentTokenizer.tokenize(commandInput, wordEnd);
 
         Command command = parseCommand(commandWord, args);
         Optional<CommandMessage> message = formParseMessage(args);
@@ -49,9 +57,9 @@ public abstract class FeatureParser {
         for (Map.Entry<Prefix, List<String>> entry : unusedArgs) {
             Prefix prefix = entry.getKey();
             for (String arg : entry.getValue()) {
-                if (prefix.equals(new Prefix("")) && arg.isBlank()) {
+                if (prefix.equals(Prefix.PREAMBLE) && arg.isBlank()) {
                     continue;
-                } else if (prefix.equals(new Prefix(""))) {
+                } else if (prefix.equals(Prefix.PREAMBLE)) {
                     builder.append(String.format("\n[PREAMBLE] %s",
                             arg));
                 } else {
@@ -1,16 +1,44 @@
 package seedu.vms.logic.parser;
 
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * A prefix that marks the beginning of an argument in an arguments string.
  * E.g. 't/' in 'add James t/ friend'.
+ *
+ * <p>Prefixes of the CLI syntax are interned so that tokenizing a command
+ * reuses them instead of creating a prefix for every flag.
  */
 public class Prefix {
+    private static final ConcurrentHashMap<String, Prefix> INTERNED_PREFIXES = new ConcurrentHashMap<>();
+
+    /** The prefix of the preamble, the text before the first flag. */
+    public static final Prefix PREAMBLE = intern("");
+
     private final String prefix;
 
     public Prefix(String prefix) {
         this.prefix = prefix;
     }
 
+    /**
+     * Returns the interned prefix of the given name, interning a new prefix
+     * if there is none yet.
+     */
+    public static Prefix intern(String prefix) {
+        return INTERNED_PREFIXES.computeIfAbsent(prefix, Prefix::new);
+    }
+
+    /**
+     * Returns the interned prefix of the given name if there is one, or a new
+     * prefix otherwise. Unlike {@link #intern(String)}, this does not intern
+     * the name, so arbitrary user input does not grow the interned prefixes.
+     */
+    public static Prefix of(String prefix) {
+        Prefix interned = INTERNED_PREFIXES.get(prefix);
+        return interned != null ? interned : new Prefix(prefix);
+    }
+
     public String getPrefix() {
         return prefix;
     }
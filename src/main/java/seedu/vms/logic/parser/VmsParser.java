@@ -1,8 +1,5 @@
 package seedu.vms.logic.parser;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
 import seedu.vms.commons.core.Messages;
 import seedu.vms.logic.commands.basic.HelpCommand;
 import seedu.vms.logic.parser.appointment.AppointmentParser;
@@ -16,9 +13,6 @@ import seedu.vms.model.keyword.KeywordManager;
 
 /** Parsers user input.  */
 public class VmsParser {
-    private static final Pattern BASIC_COMMAND_FORMAT =
-            Pattern.compile("(?<featureName>\\S+)(?<arguments>.*)");
-
     private final BasicParser basicParser = new BasicParser();
     private final PatientParser patientParser = new PatientParser();
     private final AppointmentParser appointmentParser = new AppointmentParser();
@@ -34,33 +28,36 @@ public class VmsParser {
      * @throws ParseException if the user input does not conform the expected format
      */
     public ParseResult parseCommand(String userInput) throws ParseException {
-        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
-        if (!matcher.matches()) {
+        // the feature name and the rest of the input are scanned in place
+        // rather than copied out
+        final int featureStart = ArgumentTokenizer.findWordStart(userInput, 0);
+        final int featureEnd = ArgumentTokenizer.findWordEnd(userInput, featureStart);
+        if (featureStart == featureEnd) {
             throw new ParseException(String.format(
                     Messages.MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
         }
 
-        final String featureName = matcher.group("featureName");
-        final String arguments = matcher.group("arguments");
+        final String featureName = userInput.substring(featureStart, featureEnd);
+
         switch (keywordManager.getKeyword(featureName)) {
 
         case PatientParser.FEATURE_NAME:
-            return patientParser.parse(arguments);
+            return patientParser.parse(userInput, featureEnd);
 
         case AppointmentParser.FEATURE_NAME:
-            return appointmentParser.parse(arguments);
+            return appointmentParser.parse(userInput, featureEnd);
 
         case VaccinationParser.FEATURE_NAME:
-            return vaccinationParser.parse(arguments);
+            return vaccinationParser.parse(userInput, featureEnd);
 
         case KeywordParser.FEATURE_NAME:
-            return keywordParser.parse(arguments);
+            return keywordParser.parse(userInput, featureEnd);
 
         case BasicParser.FEATURE_NAME:
-            return basicParser.parse(arguments);
+            return basicParser.parse(userInput, featureEnd);
 
         default:
-            return basicParser.parse(userInput);
+            return basicParser.parse(userInput, featureStart);
         }
     }
 }
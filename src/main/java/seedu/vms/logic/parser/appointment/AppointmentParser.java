@@ -6,6 +6,7 @@ import seedu.vms.logic.commands.Command;
 import seedu.vms.logic.commands.appointment.AddCommand;
 import seedu.vms.logic.commands.appointment.DeleteCommand;
 import seedu.vms.logic.commands.appointment.EditCommand;
+import seedu.vms.logic.commands.appointment.ExportCommand;
 import seedu.vms.logic.commands.appointment.FindCommand;
 import seedu.vms.logic.commands.appointment.ListCommand;
 import seedu.vms.logic.commands.appointment.MarkCommand;
@@ -47,6 +48,9 @@ public class AppointmentParser extends FeatureParser {
         case UnmarkCommand.COMMAND_WORD:
             return new UnmarkCommandParser().parse(arguments);
 
+        case ExportCommand.COMMAND_WORD:
+            return new ExportCommandParser().parse(arguments);
+
         default:
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
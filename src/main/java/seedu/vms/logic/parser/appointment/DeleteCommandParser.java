@@ -3,6 +3,8 @@ package seedu.vms.logic.parser.appointment;
 import static seedu.vms.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
 import seedu.vms.commons.core.index.Index;
+import seedu.vms.logic.commands.Command;
+import seedu.vms.logic.commands.appointment.BulkDeleteCommand;
 import seedu.vms.logic.commands.appointment.DeleteCommand;
 import seedu.vms.logic.parser.ArgumentMultimap;
 import seedu.vms.logic.parser.CommandParser;
@@ -10,7 +12,8 @@ import seedu.vms.logic.parser.ParserUtil;
 import seedu.vms.logic.parser.exceptions.ParseException;
 
 /**
- * Parses input arguments and creates a new DeleteCommand object
+ * Parses input arguments and creates a new DeleteCommand object, or a
+ * BulkDeleteCommand if find flags are given instead of an index.
  */
 public class DeleteCommandParser implements CommandParser {
 
@@ -20,7 +23,10 @@ public class DeleteCommandParser implements CommandParser {
      * @throws ParseException if the user input does not conform the expected format
      */
     @Override
-    public DeleteCommand parse(ArgumentMultimap argsMap) throws ParseException {
+    public Command parse(ArgumentMultimap argsMap) throws ParseException {
+        if (argsMap.getPreamble().isBlank()) {
+            return new BulkDeleteCommand(FindCommandParser.parseBulkFilters(argsMap, BulkDeleteCommand.MESSAGE_USAGE));
+        }
         try {
             Index index = ParserUtil.parseIndex(argsMap.getPreamble());
             return new DeleteCommand(index);
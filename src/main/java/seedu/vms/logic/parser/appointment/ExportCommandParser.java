@@ -0,0 +1,31 @@
+package seedu.vms.logic.parser.appointment;
+
+import java.nio.file.Path;
+
+import seedu.vms.commons.core.Messages;
+import seedu.vms.commons.util.FileUtil;
+import seedu.vms.logic.commands.appointment.ExportCommand;
+import seedu.vms.logic.parser.ArgumentMultimap;
+import seedu.vms.logic.parser.CliSyntax;
+import seedu.vms.logic.parser.CommandParser;
+import seedu.vms.logic.parser.ParserUtil;
+import seedu.vms.logic.parser.exceptions.ParseException;
+
+
+/**
+ * Parser for {@link ExportCommand}.
+ */
+public class ExportCommandParser implements CommandParser {
+    @Override
+    public ExportCommand parse(ArgumentMultimap argsMap) throws ParseException {
+        String pathString = argsMap.getPreamble();
+        if (pathString.isBlank() || !FileUtil.isValidPath(pathString)) {
+            throw new ParseException(String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT,
+                    ExportCommand.MESSAGE_USAGE));
+        }
+        boolean isAll = argsMap.getValue(CliSyntax.PREFIX_ALL)
+                .map(input -> ParserUtil.parseBoolean(input))
+                .orElse(false);
+        return new ExportCommand(Path.of(pathString), isAll);
+    }
+}
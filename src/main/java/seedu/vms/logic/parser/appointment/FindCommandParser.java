@@ -4,14 +4,17 @@ import static java.util.Objects.requireNonNull;
 import static seedu.vms.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.vms.logic.parser.CliSyntax.PREFIX_COMPLETED;
 import static seedu.vms.logic.parser.CliSyntax.PREFIX_ENDTIME;
+import static seedu.vms.logic.parser.CliSyntax.PREFIX_EXPLAIN;
 import static seedu.vms.logic.parser.CliSyntax.PREFIX_PATIENT;
 import static seedu.vms.logic.parser.CliSyntax.PREFIX_STARTTIME;
 import static seedu.vms.logic.parser.CliSyntax.PREFIX_VACCINATION;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Predicate;
 
 import seedu.vms.logic.commands.appointment.FindCommand;
 import seedu.vms.logic.commands.appointment.FindCommand.FindAppointmentDescriptor;
@@ -20,6 +23,7 @@ import seedu.vms.logic.parser.CommandParser;
 import seedu.vms.logic.parser.ParserUtil;
 import seedu.vms.logic.parser.exceptions.ParseException;
 import seedu.vms.model.GroupName;
+import seedu.vms.model.appointment.Appointment;
 
 /**
  * Parses input arguments and creates a new FindCommand object
@@ -63,11 +67,19 @@ public class FindCommandParser implements CommandParser {
             findAppointmentDescriptor.setStatus(ParserUtil.parseBoolean(argsMap.getValue(PREFIX_COMPLETED).get()));
         }
 
+        boolean isExplain = argsMap
+                .getValue(PREFIX_EXPLAIN)
+                .map(ParserUtil::parseBoolean)
+                .orElse(false);
+
         if (!flagsPresent) {
             String trimmedArgs = argsMap.getPreamble().trim();
             if (trimmedArgs.isEmpty()) {
-                throw new ParseException(
-                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+                // explaining without filters explains the full scan
+                if (!isExplain) {
+                    throw new ParseException(
+                            String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+                }
             } else if (ParserUtil.isValidDateTimeFormat(trimmedArgs)) {
                 findAppointmentDescriptor.setAppointmentTime(ParserUtil.parseDate(trimmedArgs));
             } else {
@@ -76,7 +88,7 @@ public class FindCommandParser implements CommandParser {
             }
         }
 
-        return new FindCommand(findAppointmentDescriptor);
+        return new FindCommand(findAppointmentDescriptor, isExplain);
     }
 
     /**
@@ -93,4 +105,26 @@ public class FindCommandParser implements CommandParser {
         return Optional.of(ParserUtil.parseGroups(groupNamesSet));
     }
 
+
+    /**
+     * Parses the find flags of a bulk command, such as a bulk delete, into
+     * the filters of the find. At least one filter is required so that a
+     * mistyped command cannot act on every appointment.
+     *
+     * @param usage - the usage message of the bulk command.
+     * @throws ParseException if the flags are invalid or give no filters.
+     */
+    static List<Predicate<Appointment>> parseBulkFilters(ArgumentMultimap argsMap, String usage)
+                throws ParseException {
+        List<Predicate<Appointment>> filters;
+        try {
+            filters = new FindCommandParser().parse(argsMap).getFilters();
+        } catch (ParseException pe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, usage), pe);
+        }
+        if (filters.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, usage));
+        }
+        return filters;
+    }
 }
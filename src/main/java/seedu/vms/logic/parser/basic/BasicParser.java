@@ -2,8 +2,13 @@ package seedu.vms.logic.parser.basic;
 
 import seedu.vms.commons.core.Messages;
 import seedu.vms.logic.commands.Command;
+import seedu.vms.logic.commands.basic.BeginCommand;
+import seedu.vms.logic.commands.basic.CommitCommand;
 import seedu.vms.logic.commands.basic.ExitCommand;
 import seedu.vms.logic.commands.basic.HelpCommand;
+import seedu.vms.logic.commands.basic.RollbackCommand;
+import seedu.vms.logic.commands.basic.RunCommand;
+import seedu.vms.logic.commands.basic.StatsCommand;
 import seedu.vms.logic.parser.ArgumentMultimap;
 import seedu.vms.logic.parser.FeatureParser;
 import seedu.vms.logic.parser.exceptions.ParseException;
@@ -17,12 +22,27 @@ public class BasicParser extends FeatureParser {
     @Override
     public Command parseCommand(String commandWord, ArgumentMultimap args) throws ParseException {
         switch (commandWord) {
+        case BeginCommand.COMMAND_WORD:
+            return new BeginCommand();
+
+        case CommitCommand.COMMAND_WORD:
+            return new CommitCommand();
+
         case ExitCommand.COMMAND_WORD:
             return new ExitCommand();
 
         case HelpCommand.COMMAND_WORD:
             return new HelpCommand();
 
+        case RollbackCommand.COMMAND_WORD:
+            return new RollbackCommand();
+
+        case RunCommand.COMMAND_WORD:
+            return new RunCommandParser().parse(args);
+
+        case StatsCommand.COMMAND_WORD:
+            return new StatsCommand();
+
         default:
             throw new ParseException(Messages.MESSAGE_UNKNOWN_COMMAND);
         }
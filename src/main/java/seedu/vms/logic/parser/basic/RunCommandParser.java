@@ -0,0 +1,31 @@
+package seedu.vms.logic.parser.basic;
+
+import java.nio.file.Path;
+
+import seedu.vms.commons.core.Messages;
+import seedu.vms.commons.util.FileUtil;
+import seedu.vms.logic.commands.basic.RunCommand;
+import seedu.vms.logic.parser.ArgumentMultimap;
+import seedu.vms.logic.parser.CliSyntax;
+import seedu.vms.logic.parser.CommandParser;
+import seedu.vms.logic.parser.ParserUtil;
+import seedu.vms.logic.parser.exceptions.ParseException;
+
+
+/**
+ * Parser for {@link RunCommand}.
+ */
+public class RunCommandParser implements CommandParser {
+    @Override
+    public RunCommand parse(ArgumentMultimap argsMap) throws ParseException {
+        String pathString = argsMap.getPreamble();
+        if (pathString.isBlank() || !FileUtil.isValidPath(pathString)) {
+            throw new ParseException(String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT,
+                    RunCommand.MESSAGE_USAGE));
+        }
+        boolean isAtomic = argsMap.getValue(CliSyntax.PREFIX_ATOMIC)
+                .map(input -> ParserUtil.parseBoolean(input))
+                .orElse(false);
+        return new RunCommand(Path.of(pathString), isAtomic);
+    }
+}
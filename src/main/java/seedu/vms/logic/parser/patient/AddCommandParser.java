@@ -40,6 +40,18 @@ public class AddCommandParser implements CommandParser {
      */
     @Override
     public AddCommand parse(ArgumentMultimap argsMap) throws ParseException {
+        return new AddCommand(parsePatient(argsMap));
+    }
+
+
+    /**
+     * Parses the patient described by the given {@code ArgumentMultimap}.
+     * Shared by commands that create patients from the same parameters, like
+     * the bulk import.
+     *
+     * @throws ParseException if any of the parameters are missing or invalid.
+     */
+    public static Patient parsePatient(ArgumentMultimap argsMap) throws ParseException {
         if (!arePrefixesPresent(argsMap, PREFIX_NAME, PREFIX_PHONE, PREFIX_DOB, PREFIX_BLOODTYPE)) {
             throw new ParseException(String.format(MESSAGE_MISSING_PARAMETER_FORMAT, AddCommand.MESSAGE_USAGE));
         }
@@ -56,9 +68,7 @@ public class AddCommandParser implements CommandParser {
             throw new ParseException(errMessage.get());
         }
 
-        Patient patient = new Patient(name, phone, dateOfBirth, bloodType, allergies, vaccines);
-
-        return new AddCommand(patient);
+        return new Patient(name, phone, dateOfBirth, bloodType, allergies, vaccines);
     }
 
     /**
@@ -2,18 +2,25 @@ package seedu.vms.logic.parser.patient;
 
 import static seedu.vms.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
+import java.util.List;
+import java.util.function.Predicate;
+
 import seedu.vms.commons.core.index.Index;
+import seedu.vms.logic.commands.Command;
+import seedu.vms.logic.commands.patient.BulkDeleteCommand;
 import seedu.vms.logic.commands.patient.DeleteCommand;
 import seedu.vms.logic.parser.ArgumentMultimap;
 import seedu.vms.logic.parser.CliSyntax;
 import seedu.vms.logic.parser.CommandParser;
 import seedu.vms.logic.parser.ParserUtil;
 import seedu.vms.logic.parser.exceptions.ParseException;
+import seedu.vms.model.patient.Patient;
 
 
 // @@author francisyzy
 /**
- * Parses input arguments and creates a new DeleteCommand object
+ * Parses input arguments and creates a new DeleteCommand object, or a
+ * BulkDeleteCommand if find flags are given instead of a patient ID.
  */
 public class DeleteCommandParser implements CommandParser {
 
@@ -23,12 +30,15 @@ public class DeleteCommandParser implements CommandParser {
      * @throws ParseException if the user input does not conform the expected format
      */
     @Override
-    public DeleteCommand parse(ArgumentMultimap argsMap) throws ParseException {
+    public Command parse(ArgumentMultimap argsMap) throws ParseException {
+        boolean isForce = argsMap.getValue(CliSyntax.PREFIX_FORCE)
+                .map(input -> ParserUtil.parseBoolean(input))
+                .orElse(false);
+        if (argsMap.getPreamble().isBlank()) {
+            return parseBulk(argsMap, isForce);
+        }
         try {
             Index index = ParserUtil.parseIndex(argsMap.getPreamble());
-            boolean isForce = argsMap.getValue(CliSyntax.PREFIX_FORCE)
-                    .map(input -> ParserUtil.parseBoolean(input))
-                    .orElse(false);
             return new DeleteCommand(index, isForce);
         } catch (ParseException pe) {
             throw new ParseException(
@@ -36,4 +46,24 @@ public class DeleteCommandParser implements CommandParser {
         }
     }
 
+
+    /**
+     * Parses the find flags of a bulk delete. At least one filter is
+     * required so that a mistyped command cannot delete every patient.
+     */
+    private static BulkDeleteCommand parseBulk(ArgumentMultimap argsMap, boolean isForce) throws ParseException {
+        List<Predicate<Patient>> filters;
+        try {
+            filters = new FindCommandParser().parse(argsMap).getFilters();
+        } catch (ParseException pe) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, BulkDeleteCommand.MESSAGE_USAGE), pe);
+        }
+        if (filters.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, BulkDeleteCommand.MESSAGE_USAGE));
+        }
+        return new BulkDeleteCommand(filters, isForce);
+    }
+
 }
@@ -5,6 +5,7 @@ import static seedu.vms.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.vms.logic.parser.CliSyntax.PREFIX_ALLERGY;
 import static seedu.vms.logic.parser.CliSyntax.PREFIX_BLOODTYPE;
 import static seedu.vms.logic.parser.CliSyntax.PREFIX_DOB;
+import static seedu.vms.logic.parser.CliSyntax.PREFIX_EXPLAIN;
 import static seedu.vms.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.vms.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.vms.logic.parser.CliSyntax.PREFIX_VACCINATION;
@@ -67,16 +68,23 @@ public class FindCommandParser implements CommandParser {
                     .ifPresent(findPatientDescriptor::setVaccines);
         }
 
+        boolean isExplain = argsMap
+                .getValue(PREFIX_EXPLAIN)
+                .map(ParserUtil::parseBoolean)
+                .orElse(false);
+
         if (!flagsPresent) {
             String trimmedArgs = argsMap.getPreamble().trim();
-            if (trimmedArgs.isEmpty()) {
+            if (!trimmedArgs.isEmpty()) {
+                findPatientDescriptor.setNameSearch(trimmedArgs);
+            } else if (!isExplain) {
+                // explaining without filters explains the full scan
                 throw new ParseException(
                         String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
             }
-            findPatientDescriptor.setNameSearch(trimmedArgs);
         }
 
-        return new FindCommand(findPatientDescriptor);
+        return new FindCommand(findPatientDescriptor, isExplain);
     }
 
     /**
@@ -0,0 +1,26 @@
+package seedu.vms.logic.parser.patient;
+
+import java.nio.file.Path;
+
+import seedu.vms.commons.core.Messages;
+import seedu.vms.commons.util.FileUtil;
+import seedu.vms.logic.commands.patient.ImportCommand;
+import seedu.vms.logic.parser.ArgumentMultimap;
+import seedu.vms.logic.parser.CommandParser;
+import seedu.vms.logic.parser.exceptions.ParseException;
+
+
+/**
+ * Parser for {@link ImportCommand}.
+ */
+public class ImportCommandParser implements CommandParser {
+    @Override
+    public ImportCommand parse(ArgumentMultimap argsMap) throws ParseException {
+        String pathString = argsMap.getPreamble();
+        if (pathString.isBlank() || !FileUtil.isValidPath(pathString)) {
+            throw new ParseException(String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT,
+                    ImportCommand.MESSAGE_USAGE));
+        }
+        return new ImportCommand(Path.of(pathString));
+    }
+}
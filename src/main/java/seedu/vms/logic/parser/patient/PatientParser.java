@@ -8,7 +8,9 @@ import seedu.vms.logic.commands.patient.ClearCommand;
 import seedu.vms.logic.commands.patient.DeleteCommand;
 import seedu.vms.logic.commands.patient.DetailCommand;
 import seedu.vms.logic.commands.patient.EditCommand;
+import seedu.vms.logic.commands.patient.ExportCommand;
 import seedu.vms.logic.commands.patient.FindCommand;
+import seedu.vms.logic.commands.patient.ImportCommand;
 import seedu.vms.logic.commands.patient.ListCommand;
 import seedu.vms.logic.parser.ArgumentMultimap;
 import seedu.vms.logic.parser.FeatureParser;
@@ -46,6 +48,12 @@ public class PatientParser extends FeatureParser {
         case DetailCommand.COMMAND_WORD:
             return new DetailCommandParser().parse(arguments);
 
+        case ImportCommand.COMMAND_WORD:
+            return new ImportCommandParser().parse(arguments);
+
+        case ExportCommand.COMMAND_WORD:
+            return new ExportCommandParser().parse(arguments);
+
         default:
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
@@ -0,0 +1,314 @@
+package seedu.vms.logic.parser.patient;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.vms.logic.parser.CliSyntax.PREFIX_ALLERGY;
+import static seedu.vms.logic.parser.CliSyntax.PREFIX_BLOODTYPE;
+import static seedu.vms.logic.parser.CliSyntax.PREFIX_DOB;
+import static seedu.vms.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.vms.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.vms.logic.parser.CliSyntax.PREFIX_VACCINATION;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import seedu.vms.commons.exceptions.IllegalValueException;
+import seedu.vms.commons.util.CsvUtil;
+import seedu.vms.commons.util.RecordWriter;
+import seedu.vms.logic.parser.ArgumentMultimap;
+import seedu.vms.logic.parser.Prefix;
+
+
+/**
+ * Reads patient records from a file one record at a time, so that files of
+ * any size can be imported without holding all of their contents in memory.
+ *
+ * <p>Each record is converted to the same {@code ArgumentMultimap} that
+ * {@code patient add} parses, so that imported patients are validated
+ * exactly like added ones. Two formats are supported, chosen by the file
+ * extension:
+ * <ul>
+ * <li>{@code .csv} - a header line naming the columns followed by a patient
+ *      per line. Multiple allergies or vaccines within a field are separated
+ *      by {@value #VALUE_SEPARATOR}.
+ * <li>{@code .json} - an array of patient objects. Allergies and vaccines
+ *      may be strings or arrays of strings.
+ * <li>{@code .ndjson} - a patient object per line, as exported by
+ *      {@code patient export}.
+ * </ul>
+ * Column and field names are {@code name}, {@code phone}, {@code dob},
+ * {@code bloodType}, {@code allergies} and {@code vaccines}, in any case.
+ * Unknown columns and fields are ignored.
+ */
+public abstract class PatientRecordReader implements Closeable {
+    public static final String CSV_EXTENSION = ".csv";
+    public static final String JSON_EXTENSION = ".json";
+    public static final String NDJSON_EXTENSION = RecordWriter.NDJSON_EXTENSION;
+    public static final String VALUE_SEPARATOR = RecordWriter.VALUE_SEPARATOR;
+
+    public static final String MESSAGE_UNSUPPORTED_FORMAT =
+            "Unsupported file format, expected a " + CSV_EXTENSION + ", " + JSON_EXTENSION
+            + " or " + NDJSON_EXTENSION + " file";
+    public static final String MESSAGE_MISSING_COLUMN = "Missing column: %s";
+    public static final String MESSAGE_NOT_ARRAY = "Expected an array of patients";
+    public static final String MESSAGE_NOT_OBJECT = "Expected a patient object";
+    public static final String MESSAGE_FIELD_COUNT = "Expected %d fields but found %d";
+
+    private static final Map<String, Prefix> FIELDS = Map.of(
+            "name", PREFIX_NAME,
+            "phone", PREFIX_PHONE,
+            "dob", PREFIX_DOB,
+            "bloodtype", PREFIX_BLOODTYPE,
+            "allergies", PREFIX_ALLERGY,
+            "vaccines", PREFIX_VACCINATION);
+    private static final List<String> REQUIRED_FIELDS = List.of("name", "phone", "dob", "bloodtype");
+
+
+    /**
+     * Opens a reader over the given file, whose format is chosen by its
+     * extension.
+     *
+     * @param path - the path to the file to read.
+     * @throws IOException if the file cannot be read, is of an unsupported
+     *      format or its header is invalid.
+     */
+    public static PatientRecordReader open(Path path) throws IOException {
+        requireNonNull(path);
+        String fileName = path.getFileName().toString().toLowerCase(Locale.ROOT);
+        if (!fileName.endsWith(CSV_EXTENSION) && !fileName.endsWith(JSON_EXTENSION)
+                && !fileName.endsWith(NDJSON_EXTENSION)) {
+            throw new IOException(MESSAGE_UNSUPPORTED_FORMAT);
+        }
+
+        BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8);
+        try {
+            if (fileName.endsWith(CSV_EXTENSION)) {
+                return new CsvReader(reader);
+            }
+            return new JsonReader(reader, fileName.endsWith(JSON_EXTENSION));
+        } catch (IOException | RuntimeException ex) {
+            reader.close();
+            throw ex;
+        }
+    }
+
+
+    /**
+     * Returns the next record of the file or an empty {@code Optional} if
+     * there are no more records.
+     *
+     * @throws IOException if the file cannot be read. Records that are
+     *      malformed are returned as rejected records instead.
+     */
+    public abstract Optional<Record> next() throws IOException;
+
+
+    private static Optional<Prefix> toPrefix(String fieldName) {
+        return Optional.ofNullable(FIELDS.get(fieldName.strip().toLowerCase(Locale.ROOT)));
+    }
+
+
+    private static boolean isMultiValued(Prefix prefix) {
+        return prefix.equals(PREFIX_ALLERGY) || prefix.equals(PREFIX_VACCINATION);
+    }
+
+
+
+
+
+    /**
+     * A record of the file, which is either the arguments of a patient or
+     * the reason it could not be read.
+     */
+    public static class Record {
+        private final int lineNumber;
+        private final ArgumentMultimap args;
+        private final String error;
+
+
+        private Record(int lineNumber, ArgumentMultimap args, String error) {
+            this.lineNumber = lineNumber;
+            this.args = args;
+            this.error = error;
+        }
+
+
+        /** Returns the line of the file the record starts at. */
+        public int getLineNumber() {
+            return lineNumber;
+        }
+
+
+        /** Returns the arguments of the patient, if the record could be read. */
+        public Optional<ArgumentMultimap> getArgs() {
+            return Optional.ofNullable(args);
+        }
+
+
+        /** Returns the reason the record could not be read, if any. */
+        public Optional<String> getError() {
+            return Optional.ofNullable(error);
+        }
+    }
+
+
+
+
+
+    /** Reads records from a CSV file. */
+    private static class CsvReader extends PatientRecordReader {
+        private final BufferedReader reader;
+        private final List<Optional<Prefix>> columns = new ArrayList<>();
+        private int lineNumber = 0;
+
+
+        CsvReader(BufferedReader reader) throws IOException {
+            this.reader = reader;
+            String header = nextLine();
+            if (header == null) {
+                throw new IOException(String.format(MESSAGE_MISSING_COLUMN, REQUIRED_FIELDS.get(0)));
+            }
+            try {
+                for (String column : CsvUtil.parseLine(header)) {
+                    columns.add(toPrefix(column));
+                }
+            } catch (IllegalValueException illValEx) {
+                throw new IOException(illValEx.getMessage());
+            }
+            for (String field : REQUIRED_FIELDS) {
+                if (!columns.contains(Optional.of(FIELDS.get(field)))) {
+                    throw new IOException(String.format(MESSAGE_MISSING_COLUMN, field));
+                }
+            }
+        }
+
+
+        /** Returns the next non-blank line or {@code null} at the end of the file. */
+        private String nextLine() throws IOException {
+            String line;
+            do {
+                line = reader.readLine();
+                lineNumber++;
+            } while (line != null && line.isBlank());
+            return line;
+        }
+
+
+        @Override
+        public Optional<Record> next() throws IOException {
+            String line = nextLine();
+            if (line == null) {
+                return Optional.empty();
+            }
+
+            List<String> values;
+            try {
+                values = CsvUtil.parseLine(line);
+            } catch (IllegalValueException illValEx) {
+                return Optional.of(new Record(lineNumber, null, illValEx.getMessage()));
+            }
+            if (values.size() != columns.size()) {
+                return Optional.of(new Record(lineNumber, null,
+                        String.format(MESSAGE_FIELD_COUNT, columns.size(), values.size())));
+            }
+
+            ArgumentMultimap args = new ArgumentMultimap();
+            for (int i = 0; i < values.size(); i++) {
+                if (columns.get(i).isEmpty()) {
+                    continue;
+                }
+                Prefix prefix = columns.get(i).get();
+                String value = values.get(i);
+                if (!isMultiValued(prefix)) {
+                    args.put(prefix, value.strip());
+                } else if (!value.isBlank()) {
+                    for (String part : value.split(VALUE_SEPARATOR, -1)) {
+                        args.put(prefix, part.strip());
+                    }
+                }
+            }
+            return Optional.of(new Record(lineNumber, args, null));
+        }
+
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+
+
+
+
+
+    /**
+     * Reads records from a JSON file, one object at a time. The objects are
+     * either in an array or, for NDJSON files, at the top level.
+     */
+    private static class JsonReader extends PatientRecordReader {
+        private static final ObjectMapper MAPPER = new ObjectMapper();
+
+        private final JsonParser parser;
+
+
+        JsonReader(BufferedReader reader, boolean isArray) throws IOException {
+            parser = MAPPER.getFactory().createParser(reader);
+            if (isArray && parser.nextToken() != JsonToken.START_ARRAY) {
+                parser.close();
+                throw new IOException(MESSAGE_NOT_ARRAY);
+            }
+        }
+
+
+        @Override
+        public Optional<Record> next() throws IOException {
+            JsonToken token = parser.nextToken();
+            if (token == null || token == JsonToken.END_ARRAY) {
+                return Optional.empty();
+            }
+            int lineNumber = parser.getTokenLocation().getLineNr();
+            if (token != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                return Optional.of(new Record(lineNumber, null, MESSAGE_NOT_OBJECT));
+            }
+
+            JsonNode node = MAPPER.readTree(parser);
+            ArgumentMultimap args = new ArgumentMultimap();
+            for (Iterator<Map.Entry<String, JsonNode>> it = node.fields(); it.hasNext();) {
+                Map.Entry<String, JsonNode> field = it.next();
+                Optional<Prefix> prefix = toPrefix(field.getKey());
+                if (prefix.isEmpty()) {
+                    continue;
+                }
+                if (field.getValue().isArray()) {
+                    for (JsonNode value : field.getValue()) {
+                        args.put(prefix.get(), value.asText().strip());
+                    }
+                } else if (!field.getValue().isNull()) {
+                    args.put(prefix.get(), field.getValue().asText().strip());
+                }
+            }
+            return Optional.of(new Record(lineNumber, args, null));
+        }
+
+
+        @Override
+        public void close() throws IOException {
+            parser.close();
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package seedu.vms.logic.parser.vaccination;
+
+import seedu.vms.commons.core.Retriever;
+import seedu.vms.logic.commands.vaccination.EligibleVaxTypeCommand;
+import seedu.vms.logic.parser.ArgumentMultimap;
+import seedu.vms.logic.parser.CommandParser;
+import seedu.vms.logic.parser.ParserUtil;
+import seedu.vms.logic.parser.exceptions.ParseException;
+import seedu.vms.model.vaccination.VaxType;
+
+
+/**
+ * Parser for {@link EligibleVaxTypeCommand}.
+ */
+public class EligibleVaxTypeParser implements CommandParser {
+    public static final String COMMAND_WORD = "eligible";
+
+    public static final String MESSAGE_USAGE = VaccinationParser.FEATURE_NAME + " " + COMMAND_WORD
+            + ": Lists the patients that can take the specified vaccination today\n"
+            + "Syntax: "
+            + "vaccination eligible VACCINATION\n"
+            + "Example: "
+            + "vaccination eligible Dose 1 (Moderna)";
+
+
+    @Override
+    public EligibleVaxTypeCommand parse(ArgumentMultimap argsMap) throws ParseException {
+        Retriever<String, VaxType> retriever;
+        try {
+            retriever = ParserUtil.parseVaxRetriever(argsMap.getPreamble());
+        } catch (ParseException parseEx) {
+            throw new ParseException(String.format("VACCINATION: %s\n%s", parseEx.getMessage(), MESSAGE_USAGE));
+        }
+        return new EligibleVaxTypeCommand(retriever);
+    }
+}
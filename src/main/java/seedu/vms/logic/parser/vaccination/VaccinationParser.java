@@ -39,6 +39,9 @@ public class VaccinationParser extends FeatureParser {
         case ClearVaxTypeParser.COMMAND_WORD:
             return new ClearVaxTypeParser().parse(arguments);
 
+        case EligibleVaxTypeParser.COMMAND_WORD:
+            return new EligibleVaxTypeParser().parse(arguments);
+
         default:
             throw new ParseException(Messages.MESSAGE_UNKNOWN_COMMAND);
         }
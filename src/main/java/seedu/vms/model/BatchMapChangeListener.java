@@ -0,0 +1,33 @@
+package seedu.vms.model;
+
+import java.util.List;
+
+import javafx.collections.MapChangeListener;
+
+
+/**
+ * A {@link MapChangeListener} that receives all changes of a bulk update of a
+ * {@link BatchObservableMap} in a single call.
+ *
+ * <p>Maps that do not publish batches notify the listener of each change as
+ * a batch of one.
+ *
+ * @param <K> - the type of the keys.
+ * @param <V> - the type of the values.
+ */
+@FunctionalInterface
+public interface BatchMapChangeListener<K, V> extends MapChangeListener<K, V> {
+    /**
+     * Called after a batch of entries of the observed map has changed. Each
+     * change describes a single entry.
+     *
+     * @param changes - the changes of the batch, in the order they were made.
+     */
+    void onBatchChanged(List<? extends MapChangeListener.Change<? extends K, ? extends V>> changes);
+
+
+    @Override
+    default void onChanged(MapChangeListener.Change<? extends K, ? extends V> change) {
+        onBatchChanged(List.of(change));
+    }
+}
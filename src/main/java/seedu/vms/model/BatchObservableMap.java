@@ -0,0 +1,364 @@
+package seedu.vms.model;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Predicate;
+
+import javafx.beans.InvalidationListener;
+import javafx.collections.MapChangeListener;
+import javafx.collections.ObservableMap;
+
+
+/**
+ * An {@link ObservableMap} that, on top of the usual single entry changes,
+ * supports bulk updates that are published to listeners as a single batch.
+ *
+ * <p>Every entry changed by a bulk update is still described by its own
+ * {@link MapChangeListener.Change}, so listeners that are unaware of batches
+ * are notified as if the entries were changed one by one. Listeners that
+ * implement {@link BatchMapChangeListener} receive all changes of a bulk
+ * update in a single call instead, and invalidation listeners are notified
+ * once per bulk update.
+ *
+ * <p>Keys and values must not be {@code null}. The map is changed by one
+ * thread at a time, but may be read from any thread while it changes, such as
+ * by the UI while data are still being loaded. Reads never fail but may only
+ * see part of a bulk update in progress, so readers should re-read the map
+ * once they are notified of the update.
+ *
+ * @param <K> - the type of the keys.
+ * @param <V> - the type of the values.
+ */
+public class BatchObservableMap<K, V> extends AbstractMap<K, V> implements ObservableMap<K, V> {
+    private final ConcurrentHashMap<K, V> backingMap = new ConcurrentHashMap<>();
+    private final Map<K, V> readOnlyMap = Collections.unmodifiableMap(backingMap);
+    private final ReadOnlyView readOnlyView = new ReadOnlyView();
+
+    private final CopyOnWriteArrayList<MapChangeListener<? super K, ? super V>> changeListeners =
+            new CopyOnWriteArrayList<>();
+    private final CopyOnWriteArrayList<InvalidationListener> invalidationListeners =
+            new CopyOnWriteArrayList<>();
+
+
+    /**
+     * Replaces all entries of this map with the entries of the given map as a
+     * single batch. Only the entries that differ are published as changes.
+     *
+     * @param map - the map whose entries to replace with.
+     */
+    public void setAll(Map<? extends K, ? extends V> map) {
+        Objects.requireNonNull(map);
+        ArrayList<EntryChange> changes = new ArrayList<>();
+        Iterator<Map.Entry<K, V>> iterator = backingMap.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<K, V> entry = iterator.next();
+            if (!map.containsKey(entry.getKey())) {
+                changes.add(new EntryChange(entry.getKey(), entry.getValue(), true, null, false));
+                iterator.remove();
+            }
+        }
+        for (Map.Entry<? extends K, ? extends V> entry : map.entrySet()) {
+            putInBatch(entry.getKey(), entry.getValue(), changes);
+        }
+        fireChanges(changes);
+    }
+
+
+    /**
+     * Puts and removes the given entries as a single batch. The keys to
+     * remove are removed before the entries to put are put.
+     *
+     * @param added - the entries to put.
+     * @param removedKeys - the keys of the entries to remove.
+     */
+    public void update(Map<? extends K, ? extends V> added, Collection<? extends K> removedKeys) {
+        Objects.requireNonNull(added);
+        Objects.requireNonNull(removedKeys);
+        ArrayList<EntryChange> changes = new ArrayList<>();
+        for (K key : removedKeys) {
+            removeInBatch(key, changes);
+        }
+        for (Map.Entry<? extends K, ? extends V> entry : added.entrySet()) {
+            putInBatch(entry.getKey(), entry.getValue(), changes);
+        }
+        fireChanges(changes);
+    }
+
+
+    /**
+     * Removes the entries of all given keys as a single batch.
+     *
+     * @param keys - the keys of the entries to remove.
+     */
+    public void removeAll(Collection<? extends K> keys) {
+        update(Map.of(), keys);
+    }
+
+
+    /**
+     * Removes all entries whose values do not satisfy the given filter as a
+     * single batch. Nothing is published if no entry was removed.
+     *
+     * @param filter - the filter the values to keep must satisfy.
+     * @return {@code true} if any entry was removed.
+     */
+    public boolean retainValues(Predicate<? super V> filter) {
+        Objects.requireNonNull(filter);
+        ArrayList<EntryChange> changes = new ArrayList<>();
+        Iterator<Map.Entry<K, V>> iterator = backingMap.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<K, V> entry = iterator.next();
+            if (!filter.test(entry.getValue())) {
+                changes.add(new EntryChange(entry.getKey(), entry.getValue(), true, null, false));
+                iterator.remove();
+            }
+        }
+        fireChanges(changes);
+        return !changes.isEmpty();
+    }
+
+
+    /**
+     * Returns an unmodifiable view of this map. Listeners added to the view
+     * are notified of the changes of this map, batches included.
+     */
+    public ObservableMap<K, V> asUnmodifiable() {
+        return readOnlyView;
+    }
+
+
+    @Override
+    public V put(K key, V value) {
+        boolean wasPresent = backingMap.containsKey(key);
+        V oldValue = backingMap.put(key, value);
+        fireChanges(List.of(new EntryChange(key, oldValue, wasPresent, value, true)));
+        return oldValue;
+    }
+
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> map) {
+        update(map, List.of());
+    }
+
+
+    @Override
+    public V remove(Object key) {
+        if (!backingMap.containsKey(key)) {
+            return null;
+        }
+        V oldValue = backingMap.remove(key);
+        @SuppressWarnings("unchecked")
+        K castedKey = (K) key;
+        fireChanges(List.of(new EntryChange(castedKey, oldValue, true, null, false)));
+        return oldValue;
+    }
+
+
+    @Override
+    public void clear() {
+        setAll(Map.of());
+    }
+
+
+    @Override
+    public V get(Object key) {
+        return backingMap.get(key);
+    }
+
+
+    @Override
+    public boolean containsKey(Object key) {
+        return backingMap.containsKey(key);
+    }
+
+
+    @Override
+    public int size() {
+        return backingMap.size();
+    }
+
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        return readOnlyMap.entrySet();
+    }
+
+
+    @Override
+    public void addListener(MapChangeListener<? super K, ? super V> listener) {
+        changeListeners.add(Objects.requireNonNull(listener));
+    }
+
+
+    @Override
+    public void removeListener(MapChangeListener<? super K, ? super V> listener) {
+        changeListeners.remove(listener);
+    }
+
+
+    @Override
+    public void addListener(InvalidationListener listener) {
+        invalidationListeners.add(Objects.requireNonNull(listener));
+    }
+
+
+    @Override
+    public void removeListener(InvalidationListener listener) {
+        invalidationListeners.remove(listener);
+    }
+
+
+    private void putInBatch(K key, V value, List<EntryChange> changes) {
+        boolean wasPresent = backingMap.containsKey(key);
+        V oldValue = backingMap.put(key, value);
+        if (!wasPresent || !Objects.equals(oldValue, value)) {
+            changes.add(new EntryChange(key, oldValue, wasPresent, value, true));
+        }
+    }
+
+
+    private void removeInBatch(K key, List<EntryChange> changes) {
+        if (backingMap.containsKey(key)) {
+            changes.add(new EntryChange(key, backingMap.remove(key), true, null, false));
+        }
+    }
+
+
+    private void fireChanges(List<EntryChange> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        for (InvalidationListener listener : invalidationListeners) {
+            listener.invalidated(readOnlyView);
+        }
+        for (MapChangeListener<? super K, ? super V> listener : changeListeners) {
+            if (listener instanceof BatchMapChangeListener) {
+                ((BatchMapChangeListener<? super K, ? super V>) listener).onBatchChanged(changes);
+                continue;
+            }
+            for (EntryChange change : changes) {
+                listener.onChanged(change);
+            }
+        }
+    }
+
+
+
+
+
+    /** A single entry change of this map. */
+    private class EntryChange extends MapChangeListener.Change<K, V> {
+        private final K key;
+        private final V valueRemoved;
+        private final boolean wasRemoved;
+        private final V valueAdded;
+        private final boolean wasAdded;
+
+
+        EntryChange(K key, V valueRemoved, boolean wasRemoved, V valueAdded, boolean wasAdded) {
+            super(readOnlyView);
+            this.key = key;
+            this.valueRemoved = valueRemoved;
+            this.wasRemoved = wasRemoved;
+            this.valueAdded = valueAdded;
+            this.wasAdded = wasAdded;
+        }
+
+
+        @Override
+        public boolean wasAdded() {
+            return wasAdded;
+        }
+
+
+        @Override
+        public boolean wasRemoved() {
+            return wasRemoved;
+        }
+
+
+        @Override
+        public K getKey() {
+            return key;
+        }
+
+
+        @Override
+        public V getValueAdded() {
+            return valueAdded;
+        }
+
+
+        @Override
+        public V getValueRemoved() {
+            return valueRemoved;
+        }
+    }
+
+
+
+
+
+    /**
+     * An unmodifiable view of the map that shares its listeners, so that
+     * batch listeners added to it receive batches.
+     */
+    private class ReadOnlyView extends AbstractMap<K, V> implements ObservableMap<K, V> {
+        @Override
+        public V get(Object key) {
+            return backingMap.get(key);
+        }
+
+
+        @Override
+        public boolean containsKey(Object key) {
+            return backingMap.containsKey(key);
+        }
+
+
+        @Override
+        public int size() {
+            return backingMap.size();
+        }
+
+
+        @Override
+        public Set<Map.Entry<K, V>> entrySet() {
+            return readOnlyMap.entrySet();
+        }
+
+
+        @Override
+        public void addListener(MapChangeListener<? super K, ? super V> listener) {
+            BatchObservableMap.this.addListener(listener);
+        }
+
+
+        @Override
+        public void removeListener(MapChangeListener<? super K, ? super V> listener) {
+            BatchObservableMap.this.removeListener(listener);
+        }
+
+
+        @Override
+        public void addListener(InvalidationListener listener) {
+            BatchObservableMap.this.addListener(listener);
+        }
+
+
+        @Override
+        public void removeListener(InvalidationListener listener) {
+            BatchObservableMap.this.removeListener(listener);
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package seedu.vms.model;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+import seedu.vms.commons.core.ValueChange;
+import seedu.vms.model.patient.Patient;
+import seedu.vms.model.patient.predicates.VaxEligibilityPredicate;
+import seedu.vms.model.vaccination.VaxType;
+
+
+/**
+ * A bounded cache of whether patients can take vaccinations.
+ *
+ * <p>Results are keyed by the ID and version of the patient and the name and
+ * version of the vaccination. Changes to patients and vaccinations bump their
+ * versions instead of searching the cache for the affected results, so stale
+ * results can no longer be hit and are evicted as the least recently used. A
+ * vaccination change also bumps the versions of the vaccinations whose
+ * history requirements involve its groups, as having taken it may affect
+ * whether they can be taken. As ages are counted in years, the cache is
+ * cleared whenever the year it is looked up at changes.
+ *
+ * <p>Only the versions of patients and vaccinations that exist are kept. The
+ * version of a deleted one is dropped, which is safe as adding one back
+ * always gives it a new version.
+ *
+ * <p>All methods are safe to call from any thread.
+ */
+public class EligibilityCache {
+    /** The default maximum number of results cached. */
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    private final LinkedHashMap<Key, Boolean> results;
+    private final HashMap<Integer, Long> patientVersions = new HashMap<>();
+    private final HashMap<String, Long> vaccinationVersions = new HashMap<>();
+    private long lastVersion = 0;
+    private int year;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+
+    /**
+     * Constructs an {@code EligibilityCache}.
+     *
+     * @param capacity - the maximum number of results cached.
+     * @param year - the year the ages of patients are calculated at.
+     */
+    public EligibilityCache(int capacity, int year) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.year = year;
+        results = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Boolean> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+
+    /**
+     * Returns if the given patient can take the given vaccination, evaluating
+     * it only if the result is not cached.
+     *
+     * @param patientData - the patient and its ID.
+     * @param vaxType - the vaccination to check for.
+     * @param vaccinations - all vaccinations, keyed by their names.
+     * @param year - the year the age of the patient is calculated at.
+     */
+    public synchronized boolean canTake(IdData<Patient> patientData, VaxType vaxType,
+                Map<String, VaxType> vaccinations, int year) {
+        if (year != this.year) {
+            results.clear();
+            this.year = year;
+        }
+
+        Key key = new Key(patientData.getId(), patientVersions.getOrDefault(patientData.getId(), 0L),
+                vaxType.getName(), vaccinationVersions.getOrDefault(vaxType.getName(), 0L));
+        Boolean result = results.get(key);
+        if (result != null) {
+            hitCount.increment();
+            return result;
+        }
+
+        missCount.increment();
+        boolean isEligible = new VaxEligibilityPredicate(vaxType, vaccinations, year).test(patientData.getValue());
+        results.put(key, isEligible);
+        return isEligible;
+    }
+
+
+    /**
+     * Invalidates the results of the patient of the given change.
+     *
+     * @param change - the change in state of the patient.
+     */
+    public synchronized void handlePatientChange(ValueChange<IdData<Patient>> change) {
+        change.getOldValue().ifPresent(oldValue -> patientVersions.remove(oldValue.getId()));
+        change.getNewValue().ifPresent(newValue -> patientVersions.put(newValue.getId(), ++lastVersion));
+    }
+
+
+    /**
+     * Invalidates the results affected by the given vaccination change.
+     *
+     * @param change - the change in state of the vaccination.
+     * @param vaccinations - all vaccinations, keyed by their names.
+     */
+    public synchronized void handleVaccinationChange(ValueChange<VaxType> change,
+                Map<String, VaxType> vaccinations) {
+        change.getOldValue().ifPresent(oldValue -> vaccinationVersions.remove(oldValue.getName()));
+        change.getNewValue().ifPresent(newValue -> vaccinationVersions.put(newValue.getName(), ++lastVersion));
+        for (VaxType vaxType : vaccinations.values()) {
+            boolean isAffected = change.getOldValue().map(vaxType.getEvaluator()::dependsOn).orElse(false)
+                    || change.getNewValue().map(vaxType.getEvaluator()::dependsOn).orElse(false);
+            if (isAffected) {
+                vaccinationVersions.put(vaxType.getName(), ++lastVersion);
+            }
+        }
+    }
+
+
+    /** Removes all cached results and the versions they were keyed by. */
+    public synchronized void clear() {
+        results.clear();
+        patientVersions.clear();
+        vaccinationVersions.clear();
+    }
+
+
+    /** Returns the number of results currently cached. */
+    public synchronized int size() {
+        return results.size();
+    }
+
+
+    /** Returns the number of patients and vaccinations whose versions are kept. */
+    synchronized int getVersionCount() {
+        return patientVersions.size() + vaccinationVersions.size();
+    }
+
+
+    /** Returns the number of lookups answered from the cache so far. */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+
+    /** Returns the number of lookups that had to be evaluated so far. */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+
+    @Override
+    public String toString() {
+        return String.format("Eligibility cache: %d hits, %d misses, %d results cached",
+                getHitCount(), getMissCount(), size());
+    }
+
+
+
+
+
+    /** The key of a cached result. */
+    private static class Key {
+        private final int patientId;
+        private final long patientVersion;
+        private final String vaxName;
+        private final long vaxVersion;
+
+
+        Key(int patientId, long patientVersion, String vaxName, long vaxVersion) {
+            this.patientId = patientId;
+            this.patientVersion = patientVersion;
+            this.vaxName = vaxName;
+            this.vaxVersion = vaxVersion;
+        }
+
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) other;
+            return patientId == key.patientId
+                    && patientVersion == key.patientVersion
+                    && vaxName.equals(key.vaxName)
+                    && vaxVersion == key.vaxVersion;
+        }
+
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(patientId, patientVersion, vaxName, vaxVersion);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package seedu.vms.model;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import seedu.vms.commons.core.ValueChange;
+import seedu.vms.model.patient.Patient;
+import seedu.vms.model.patient.predicates.VaxEligibilityPredicate;
+import seedu.vms.model.vaccination.VaxType;
+
+
+/**
+ * A materialized matrix of which patients can take which vaccinations.
+ *
+ * <p>Each vaccination is a column of the IDs of the patients eligible for
+ * it. Columns are kept up to date incrementally: a patient change only
+ * re-evaluates that patient, while a vaccination change only re-evaluates
+ * its own column and the columns whose history requirements involve its
+ * groups. As ages are counted in years, the matrix is recomputed whenever
+ * the year it is evaluated at changes.
+ *
+ * <p>The matrix is safe to read while it is being updated.
+ */
+public class EligibilityMatrix {
+    private final HashMap<String, IdBitmap> columns = new HashMap<>();
+    private int year;
+
+
+    /**
+     * Constructs an empty {@code EligibilityMatrix}.
+     *
+     * @param year - the year the ages of patients are calculated at.
+     */
+    public EligibilityMatrix(int year) {
+        this.year = year;
+    }
+
+
+    /**
+     * Recomputes the whole matrix.
+     *
+     * @param patients - all patients, keyed by their IDs.
+     * @param vaccinations - all vaccinations, keyed by their names.
+     */
+    public void recompute(Map<Integer, IdData<Patient>> patients, Map<String, VaxType> vaccinations) {
+        // columns are independent so they are computed in parallel
+        ConcurrentHashMap<String, IdBitmap> newColumns = new ConcurrentHashMap<>();
+        int currentYear = getYear();
+        vaccinations.values().parallelStream().forEach(vaxType -> newColumns.put(vaxType.getName(),
+                computeColumn(vaxType, patients, vaccinations, currentYear)));
+        synchronized (this) {
+            columns.clear();
+            columns.putAll(newColumns);
+        }
+    }
+
+
+    /**
+     * Recomputes the whole matrix if the given year differs from the one the
+     * matrix was computed at.
+     *
+     * @param newYear - the current year.
+     * @return {@code true} if the matrix was recomputed.
+     */
+    public boolean refresh(int newYear, Map<Integer, IdData<Patient>> patients,
+                Map<String, VaxType> vaccinations) {
+        synchronized (this) {
+            if (newYear == year) {
+                return false;
+            }
+            year = newYear;
+        }
+        recompute(patients, vaccinations);
+        return true;
+    }
+
+
+    /**
+     * Updates the row of the patient of the given change.
+     *
+     * @param change - the change in state of the patient.
+     * @param vaccinations - all vaccinations, keyed by their names.
+     */
+    public synchronized void handlePatientChange(ValueChange<IdData<Patient>> change,
+                Map<String, VaxType> vaccinations) {
+        change.getOldValue().ifPresent(oldValue -> {
+            for (IdBitmap column : columns.values()) {
+                column.remove(oldValue.getId());
+            }
+        });
+        change.getNewValue().ifPresent(newValue -> {
+            for (VaxType vaxType : vaccinations.values()) {
+                if (new VaxEligibilityPredicate(vaxType, vaccinations, year).test(newValue.getValue())) {
+                    columns.computeIfAbsent(vaxType.getName(), unused -> new IdBitmap()).add(newValue.getId());
+                }
+            }
+        });
+    }
+
+
+    /**
+     * Updates the columns affected by the given vaccination change. The
+     * patients and vaccinations given must already reflect the change.
+     *
+     * @param change - the change in state of the vaccination.
+     * @param patients - all patients, keyed by their IDs.
+     * @param vaccinations - all vaccinations, keyed by their names.
+     */
+    public synchronized void handleVaccinationChange(ValueChange<VaxType> change,
+                Map<Integer, IdData<Patient>> patients, Map<String, VaxType> vaccinations) {
+        change.getOldValue().ifPresent(oldValue -> columns.remove(oldValue.getName()));
+        for (VaxType vaxType : vaccinations.values()) {
+            boolean isAffected = change.getNewValue().map(vaxType::equals).orElse(false)
+                    || change.getOldValue().map(vaxType.getEvaluator()::dependsOn).orElse(false)
+                    || change.getNewValue().map(vaxType.getEvaluator()::dependsOn).orElse(false);
+            if (isAffected) {
+                columns.put(vaxType.getName(), computeColumn(vaxType, patients, vaccinations, year));
+            }
+        }
+    }
+
+
+    private static IdBitmap computeColumn(VaxType vaxType, Map<Integer, IdData<Patient>> patients,
+                Map<String, VaxType> vaccinations, int year) {
+        VaxEligibilityPredicate predicate = new VaxEligibilityPredicate(vaxType, vaccinations, year);
+        IdBitmap column = new IdBitmap();
+        for (IdData<Patient> data : patients.values()) {
+            if (predicate.test(data.getValue())) {
+                column.add(data.getId());
+            }
+        }
+        return column;
+    }
+
+
+    /** Returns the year the ages of patients are calculated at. */
+    public synchronized int getYear() {
+        return year;
+    }
+
+
+    /**
+     * Returns the names of the vaccinations the given patient is eligible
+     * for, in no particular order.
+     *
+     * @param patientId - the ID of the patient.
+     */
+    public synchronized List<String> getEligible(int patientId) {
+        ArrayList<String> eligible = new ArrayList<>();
+        for (Map.Entry<String, IdBitmap> column : columns.entrySet()) {
+            if (column.getValue().contains(patientId)) {
+                eligible.add(column.getKey());
+            }
+        }
+        return eligible;
+    }
+}
@@ -44,13 +44,76 @@ public class FilteredIdDataMap<T> extends FilteredMapView<Integer, IdData<T>> {
      */
     public void filter(Collection<Predicate<T>> filters) {
         Objects.requireNonNull(filters);
-        setFilters(filters.stream()
+        setFilters(convertFilters(filters));
+    }
+
+
+    /**
+     * Applies a collection of filters, rescanning only the given candidate
+     * IDs against the residual filters.
+     *
+     * @param filters - the list of filters to use.
+     * @param candidates - the IDs of the data that satisfy all filters not in
+     *      {@code residualFilters}.
+     * @param residualFilters - the filters the candidates are yet to be
+     *      tested against.
+     * @see FilteredMapView#setFilters(Collection, Iterable, Collection)
+     */
+    public void filter(Collection<Predicate<T>> filters, IdBitmap candidates,
+                Collection<Predicate<T>> residualFilters) {
+        Objects.requireNonNull(filters);
+        Objects.requireNonNull(candidates);
+        Objects.requireNonNull(residualFilters);
+        setFilters(convertFilters(filters), candidates, convertFilters(residualFilters));
+    }
+
+
+    private List<Predicate<IdData<T>>> convertFilters(Collection<Predicate<T>> filters) {
+        return filters.stream()
                 .map(this::convertFilter)
-                .collect(Collectors.toList()));
+                .collect(Collectors.toList());
     }
 
 
     private Predicate<IdData<T>> convertFilter(Predicate<T> filter) {
-        return idData -> filter.test(idData.getValue());
+        return new ValueFilter<>(filter);
+    }
+
+
+
+
+
+    /**
+     * A filter on {@code IdData} that tests its value. Two such filters are
+     * equal if the filters on the value are, so that narrowing filters can
+     * be detected.
+     */
+    private static class ValueFilter<T> implements Predicate<IdData<T>> {
+        private final Predicate<T> filter;
+
+
+        ValueFilter(Predicate<T> filter) {
+            this.filter = Objects.requireNonNull(filter);
+        }
+
+
+        @Override
+        public boolean test(IdData<T> idData) {
+            return filter.test(idData.getValue());
+        }
+
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof ValueFilter
+                            && filter.equals(((ValueFilter<?>) other).filter));
+        }
+
+
+        @Override
+        public int hashCode() {
+            return filter.hashCode();
+        }
     }
 }
@@ -1,11 +1,18 @@
 package seedu.vms.model;
 
+import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.LongConsumer;
 import java.util.function.Predicate;
 
-import javafx.collections.FXCollections;
 import javafx.collections.MapChangeListener;
 import javafx.collections.ObservableMap;
 
@@ -13,16 +20,22 @@ import javafx.collections.ObservableMap;
 /**
  * A map that is a filtered view of its bounded map.
  *
+ * <p>Changing the filters and applying changes of the source are
+ * synchronized, so filters may be set from multiple threads.
+ *
  * @param <K> the key of the map.
  * @param <V> the value of the map.
  */
 public class FilteredMapView<K, V> {
     private final ObservableMap<K, V> source;
-    private final ObservableMap<K, V> internalMap;
+    private final BatchObservableMap<K, V> internalMap;
     private final ObservableMap<K, V> unmodifiableMap;
 
     private final ArrayList<Predicate<V>> filters = new ArrayList<>();
 
+    private int parallelThreshold = ParallelFilter.DEFAULT_THRESHOLD;
+    private LongConsumer scanListener = count -> {};
+
 
     /**
      * Constructs a {@code FilteredMapView}.
@@ -30,26 +43,48 @@ public class FilteredMapView<K, V> {
      * @param source - the map to provide a filtered view of.
      */
     public FilteredMapView(ObservableMap<K, V> source) {
-        this.source = FXCollections.unmodifiableObservableMap(source);
-        this.source.addListener(this::handleChange);
-        internalMap = FXCollections.observableHashMap();
-        unmodifiableMap = FXCollections.unmodifiableObservableMap(internalMap);
+        this.source = source;
+        // registered on the source itself so that its batches are not split
+        source.addListener((BatchMapChangeListener<K, V>) this::handleChanges);
+        internalMap = new BatchObservableMap<>();
+        unmodifiableMap = internalMap.asUnmodifiable();
 
         filterSource();
     }
 
 
-    private void handleChange(MapChangeListener.Change<? extends K, ? extends V> change) {
-        if (change.wasRemoved()) {
-            internalMap.remove(change.getKey());
-        }
-        if (change.wasAdded() && test(change.getValueAdded())) {
-            internalMap.put(change.getKey(), change.getValueAdded());
+    /**
+     * Applies a batch of changes of the source, publishing the resulting
+     * changes of the filtered map as a single batch.
+     */
+    private synchronized void handleChanges(
+                List<? extends MapChangeListener.Change<? extends K, ? extends V>> changes) {
+        HashMap<K, V> added = new HashMap<>();
+        HashSet<K> removedKeys = new HashSet<>();
+        long scannedCount = 0;
+        for (MapChangeListener.Change<? extends K, ? extends V> change : changes) {
+            K key = change.getKey();
+            added.remove(key);
+            removedKeys.add(key);
+            if (change.wasAdded()) {
+                scannedCount++;
+                if (test(change.getValueAdded())) {
+                    added.put(key, change.getValueAdded());
+                    removedKeys.remove(key);
+                }
+            }
         }
+        scanListener.accept(scannedCount);
+        internalMap.update(added, removedKeys);
     }
 
 
     private boolean test(V value) {
+        return test(filters, value);
+    }
+
+
+    private static <V> boolean test(Collection<Predicate<V>> filters, V value) {
         for (Predicate<V> filter : filters) {
             if (!filter.test(value)) {
                 return false;
@@ -60,13 +95,59 @@ public class FilteredMapView<K, V> {
 
 
     private void filterSource() {
-        internalMap.clear();
-        for (K key : source.keySet()) {
-            V value = source.get(key);
-            if (test(value)) {
-                internalMap.put(key, value);
+        if (filters.isEmpty()) {
+            internalMap.setAll(source);
+            return;
+        }
+        scanListener.accept(source.size());
+        List<Predicate<V>> filtersSnapshot = List.copyOf(filters);
+        internalMap.setAll(ParallelFilter.filter(
+                source.entrySet(), value -> test(filtersSnapshot, value), parallelThreshold));
+    }
+
+
+    private void retain(List<Predicate<V>> addedFilters) {
+        scanListener.accept(internalMap.size());
+        if (internalMap.size() < parallelThreshold) {
+            internalMap.retainValues(value -> test(addedFilters, value));
+            return;
+        }
+        HashMap<K, V> retained = ParallelFilter.filter(
+                internalMap.entrySet(), value -> test(addedFilters, value), parallelThreshold);
+        if (retained.size() != internalMap.size()) {
+            internalMap.setAll(retained);
+        }
+    }
+
+
+    /**
+     * Returns the filters in {@code newFilters} that are not current filters
+     * if the new filters narrow the current filters, and
+     * {@code Optional.empty} otherwise. The new filters narrow the current
+     * filters if each current filter is either one of the new filters or
+     * {@link NarrowablePredicate#narrows narrowed} by one of them, such as
+     * when a keyword is added to a keyword filter.
+     */
+    private Optional<List<Predicate<V>>> getNarrowingFilters(Collection<Predicate<V>> newFilters) {
+        ArrayList<Predicate<V>> addedFilters = new ArrayList<>(newFilters);
+        addedFilters.removeAll(filters);
+        for (Predicate<V> filter : filters) {
+            if (!newFilters.contains(filter) && !isNarrowed(filter, addedFilters)) {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(addedFilters);
+    }
+
+
+    private static <V> boolean isNarrowed(Predicate<V> filter, List<Predicate<V>> newFilters) {
+        for (Predicate<V> newFilter : newFilters) {
+            if (newFilter instanceof NarrowablePredicate
+                    && ((NarrowablePredicate<?>) newFilter).narrows(filter)) {
+                return true;
             }
         }
+        return false;
     }
 
 
@@ -83,15 +164,116 @@ public class FilteredMapView<K, V> {
     /**
      * Sets the filters to use.
      *
+     * <p>If the new filters narrow the current filters, only the current
+     * result is re-filtered against the added filters. Otherwise, the whole
+     * source is rescanned. Either way, the entries that changed are published
+     * as a single batch.
+     *
      * @param filters - a collection of filters to use.
      */
-    public void setFilters(Collection<Predicate<V>> filters) {
+    public synchronized void setFilters(Collection<Predicate<V>> filters) {
+        Optional<List<Predicate<V>>> addedFilters = getNarrowingFilters(filters);
         this.filters.clear();
         this.filters.addAll(filters);
+        if (addedFilters.isPresent()) {
+            retain(addedFilters.get());
+            return;
+        }
         filterSource();
     }
 
 
+    /**
+     * Sets the filters to use but only rescans the given candidate keys.
+     *
+     * <p>The candidates are expected to be exactly the keys whose values
+     * satisfy every filter not in {@code residualFilters}, so only the
+     * residual filters are tested against them. All filters are still used
+     * to test subsequent changes in the source. If the new filters only
+     * narrow the current filters, the current result is re-filtered instead
+     * as in {@link #setFilters(Collection)}.
+     *
+     * @param filters - all the filters to use.
+     * @param candidates - the keys that may satisfy the filters.
+     * @param residualFilters - the filters that the candidates have yet to
+     *      be tested against.
+     */
+    public synchronized void setFilters(Collection<Predicate<V>> filters, Iterable<K> candidates,
+                Collection<Predicate<V>> residualFilters) {
+        Optional<List<Predicate<V>>> addedFilters = getNarrowingFilters(filters);
+        this.filters.clear();
+        this.filters.addAll(filters);
+        if (addedFilters.isPresent()) {
+            retain(addedFilters.get());
+            return;
+        }
+        ArrayList<Map.Entry<K, V>> candidateEntries = new ArrayList<>();
+        for (K key : candidates) {
+            V value = source.get(key);
+            if (value != null) {
+                candidateEntries.add(new AbstractMap.SimpleImmutableEntry<>(key, value));
+            }
+        }
+        scanListener.accept(candidateEntries.size());
+        List<Predicate<V>> residualSnapshot = List.copyOf(residualFilters);
+        internalMap.setAll(ParallelFilter.filter(
+                candidateEntries, value -> test(residualSnapshot, value), parallelThreshold));
+    }
+
+
+    /**
+     * Sets the number of data from which filtering is split across multiple
+     * threads. Filters set from then on must be safe to evaluate
+     * concurrently.
+     *
+     * @param parallelThreshold - the new threshold.
+     * @throws IllegalArgumentException if the threshold is not positive.
+     */
+    public synchronized void setParallelThreshold(int parallelThreshold) {
+        if (parallelThreshold <= 0) {
+            throw new IllegalArgumentException("Parallel threshold must be positive");
+        }
+        this.parallelThreshold = parallelThreshold;
+    }
+
+
+    /**
+     * Sets the listener of the number of values tested against the filters
+     * whenever values are filtered.
+     *
+     * @param scanListener - the listener of the number of values scanned.
+     */
+    public synchronized void setScanListener(LongConsumer scanListener) {
+        this.scanListener = Objects.requireNonNull(scanListener);
+    }
+
+
+    /**
+     * Returns a predicate that tests values against the current filters.
+     * Filters set afterwards do not affect the returned predicate, so the
+     * source can be streamed through the filters of this moment without
+     * copying the filtered map while it may still change.
+     */
+    public synchronized Predicate<V> getFiltersSnapshot() {
+        List<Predicate<V>> filtersSnapshot = List.copyOf(filters);
+        return value -> test(filtersSnapshot, value);
+    }
+
+
+    /**
+     * Returns the first page of the filtered values under the given order.
+     * Subsequent pages can be fetched from the returned page and reflect the
+     * filtered values at the time they are fetched.
+     *
+     * @param comparator - the order of the values.
+     * @param pageSize - the maximum number of values in a page.
+     * @see ResultPage
+     */
+    public synchronized ResultPage<V> firstPage(Comparator<? super V> comparator, int pageSize) {
+        return ResultPage.first(unmodifiableMap.values(), comparator, pageSize);
+    }
+
+
     /**
      * Returns an unmodifiable map view of the filtered map.
      *
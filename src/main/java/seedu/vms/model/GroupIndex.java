@@ -0,0 +1,102 @@
+package seedu.vms.model;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.vms.commons.util.StringUtil;
+
+
+/**
+ * An inverted index that maps each {@code GroupName} to the IDs of the data
+ * that contains it.
+ */
+public class GroupIndex {
+    private final HashMap<GroupName, IdBitmap> index = new HashMap<>();
+
+
+    /**
+     * Records that the data with the specified ID contains the given groups.
+     *
+     * @param id - the ID of the data.
+     * @param groups - the groups the data contains.
+     */
+    public void add(int id, Collection<GroupName> groups) {
+        for (GroupName group : groups) {
+            index.computeIfAbsent(group, grp -> new IdBitmap()).add(id);
+        }
+    }
+
+
+    /**
+     * Removes the record that the data with the specified ID contains the
+     * given groups.
+     *
+     * @param id - the ID of the data.
+     * @param groups - the groups the data contained.
+     */
+    public void remove(int id, Collection<GroupName> groups) {
+        for (GroupName group : groups) {
+            IdBitmap ids = index.get(group);
+            if (ids == null) {
+                continue;
+            }
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                index.remove(group);
+            }
+        }
+    }
+
+
+    /** Removes all records. */
+    public void clear() {
+        index.clear();
+    }
+
+
+    /**
+     * Returns a copy of the IDs of the data containing the specified group,
+     * wrapped in an {@code Optional}. If no data contains the group,
+     * {@code Optional.empty} is returned instead.
+     */
+    public Optional<IdBitmap> get(GroupName group) {
+        return Optional.ofNullable(index.get(group)).map(IdBitmap::copy);
+    }
+
+
+    /**
+     * Returns the IDs of the data that contains at least one group whose name
+     * matches the given keywords as defined by
+     * {@link StringUtil#isMatching(String, Collection)}.
+     *
+     * <p>Only the distinct group names are matched against, not each data.
+     *
+     * @param keywords - the keywords to match group names with.
+     */
+    public IdBitmap getMatching(Collection<String> keywords) {
+        IdBitmap result = new IdBitmap();
+        for (GroupName group : index.keySet()) {
+            if (StringUtil.isMatching(group.getName(), keywords)) {
+                result = result.or(index.get(group));
+            }
+        }
+        return result;
+    }
+
+
+    /** Returns the groups that are contained by at least one data. */
+    public Set<GroupName> getGroups() {
+        return Set.copyOf(index.keySet());
+    }
+
+
+    /**
+     * Returns the number of data that contains the specified group.
+     */
+    public int count(GroupName group) {
+        IdBitmap ids = index.get(group);
+        return ids == null ? 0 : ids.cardinality();
+    }
+}
@@ -0,0 +1,570 @@
+package seedu.vms.model;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.IntConsumer;
+
+
+/**
+ * A compressed set of non-negative {@code int} IDs.
+ *
+ * <p>IDs are partitioned by their upper 16 bits into containers. Each
+ * container stores the lower 16 bits of its IDs either as a sorted array when
+ * sparse or as a fixed size bit set when dense, switching between the two as
+ * its cardinality crosses {@link #ARRAY_LIMIT}. Intersections and unions are
+ * performed container by container.
+ */
+public class IdBitmap implements Iterable<Integer> {
+    /** The maximum number of values an array container may hold. */
+    public static final int ARRAY_LIMIT = 4096;
+
+    private static final int BITMAP_WORDS = 1 << 10;
+    private static final int INITIAL_CAPACITY = 4;
+
+    private int[] keys = new int[INITIAL_CAPACITY];
+    private Container[] containers = new Container[INITIAL_CAPACITY];
+    private int size = 0;
+
+
+    /** Constructs an empty {@code IdBitmap}. */
+    public IdBitmap() {}
+
+
+    /**
+     * Constructs an {@code IdBitmap} containing the given IDs.
+     *
+     * @param ids - the IDs to add.
+     * @throws IllegalArgumentException if any of the IDs is negative.
+     */
+    public static IdBitmap of(int... ids) {
+        IdBitmap bitmap = new IdBitmap();
+        for (int id : ids) {
+            bitmap.add(id);
+        }
+        return bitmap;
+    }
+
+
+    /**
+     * Adds the specified ID.
+     *
+     * @param id - the ID to add.
+     * @return {@code true} if the ID was not already present.
+     * @throws IllegalArgumentException if the ID is negative.
+     */
+    public boolean add(int id) {
+        checkId(id);
+        int index = findKey(highBits(id));
+        if (index < 0) {
+            index = -index - 1;
+            insertContainer(index, highBits(id), new ArrayContainer());
+        }
+        Container container = containers[index];
+        int oldCardinality = container.cardinality();
+        containers[index] = container.add(lowBits(id));
+        return containers[index].cardinality() != oldCardinality;
+    }
+
+
+    /**
+     * Removes the specified ID.
+     *
+     * @param id - the ID to remove.
+     * @return {@code true} if the ID was present.
+     */
+    public boolean remove(int id) {
+        if (id < 0) {
+            return false;
+        }
+        int index = findKey(highBits(id));
+        if (index < 0) {
+            return false;
+        }
+        Container container = containers[index];
+        int oldCardinality = container.cardinality();
+        containers[index] = container.remove(lowBits(id));
+        boolean isRemoved = containers[index].cardinality() != oldCardinality;
+        if (containers[index].cardinality() == 0) {
+            removeContainer(index);
+        }
+        return isRemoved;
+    }
+
+
+    /** Returns if the specified ID is present. */
+    public boolean contains(int id) {
+        if (id < 0) {
+            return false;
+        }
+        int index = findKey(highBits(id));
+        return index >= 0 && containers[index].contains(lowBits(id));
+    }
+
+
+    /** Returns the number of IDs present. */
+    public int cardinality() {
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            count += containers[i].cardinality();
+        }
+        return count;
+    }
+
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+
+    /**
+     * Returns a new {@code IdBitmap} of the IDs present in both this and the
+     * given bitmap.
+     */
+    public IdBitmap and(IdBitmap other) {
+        IdBitmap result = new IdBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < size && j < other.size) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                Container container = containers[i].and(other.containers[j]);
+                if (container.cardinality() > 0) {
+                    result.appendContainer(keys[i], container);
+                }
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+
+    /**
+     * Returns a new {@code IdBitmap} of the IDs present in either this or the
+     * given bitmap.
+     */
+    public IdBitmap or(IdBitmap other) {
+        IdBitmap result = new IdBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < size || j < other.size) {
+            if (j >= other.size || (i < size && keys[i] < other.keys[j])) {
+                result.appendContainer(keys[i], containers[i].copy());
+                i++;
+            } else if (i >= size || keys[i] > other.keys[j]) {
+                result.appendContainer(other.keys[j], other.containers[j].copy());
+                j++;
+            } else {
+                result.appendContainer(keys[i], containers[i].or(other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+
+    /** Returns a copy of this bitmap. */
+    public IdBitmap copy() {
+        IdBitmap result = new IdBitmap();
+        for (int i = 0; i < size; i++) {
+            result.appendContainer(keys[i], containers[i].copy());
+        }
+        return result;
+    }
+
+
+    /** Performs the given action on each ID in ascending order. */
+    public void forEachId(IntConsumer action) {
+        for (int i = 0; i < size; i++) {
+            containers[i].forEach(keys[i] << 16, action);
+        }
+    }
+
+
+    /** Returns the IDs present in ascending order. */
+    public int[] toArray() {
+        int[] ids = new int[cardinality()];
+        int[] cursor = new int[1];
+        forEachId(id -> ids[cursor[0]++] = id);
+        return ids;
+    }
+
+
+    @Override
+    public Iterator<Integer> iterator() {
+        int[] ids = toArray();
+        return new Iterator<>() {
+            private int cursor = 0;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < ids.length;
+            }
+
+            @Override
+            public Integer next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return ids[cursor++];
+            }
+        };
+    }
+
+
+    private void checkId(int id) {
+        if (id < 0) {
+            throw new IllegalArgumentException("ID cannot be negative");
+        }
+    }
+
+
+    private static int highBits(int id) {
+        return id >>> 16;
+    }
+
+
+    private static char lowBits(int id) {
+        return (char) (id & 0xFFFF);
+    }
+
+
+    private int findKey(int key) {
+        return Arrays.binarySearch(keys, 0, size, key);
+    }
+
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > keys.length) {
+            int newCapacity = Math.max(capacity, keys.length * 2);
+            keys = Arrays.copyOf(keys, newCapacity);
+            containers = Arrays.copyOf(containers, newCapacity);
+        }
+    }
+
+
+    private void insertContainer(int index, int key, Container container) {
+        ensureCapacity(size + 1);
+        System.arraycopy(keys, index, keys, index + 1, size - index);
+        System.arraycopy(containers, index, containers, index + 1, size - index);
+        keys[index] = key;
+        containers[index] = container;
+        size++;
+    }
+
+
+    private void appendContainer(int key, Container container) {
+        ensureCapacity(size + 1);
+        keys[size] = key;
+        containers[size] = container;
+        size++;
+    }
+
+
+    private void removeContainer(int index) {
+        System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+        System.arraycopy(containers, index + 1, containers, index, size - index - 1);
+        size--;
+        containers[size] = null;
+    }
+
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof IdBitmap)) {
+            return false;
+        }
+        return Arrays.equals(toArray(), ((IdBitmap) other).toArray());
+    }
+
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(toArray());
+    }
+
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+
+
+
+
+    /** Stores the lower 16 bits of the IDs that share the same upper bits. */
+    private abstract static class Container {
+        abstract Container add(char value);
+
+        abstract Container remove(char value);
+
+        abstract boolean contains(char value);
+
+        abstract int cardinality();
+
+        abstract Container and(Container other);
+
+        abstract Container or(Container other);
+
+        abstract Container copy();
+
+        abstract void forEach(int base, IntConsumer action);
+    }
+
+
+
+
+
+    /** A container that stores its values as a sorted array. */
+    private static class ArrayContainer extends Container {
+        private char[] values;
+        private int cardinality;
+
+
+        ArrayContainer() {
+            this(new char[INITIAL_CAPACITY], 0);
+        }
+
+
+        ArrayContainer(char[] values, int cardinality) {
+            this.values = values;
+            this.cardinality = cardinality;
+        }
+
+
+        @Override
+        Container add(char value) {
+            int index = Arrays.binarySearch(values, 0, cardinality, value);
+            if (index >= 0) {
+                return this;
+            }
+            if (cardinality >= ARRAY_LIMIT) {
+                return toBitmap().add(value);
+            }
+            index = -index - 1;
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values,
+                        Math.min(ARRAY_LIMIT, Math.max(INITIAL_CAPACITY, values.length * 2)));
+            }
+            System.arraycopy(values, index, values, index + 1, cardinality - index);
+            values[index] = value;
+            cardinality++;
+            return this;
+        }
+
+
+        @Override
+        Container remove(char value) {
+            int index = Arrays.binarySearch(values, 0, cardinality, value);
+            if (index < 0) {
+                return this;
+            }
+            System.arraycopy(values, index + 1, values, index, cardinality - index - 1);
+            cardinality--;
+            return this;
+        }
+
+
+        @Override
+        boolean contains(char value) {
+            return Arrays.binarySearch(values, 0, cardinality, value) >= 0;
+        }
+
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+
+        @Override
+        Container and(Container other) {
+            char[] result = new char[cardinality];
+            int count = 0;
+            for (int i = 0; i < cardinality; i++) {
+                if (other.contains(values[i])) {
+                    result[count++] = values[i];
+                }
+            }
+            return new ArrayContainer(result, count);
+        }
+
+
+        @Override
+        Container or(Container other) {
+            if (other instanceof BitmapContainer) {
+                return other.or(this);
+            }
+            ArrayContainer casted = (ArrayContainer) other;
+            char[] result = new char[cardinality + casted.cardinality];
+            int count = 0;
+            int i = 0;
+            int j = 0;
+            while (i < cardinality || j < casted.cardinality) {
+                if (j >= casted.cardinality || (i < cardinality && values[i] < casted.values[j])) {
+                    result[count++] = values[i++];
+                } else if (i >= cardinality || values[i] > casted.values[j]) {
+                    result[count++] = casted.values[j++];
+                } else {
+                    result[count++] = values[i++];
+                    j++;
+                }
+            }
+            if (count > ARRAY_LIMIT) {
+                return new ArrayContainer(result, count).toBitmap();
+            }
+            return new ArrayContainer(result, count);
+        }
+
+
+        @Override
+        Container copy() {
+            return new ArrayContainer(Arrays.copyOf(values, Math.max(cardinality, 1)), cardinality);
+        }
+
+
+        @Override
+        void forEach(int base, IntConsumer action) {
+            for (int i = 0; i < cardinality; i++) {
+                action.accept(base | values[i]);
+            }
+        }
+
+
+        private BitmapContainer toBitmap() {
+            BitmapContainer bitmap = new BitmapContainer();
+            for (int i = 0; i < cardinality; i++) {
+                bitmap.add(values[i]);
+            }
+            return bitmap;
+        }
+    }
+
+
+
+
+
+    /** A container that stores its values as a bit set. */
+    private static class BitmapContainer extends Container {
+        private final long[] words;
+        private int cardinality;
+
+
+        BitmapContainer() {
+            this(new long[BITMAP_WORDS], 0);
+        }
+
+
+        BitmapContainer(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+
+        @Override
+        Container add(char value) {
+            long mask = 1L << value;
+            if ((words[value >>> 6] & mask) == 0) {
+                words[value >>> 6] |= mask;
+                cardinality++;
+            }
+            return this;
+        }
+
+
+        @Override
+        Container remove(char value) {
+            long mask = 1L << value;
+            if ((words[value >>> 6] & mask) != 0) {
+                words[value >>> 6] &= ~mask;
+                cardinality--;
+            }
+            if (cardinality <= ARRAY_LIMIT) {
+                return toArrayContainer();
+            }
+            return this;
+        }
+
+
+        @Override
+        boolean contains(char value) {
+            return (words[value >>> 6] & (1L << value)) != 0;
+        }
+
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+
+        @Override
+        Container and(Container other) {
+            if (other instanceof ArrayContainer) {
+                return other.and(this);
+            }
+            long[] otherWords = ((BitmapContainer) other).words;
+            long[] result = new long[BITMAP_WORDS];
+            int count = 0;
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                result[i] = words[i] & otherWords[i];
+                count += Long.bitCount(result[i]);
+            }
+            BitmapContainer container = new BitmapContainer(result, count);
+            return count <= ARRAY_LIMIT ? container.toArrayContainer() : container;
+        }
+
+
+        @Override
+        Container or(Container other) {
+            BitmapContainer result = (BitmapContainer) copy();
+            if (other instanceof ArrayContainer) {
+                other.forEach(0, value -> result.add((char) value));
+                return result;
+            }
+            long[] otherWords = ((BitmapContainer) other).words;
+            int count = 0;
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                result.words[i] |= otherWords[i];
+                count += Long.bitCount(result.words[i]);
+            }
+            result.cardinality = count;
+            return result;
+        }
+
+
+        @Override
+        Container copy() {
+            return new BitmapContainer(Arrays.copyOf(words, BITMAP_WORDS), cardinality);
+        }
+
+
+        @Override
+        void forEach(int base, IntConsumer action) {
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    action.accept(base | (i << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+        }
+
+
+        private ArrayContainer toArrayContainer() {
+            char[] values = new char[Math.max(cardinality, 1)];
+            int[] count = new int[1];
+            forEach(0, value -> values[count[0]++] = (char) value);
+            return new ArrayContainer(values, cardinality);
+        }
+    }
+}
@@ -1,9 +1,13 @@
 package seedu.vms.model;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
-import javafx.collections.FXCollections;
 import javafx.collections.ObservableMap;
 import seedu.vms.commons.core.Messages;
 import seedu.vms.commons.core.ValueChange;
@@ -13,7 +17,8 @@ import seedu.vms.commons.exceptions.LimitExceededException;
 /**
  * Represents a map to store ID - data value pairs.
  *
- * <p>ID of values are auto generated within the class.
+ * <p>ID of values are auto generated within the class. Bulk operations are
+ * published to listeners of the map view as a single batch.
  *
  * @param <T> - type of data stored.
  */
@@ -23,7 +28,7 @@ public class IdDataMap<T> {
     private static final int STARTING_INDEX = 0;
 
     private final int limit;
-    private final ObservableMap<Integer, IdData<T>> internalMap;
+    private final BatchObservableMap<Integer, IdData<T>> internalMap;
     private final ObservableMap<Integer, IdData<T>> internalUnmodifiableMap;
 
     private int nextId = STARTING_INDEX;
@@ -42,8 +47,8 @@ public class IdDataMap<T> {
      */
     public IdDataMap(int limit) {
         this.limit = limit;
-        internalMap = FXCollections.observableHashMap();
-        internalUnmodifiableMap = FXCollections.unmodifiableObservableMap(internalMap);
+        internalMap = new BatchObservableMap<>();
+        internalUnmodifiableMap = internalMap.asUnmodifiable();
     }
 
 
@@ -74,19 +79,66 @@ public class IdDataMap<T> {
      */
     public IdData<T> add(IdData<T> data) throws LimitExceededException {
         Objects.requireNonNull(data);
-        if (!isWithinLimit(data.getId())) {
-            // if ID exceeds limit
-            throw new LimitExceededException(String.format(Messages.FORMAT_LIMIT_EX, limit));
-        } else if (!isValidId(data.getId())) {
-            // all other cases of invalid ID
-            throw new IllegalArgumentException("Invalid ID");
-        }
+        requireValidId(data.getId());
         internalMap.put(data.getId(), data);
         nextId = Math.max(nextId, data.getId() + 1);
         return data;
     }
 
 
+    /**
+     * Adds all the given data to the map as a single batch. Data whose IDs
+     * are already mapped replace the values mapped to them.
+     *
+     * @param datas - the data to add.
+     * @throws LimitExceededException if the ID of any data exceeds the limit.
+     *      None of the data are added.
+     * @throws IllegalArgumentException if the ID of any data is invalid. None
+     *      of the data are added.
+     */
+    public void addDatas(Collection<IdData<T>> datas) throws LimitExceededException {
+        Objects.requireNonNull(datas);
+        HashMap<Integer, IdData<T>> added = new HashMap<>();
+        for (IdData<T> data : datas) {
+            requireValidId(data.getId());
+            added.put(data.getId(), data);
+        }
+        internalMap.putAll(added);
+        for (int id : added.keySet()) {
+            nextId = Math.max(nextId, id + 1);
+        }
+    }
+
+
+    /**
+     * Adds all the given values to the map, in the order of the collection,
+     * as a single batch.
+     *
+     * <p>Unlike adding the values one by one, none of the values are added
+     * if there is no space for all of them.
+     *
+     * @param values - the values to add.
+     * @return the data added, in the order of the collection.
+     * @throws LimitExceededException if adding the values would exceed the
+     *      limit.
+     */
+    public List<IdData<T>> addAll(Collection<T> values) throws LimitExceededException {
+        Objects.requireNonNull(values);
+        if (values.size() > limit - internalMap.size()) {
+            throw new LimitExceededException(String.format(Messages.FORMAT_LIMIT_EX, limit));
+        }
+        LinkedHashMap<Integer, IdData<T>> added = new LinkedHashMap<>();
+        for (T value : values) {
+            Objects.requireNonNull(value);
+            int id = nextFreeId(added);
+            added.put(id, new IdData<>(id, value));
+            nextId++;
+        }
+        internalMap.putAll(added);
+        return new ArrayList<>(added.values());
+    }
+
+
     /**
      * Sets the specified ID's value to the given value. If there is already a
      * mapping to the given ID, that ID associated value is replaced with the
@@ -104,6 +156,28 @@ public class IdDataMap<T> {
     }
 
 
+    /**
+     * Sets the values of all the given IDs as a single batch. Values already
+     * mapped to the IDs are replaced with the given.
+     *
+     * @param values - the values to set, keyed by their IDs.
+     * @return the {@code ValueChange}s that describe the changes that have
+     *      occurred.
+     */
+    public List<ValueChange<IdData<T>>> set(Map<Integer, T> values) {
+        Objects.requireNonNull(values);
+        HashMap<Integer, IdData<T>> newDatas = new HashMap<>();
+        ArrayList<ValueChange<IdData<T>>> changes = new ArrayList<>(values.size());
+        for (Map.Entry<Integer, T> entry : values.entrySet()) {
+            IdData<T> newValue = new IdData<>(entry.getKey(), Objects.requireNonNull(entry.getValue()));
+            newDatas.put(entry.getKey(), newValue);
+            changes.add(new ValueChange<>(internalMap.get(entry.getKey()), newValue));
+        }
+        internalMap.putAll(newDatas);
+        return changes;
+    }
+
+
     /**
      * Removes the data associated to the specified ID.
      *
@@ -117,6 +191,28 @@ public class IdDataMap<T> {
     }
 
 
+    /**
+     * Removes the data associated to all the given IDs as a single batch. IDs
+     * without data are ignored.
+     *
+     * @param ids - the IDs of the data to remove.
+     * @return the {@code ValueChange}s that describe the changes that have
+     *      occurred.
+     */
+    public List<ValueChange<IdData<T>>> removeAll(Collection<Integer> ids) {
+        Objects.requireNonNull(ids);
+        ArrayList<ValueChange<IdData<T>>> changes = new ArrayList<>(ids.size());
+        for (int id : ids) {
+            IdData<T> removedData = internalMap.get(id);
+            if (removedData != null) {
+                changes.add(new ValueChange<>(removedData, null));
+            }
+        }
+        internalMap.removeAll(ids);
+        return changes;
+    }
+
+
     /**
      * Resets the ID count.
      */
@@ -138,25 +234,35 @@ public class IdDataMap<T> {
 
 
     /**
-     * Clears and sets the stored data to the given collection of datas.
+     * Clears and sets the stored data to the given collection of datas as a
+     * single batch. Only the data that differ from the stored data are
+     * published as changes.
      *
      * @param datas - the collection of data to set to.
      * @throws LimitExceededException if there exists a data whose ID is over
-     *      the limit of this {@code IdDataMap}.
+     *      the limit of this {@code IdDataMap}. The data before it will still
+     *      be set.
      * @throws IllegalArgumentException if there exists a data whose ID is
-     *      invalid.
+     *      invalid. The data before it will still be set.
      */
     public void setDatas(Collection<IdData<T>> datas) {
-        internalMap.clear();
+        HashMap<Integer, IdData<T>> newMap = new HashMap<>();
         nextId = STARTING_INDEX;
-        for (IdData<T> data : datas) {
-            add(data);
+        try {
+            for (IdData<T> data : datas) {
+                requireValidId(data.getId());
+                newMap.put(data.getId(), data);
+                nextId = Math.max(nextId, data.getId() + 1);
+            }
+        } finally {
+            internalMap.setAll(newMap);
         }
     }
 
 
     /**
-     * Clears and sets the stored value to the given collection of values.
+     * Clears and sets the stored value to the given collection of values as a
+     * single batch.
      *
      * <p>The ID will be reset as well.
      *
@@ -165,10 +271,19 @@ public class IdDataMap<T> {
      *      few values before the limit is reached will still be added.
      */
     public void setValues(Collection<T> values) {
-        internalMap.clear();
+        HashMap<Integer, IdData<T>> newMap = new HashMap<>();
         nextId = STARTING_INDEX;
-        for (T value : values) {
-            add(value);
+        try {
+            for (T value : values) {
+                Objects.requireNonNull(value);
+                if (newMap.size() >= limit) {
+                    throw new LimitExceededException(String.format(Messages.FORMAT_LIMIT_EX, limit));
+                }
+                newMap.put(nextId, new IdData<>(nextId, value));
+                nextId++;
+            }
+        } finally {
+            internalMap.setAll(newMap);
         }
     }
 
@@ -196,7 +311,16 @@ public class IdDataMap<T> {
         if (internalMap.size() >= limit) {
             throw new LimitExceededException(String.format(Messages.FORMAT_LIMIT_EX, limit));
         }
-        while (contains(nextId) || !isValidId(nextId)) {
+        return nextFreeId(Map.of());
+    }
+
+
+    /**
+     * Returns the next ID that is neither mapped nor one of the given pending
+     * IDs, moving the ID count to it.
+     */
+    private int nextFreeId(Map<Integer, ?> pending) {
+        while (contains(nextId) || pending.containsKey(nextId) || !isValidId(nextId)) {
             if (isValidId(nextId)) {
                 nextId++;
             } else {
@@ -207,6 +331,17 @@ public class IdDataMap<T> {
     }
 
 
+    private void requireValidId(int id) throws LimitExceededException {
+        if (!isWithinLimit(id)) {
+            // if ID exceeds limit
+            throw new LimitExceededException(String.format(Messages.FORMAT_LIMIT_EX, limit));
+        } else if (!isValidId(id)) {
+            // all other cases of invalid ID
+            throw new IllegalArgumentException("Invalid ID");
+        }
+    }
+
+
     /** Returns if the given ID is valid. */
     private boolean isValidId(int id) {
         return 0 <= id && id < limit;
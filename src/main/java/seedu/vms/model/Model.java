@@ -2,14 +2,15 @@ package seedu.vms.model;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.locks.Lock;
 import java.util.function.Predicate;
 
-import javafx.beans.property.ObjectProperty;
-import javafx.collections.ObservableList;
 import javafx.collections.ObservableMap;
+import seedu.vms.commons.core.CommandStats;
 import seedu.vms.commons.core.GuiSettings;
 import seedu.vms.commons.core.Retriever;
 import seedu.vms.commons.core.ValueChange;
+import seedu.vms.commons.core.ValueProperty;
 import seedu.vms.commons.exceptions.IllegalValueException;
 import seedu.vms.commons.exceptions.UnexpectedChangeException;
 import seedu.vms.logic.parser.ParseResult;
@@ -20,6 +21,7 @@ import seedu.vms.model.keyword.Keyword;
 import seedu.vms.model.keyword.KeywordManager;
 import seedu.vms.model.patient.Patient;
 import seedu.vms.model.patient.ReadOnlyPatientManager;
+import seedu.vms.model.query.QueryPlan;
 import seedu.vms.model.vaccination.ReadOnlyVaxTypeManage;
 import seedu.vms.model.vaccination.VaxType;
 import seedu.vms.model.vaccination.VaxTypeManager;
@@ -37,6 +39,53 @@ public interface Model {
     /** {@code Predicate} that always evaluate to true */
     Predicate<Keyword> PREDICATE_SHOW_ALL_KEYWORDS = unused -> true;
 
+    /**
+     * Returns the lock that guards the data of this model. Commands hold it
+     * while they execute, as do the loading of data and the scheduled
+     * refreshes of eligibility. Since nearly every lookup also changes what
+     * is displayed, commands are not split into readers and writers.
+     */
+    Lock getLock();
+
+    /**
+     * Returns the latency stats of the commands executed on this model. The
+     * filters of the model add the number of records they scan to it.
+     */
+    CommandStats getCommandStats();
+
+    /**
+     * Begins a transaction. Changes made until it is committed or rolled
+     * back are applied and cascaded right away and journaled so that they can
+     * be undone, but the validation of unforced deletions is deferred until it
+     * is committed.
+     *
+     * @throws IllegalStateException if a transaction is already in progress.
+     */
+    void beginTransaction();
+
+    /**
+     * Commits the transaction in progress, validating its unforced deletions
+     * at once. The transaction is no longer in progress afterwards, whether
+     * or not it could be committed.
+     *
+     * @throws UnexpectedChangeException if the unforced deletions of the
+     *      transaction have deleted appointments. The transaction is rolled
+     *      back.
+     * @throws IllegalStateException if no transaction is in progress.
+     */
+    void commitTransaction() throws UnexpectedChangeException;
+
+    /**
+     * Rolls back the transaction in progress, undoing its changes in reverse
+     * order so that the data of the model is as when it began.
+     *
+     * @throws IllegalStateException if no transaction is in progress.
+     */
+    void rollbackTransaction();
+
+    /** Returns if a transaction is in progress. */
+    boolean isInTransaction();
+
     /**
      * Replaces user prefs data with the data in {@code userPrefs}.
      */
@@ -79,6 +128,26 @@ public interface Model {
     void handlePatientChange(ValueChange<IdData<Patient>> change);
 
 
+    /**
+     * Returns the list of appointments that will be deleted if all the
+     * specified changes were to occur. Unlike validating the changes one by
+     * one, the appointments are scanned only once.
+     *
+     * @param changes - the changes in state of patients to check.
+     * @return the appointments that will be deleted.
+     */
+    List<IdData<Appointment>> validatePatientChanges(Collection<ValueChange<IdData<Patient>>> changes);
+
+
+    /**
+     * Handles the specified changes in state of patients as a batch. The
+     * detailed patient is only updated if it is among the changed patients.
+     *
+     * @param changes - the changes to handle.
+     */
+    void handlePatientChanges(Collection<ValueChange<IdData<Patient>>> changes);
+
+
     /**
      * Validates if a vaccination change will result in appointments to be
      * deleted. Returns a list of messages of the deletion change that will
@@ -160,6 +229,20 @@ public interface Model {
      */
     void deletePatient(int id, boolean isForce) throws UnexpectedChangeException;
 
+    /**
+     * Deletes all the given patients as a single batch. The cascades of the
+     * deletion are validated for all patients at once and nothing is deleted
+     * if any appointment would be deleted without {@code isForce}.
+     * The patients must exist in the patient manager.
+     */
+    void deletePatients(Collection<Integer> ids, boolean isForce) throws UnexpectedChangeException;
+
+    /**
+     * Returns the IDs of the patients that satisfy all the given filters,
+     * without changing the filtered patient list.
+     */
+    List<Integer> findPatientIds(Collection<Predicate<Patient>> filters);
+
 
     /**
      * Resets patient manager's ID count.
@@ -172,6 +255,54 @@ public interface Model {
      */
     void addPatient(Patient patient);
 
+    /**
+     * Adds all the given patients in order as a single batch. None of the
+     * patients are added if there is no space for all of them. Unlike
+     * {@link #addPatient(Patient)}, the filters of the patients are kept.
+     *
+     * @throws seedu.vms.commons.exceptions.LimitExceededException if there is
+     *      no space for all the patients.
+     */
+    void addPatients(Collection<Patient> patients);
+
+    /**
+     * Adds the given patient data with their IDs as they are, as a single
+     * batch. Used to display patients while they are still being loaded.
+     */
+    void loadPatients(Collection<IdData<Patient>> patientDatas);
+
+    /**
+     * Returns the names of the vaccinations the given patient can take this
+     * year, in sorted order. The eligibility of patients is kept up to date
+     * as patients and vaccinations change, so this takes no re-evaluation.
+     *
+     * @param patientId - the ID of the patient.
+     */
+    List<String> getEligibleVaccinations(int patientId);
+
+    /**
+     * Re-evaluates the eligibility of all patients if the given year differs
+     * from the year their ages were last calculated at.
+     *
+     * @param year - the current year.
+     */
+    void refreshEligibility(int year);
+
+    /**
+     * Returns if the given patient can take the given vaccination this year.
+     * Results are cached until the patient, the vaccination or the
+     * vaccinations its history requirements involve change.
+     *
+     * @param patientId - the ID of the patient.
+     * @param vaxType - the vaccination to check for.
+     * @throws IllegalArgumentException if there is no patient with the given
+     *      ID.
+     */
+    boolean canTakeVaccination(int patientId, VaxType vaxType);
+
+    /** Returns the cache of the eligibility of patients, along with its hit and miss counts. */
+    EligibilityCache getEligibilityCache();
+
     /**
      * Replaces the given patient {@code target} with {@code editedPatient}.
      * {@code target} must exist in the patient manager.
@@ -189,12 +320,25 @@ public interface Model {
     /** Returns an unmodifiable view of the filtered patient list */
     ObservableMap<Integer, IdData<Patient>> getFilteredPatientList();
 
-    void setPatientFilters(Collection<Predicate<Patient>> filters);
+    /**
+     * Returns a predicate that tests patient data against the current filters
+     * of the filtered patient list. Later changes of the filters do not
+     * affect the returned predicate.
+     */
+    Predicate<IdData<Patient>> getPatientFiltersSnapshot();
+
+    /**
+     * Sets the filters of the filtered patient list to the conjunction of the
+     * given filters.
+     *
+     * @return the plan used to apply the filters.
+     */
+    QueryPlan<Patient> setPatientFilters(Collection<Predicate<Patient>> filters);
 
     /**
      * Returns the detailed patient property.
      */
-    ObjectProperty<IdData<Patient>> detailedPatientProperty();
+    ValueProperty<IdData<Patient>> detailedPatientProperty();
 
 
     void setDetailedPatient(IdData<Patient> patient);
@@ -265,10 +409,10 @@ public interface Model {
 
 
     /**
-     * Returns an {@code ObjectProperty} of the {@code VaxType} that should
+     * Returns a {@code ValueProperty} of the {@code VaxType} that should
      * be detailed.
      */
-    ObjectProperty<VaxType> detailedVaccinationProperty();
+    ValueProperty<VaxType> detailedVaccinationProperty();
 
 
     /** Sets {@code VaxType} to be detailed. */
@@ -277,6 +421,8 @@ public interface Model {
 
     /**
      * Gets the {@code VaxType} that the specified {@code Retriever} refers to.
+     * Indexes refer to the filtered vaccinations sorted by name, which is the
+     * order they are displayed in.
      *
      * @throws IllegalValueException if the {@code VaxType} cannot be
      *      retrieved.
@@ -284,13 +430,6 @@ public interface Model {
     VaxType getVaccination(Retriever<String, VaxType> retriever) throws IllegalValueException;
 
 
-    /**
-     * Binds the given {@code ObservableList} of {@code VaxType} to this
-     * {@code Model}.
-     */
-    void bindVaccinationDisplayList(ObservableList<VaxType> displayList);
-
-
     // @@author nusE0726844
     /*
      * ========================================================================
@@ -315,6 +454,12 @@ public interface Model {
      */
     void deleteAppointment(int id);
 
+    /**
+     * Deletes all the given appointments as a single batch.
+     * The appointments must exist in the appointment manager.
+     */
+    void deleteAppointments(Collection<Integer> ids);
+
     /**
      * Replaces the given appointment {@code target} with {@code editedAppointment}.
      * {@code target} must exist in the appointment manager.
@@ -329,6 +474,18 @@ public interface Model {
      */
     void markAppointment(int id);
 
+    /**
+     * Marks all the given appointments as completed as a single batch.
+     * The appointments must exist in the appointment manager.
+     */
+    void markAppointments(Collection<Integer> ids);
+
+    /**
+     * Returns the IDs of the appointments that satisfy all the given filters,
+     * without changing the filtered appointment list.
+     */
+    List<Integer> findAppointmentIds(Collection<Predicate<Appointment>> filters);
+
     /**
      * Unmarks the given appointment as completed.
      * The appointment must exist in the appointment manager.
@@ -341,8 +498,21 @@ public interface Model {
      */
     void updateFilteredAppointmentList(Predicate<Appointment> predicate);
 
-    void setAppointmentFilters(Collection<Predicate<Appointment>> filters);
+    /**
+     * Sets the filters of the filtered appointment map to the conjunction of
+     * the given filters.
+     *
+     * @return the plan used to apply the filters.
+     */
+    QueryPlan<Appointment> setAppointmentFilters(Collection<Predicate<Appointment>> filters);
 
     /** Returns an unmodifiable view of the filtered appointment map. */
     ObservableMap<Integer, IdData<Appointment>> getFilteredAppointmentMap();
+
+    /**
+     * Returns a predicate that tests appointment data against the current
+     * filters of the filtered appointment map. Later changes of the filters do
+     * not affect the returned predicate.
+     */
+    Predicate<IdData<Appointment>> getAppointmentFiltersSnapshot();
 }
@@ -3,22 +3,25 @@ package seedu.vms.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.vms.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
-import javafx.beans.property.ObjectProperty;
-import javafx.beans.property.SimpleObjectProperty;
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
 import javafx.collections.ObservableMap;
+import seedu.vms.commons.core.CommandStats;
 import seedu.vms.commons.core.GuiSettings;
 import seedu.vms.commons.core.LogsCenter;
 import seedu.vms.commons.core.Messages;
 import seedu.vms.commons.core.Retriever;
 import seedu.vms.commons.core.ValueChange;
+import seedu.vms.commons.core.ValueProperty;
 import seedu.vms.commons.exceptions.IllegalValueException;
 import seedu.vms.commons.exceptions.UnexpectedChangeException;
 import seedu.vms.commons.util.StringUtil;
@@ -32,6 +35,8 @@ import seedu.vms.model.keyword.KeywordManager;
 import seedu.vms.model.patient.Patient;
 import seedu.vms.model.patient.PatientManager;
 import seedu.vms.model.patient.ReadOnlyPatientManager;
+import seedu.vms.model.query.QueryPlan;
+import seedu.vms.model.query.QueryPlanner;
 import seedu.vms.model.vaccination.VaxType;
 import seedu.vms.model.vaccination.VaxTypeManager;
 
@@ -41,8 +46,8 @@ import seedu.vms.model.vaccination.VaxTypeManager;
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
-    private final ObjectProperty<IdData<Patient>> detailedPatientProperty = new SimpleObjectProperty<>();
-    private final ObjectProperty<VaxType> detailedVaccinationProperty = new SimpleObjectProperty<>();
+    private final ValueProperty<IdData<Patient>> detailedPatientProperty = new ValueProperty<>();
+    private final ValueProperty<VaxType> detailedVaccinationProperty = new ValueProperty<>();
 
     private final PatientManager patientManager;
     private final AppointmentManager appointmentManager;
@@ -54,9 +59,19 @@ public class ModelManager implements Model {
     private final FilteredMapView<String, VaxType> filteredVaxTypeMap;
     private final FilteredIdDataMap<Appointment> filteredAppointmentMap;
 
+    private final QueryPlanner<Patient> patientPlanner;
+    private final QueryPlanner<Appointment> appointmentPlanner;
+
     private final VmsParser vmsParser;
+    private final CommandStats commandStats = new CommandStats();
+    private final EligibilityMatrix eligibilityMatrix = new EligibilityMatrix(LocalDate.now().getYear());
+    private final EligibilityCache eligibilityCache =
+            new EligibilityCache(EligibilityCache.DEFAULT_CAPACITY, LocalDate.now().getYear());
+
+    private Transaction transaction = null;
 
-    private ObservableList<VaxType> vaxDisplayList = null;
+    // fair so that a waiting change is not starved by a stream of reads
+    private final ReentrantLock lock = new ReentrantLock(true);
 
     /**
      * Initializes a ModelManager with the given patientManager and userPrefs.
@@ -69,9 +84,11 @@ public class ModelManager implements Model {
 
         this.patientManager = new PatientManager(patientManager);
         filteredPatientMap = new FilteredIdDataMap<>(this.patientManager.getMapView());
+        patientPlanner = new QueryPlanner<>(this.patientManager::findIndexed);
 
         this.appointmentManager = new AppointmentManager(appointmentManager);
         filteredAppointmentMap = new FilteredIdDataMap<>(this.appointmentManager.getMapView());
+        appointmentPlanner = new QueryPlanner<>();
 
         this.keywordManager = new KeywordManager();
 
@@ -81,6 +98,11 @@ public class ModelManager implements Model {
         this.userPrefs = new UserPrefs(userPrefs);
 
         this.vmsParser = new VmsParser();
+
+        filteredPatientMap.setScanListener(commandStats::addScanned);
+        filteredAppointmentMap.setScanListener(commandStats::addScanned);
+        filteredVaxTypeMap.setScanListener(commandStats::addScanned);
+        recomputeEligibility();
     }
 
     /**
@@ -119,12 +141,140 @@ public class ModelManager implements Model {
         return userPrefs.getGuiSettings();
     }
 
+    @Override
+    public Lock getLock() {
+        return lock;
+    }
+
+    @Override
+    public CommandStats getCommandStats() {
+        return commandStats;
+    }
+
     @Override
     public void setGuiSettings(GuiSettings guiSettings) {
         requireNonNull(guiSettings);
         userPrefs.setGuiSettings(guiSettings);
     }
 
+    // =========== Transactions ==================================================================================
+
+    @Override
+    public void beginTransaction() {
+        if (transaction != null) {
+            throw new IllegalStateException("A transaction is already in progress");
+        }
+        transaction = new Transaction();
+        transaction.journal(patientManager.getMapView(),
+                (id, data) -> patientManager.add(data), patientManager::remove);
+        transaction.journal(appointmentManager.getMapView(),
+                (id, data) -> appointmentManager.add(data), appointmentManager::remove);
+        transaction.journal(vaxTypeManager.asUnmodifiableObservableMap(),
+                this::restoreVaccination, vaxTypeManager::remove);
+    }
+
+    @Override
+    public void commitTransaction() throws UnexpectedChangeException {
+        Transaction committed = requireTransaction();
+        transaction = null;
+        if (!committed.getInvalidAppointments().isEmpty()) {
+            undo(committed);
+            requireNoInvalidAppointments(committed.getInvalidAppointments());
+        }
+        committed.end();
+    }
+
+    @Override
+    public void rollbackTransaction() {
+        Transaction rolledBack = requireTransaction();
+        transaction = null;
+        undo(rolledBack);
+    }
+
+    @Override
+    public boolean isInTransaction() {
+        return transaction != null;
+    }
+
+    private Transaction requireTransaction() {
+        if (transaction == null) {
+            throw new IllegalStateException("No transaction in progress");
+        }
+        return transaction;
+    }
+
+    /**
+     * Undoes the changes of the given transaction. The cascades are undone
+     * along with them, as the appointments and patients they changed are
+     * journaled too, and the eligibility of patients is recomputed.
+     */
+    private void undo(Transaction undone) {
+        undone.undo();
+        recomputeEligibility();
+
+        IdData<Patient> detailedPatient = detailedPatientProperty.get();
+        if (detailedPatient != null) {
+            detailedPatientProperty.set(patientManager.get(detailedPatient.getId()));
+        }
+        VaxType detailedVaccination = detailedVaccinationProperty.get();
+        if (detailedVaccination != null) {
+            detailedVaccinationProperty.set(vaxTypeManager.get(detailedVaccination.getName()).orElse(null));
+        }
+    }
+
+    /** Maps the given name back to the given vaccination when undoing a change. */
+    private void restoreVaccination(String name, VaxType vaxType) {
+        try {
+            if (vaxTypeManager.contains(name)) {
+                vaxTypeManager.set(name, vaxType);
+            } else {
+                vaxTypeManager.add(vaxType);
+            }
+        } catch (IllegalValueException illValEx) {
+            throw new IllegalStateException("Vaccination cannot be restored: " + name, illValEx);
+        }
+    }
+
+    /**
+     * Cascades the given patient changes. In a transaction, the appointments
+     * that unvalidated changes delete are recorded to be validated on commit.
+     *
+     * @param changes - the changes that have been made.
+     * @param isValidated - if the changes have to be validated when a
+     *      transaction is committed.
+     */
+    private void cascadePatientChanges(List<ValueChange<IdData<Patient>>> changes, boolean isValidated) {
+        if (transaction != null && isValidated) {
+            transaction.addInvalidAppointments(validatePatientChanges(changes));
+        }
+        handlePatientChanges(changes);
+    }
+
+    /**
+     * Cascades the given vaccination change. In a transaction, the
+     * appointments that an unvalidated change deletes are recorded to be
+     * validated on commit.
+     *
+     * @param change - the change that has been made.
+     * @param isValidated - if the change has to be validated when a
+     *      transaction is committed.
+     */
+    private void cascadeVaccinationChange(ValueChange<VaxType> change, boolean isValidated) {
+        if (transaction != null && isValidated) {
+            transaction.addInvalidAppointments(validateVaccinationChange(change));
+        }
+        handleVaccinationChange(change);
+    }
+
+    private static void requireNoInvalidAppointments(List<IdData<Appointment>> invalidAppointments)
+                throws UnexpectedChangeException {
+        if (!invalidAppointments.isEmpty()) {
+            throw new UnexpectedChangeException(String.format(
+                    Messages.FORMAT_UNEXPECTED_APPOINTMENT_CHANGE,
+                    StringUtil.formatAppointmentListing(invalidAppointments)));
+        }
+    }
+
     // =========== Parsing =======================================================================================
 
     @Override
@@ -137,6 +287,7 @@ public class ModelManager implements Model {
     @Override
     public void setPatientManager(ReadOnlyPatientManager patientManager) {
         this.patientManager.resetData(patientManager);
+        recomputeEligibility();
     }
 
     @Override
@@ -155,20 +306,37 @@ public class ModelManager implements Model {
         IdData<Patient> oldValue = patientManager.get(id);
         ValueChange<IdData<Patient>> change = new ValueChange<>(oldValue, null);
 
-        // validation
-        ArrayList<IdData<Appointment>> invalidAppointments = new ArrayList<>();
-        if (!isForce) {
-            invalidAppointments.addAll(validatePatientChange(change));
-        }
-        if (!invalidAppointments.isEmpty()) {
-            throw new UnexpectedChangeException(String.format(
-                    Messages.FORMAT_UNEXPECTED_APPOINTMENT_CHANGE,
-                    StringUtil.formatAppointmentListing(invalidAppointments)));
+        // validation, deferred to commit in a transaction
+        if (!isForce && transaction == null) {
+            requireNoInvalidAppointments(validatePatientChange(change));
         }
 
         // deletion
         patientManager.remove(id);
-        handlePatientChange(change);
+        cascadePatientChanges(List.of(change), !isForce);
+        updatePatientDetail(change);
+    }
+
+    @Override
+    public void deletePatients(Collection<Integer> ids, boolean isForce) throws UnexpectedChangeException {
+        ArrayList<ValueChange<IdData<Patient>>> changes = new ArrayList<>(ids.size());
+        for (int id : ids) {
+            changes.add(new ValueChange<>(patientManager.get(id), null));
+        }
+
+        if (!isForce && transaction == null) {
+            requireNoInvalidAppointments(validatePatientChanges(changes));
+        }
+
+        patientManager.removeAll(ids);
+        cascadePatientChanges(changes, !isForce);
+    }
+
+    @Override
+    public List<Integer> findPatientIds(Collection<Predicate<Patient>> filters) {
+        requireNonNull(filters);
+        return findIds(patientPlanner.plan(filters, patientManager.getMapView().values()),
+                patientManager.getMapView());
     }
 
     @Override
@@ -180,7 +348,30 @@ public class ModelManager implements Model {
     public void addPatient(Patient patient) {
         IdData<Patient> newValue = patientManager.add(patient);
         updateFilteredPatientList(PREDICATE_SHOW_ALL_PATIENTS);
-        handlePatientChange(new ValueChange<>(null, newValue));
+        ValueChange<IdData<Patient>> change = new ValueChange<>(null, newValue);
+        cascadePatientChanges(List.of(change), false);
+        updatePatientDetail(change);
+    }
+
+    @Override
+    public void addPatients(Collection<Patient> patients) {
+        // added as a single batch that the filtered patients take in at once
+        List<IdData<Patient>> newValues = patientManager.addAll(patients);
+        ArrayList<ValueChange<IdData<Patient>>> changes = new ArrayList<>(newValues.size());
+        for (IdData<Patient> newValue : newValues) {
+            changes.add(new ValueChange<>(null, newValue));
+        }
+        cascadePatientChanges(changes, false);
+    }
+
+    @Override
+    public void loadPatients(Collection<IdData<Patient>> patientDatas) {
+        patientManager.addDatas(patientDatas);
+        ArrayList<ValueChange<IdData<Patient>>> changes = new ArrayList<>(patientDatas.size());
+        for (IdData<Patient> patientData : patientDatas) {
+            changes.add(new ValueChange<>(null, patientData));
+        }
+        handlePatientChanges(changes);
     }
 
     @Override
@@ -188,12 +379,13 @@ public class ModelManager implements Model {
         requireAllNonNull(editedPatient);
 
         ValueChange<IdData<Patient>> change = patientManager.set(id, editedPatient);
-        handlePatientChange(change);
+        cascadePatientChanges(List.of(change), false);
+        updatePatientDetail(change);
     }
 
 
     @Override
-    public ObjectProperty<IdData<Patient>> detailedPatientProperty() {
+    public ValueProperty<IdData<Patient>> detailedPatientProperty() {
         return detailedPatientProperty;
     }
 
@@ -216,11 +408,28 @@ public class ModelManager implements Model {
         appointmentManager.remove(id);
     }
 
+    @Override
+    public void deleteAppointments(Collection<Integer> ids) {
+        appointmentManager.removeAll(ids);
+    }
+
     @Override
     public void markAppointment(int id) {
         appointmentManager.mark(id);
     }
 
+    @Override
+    public void markAppointments(Collection<Integer> ids) {
+        appointmentManager.markAll(ids);
+    }
+
+    @Override
+    public List<Integer> findAppointmentIds(Collection<Predicate<Appointment>> filters) {
+        requireNonNull(filters);
+        return findIds(appointmentPlanner.plan(filters, appointmentManager.getMapView().values()),
+                appointmentManager.getMapView());
+    }
+
     @Override
     public void unmarkAppointment(int id) {
         appointmentManager.unmark(id);
@@ -249,10 +458,29 @@ public class ModelManager implements Model {
     @Override
     public void handlePatientChange(ValueChange<IdData<Patient>> change) {
         appointmentManager.handlePatientChange(change);
+        eligibilityMatrix.handlePatientChange(change, vaxTypeManager.asUnmodifiableObservableMap());
+        eligibilityCache.handlePatientChange(change);
         updatePatientDetail(change);
     }
 
 
+    @Override
+    public List<IdData<Appointment>> validatePatientChanges(Collection<ValueChange<IdData<Patient>>> changes) {
+        return appointmentManager.validatePatientChanges(changes);
+    }
+
+
+    @Override
+    public void handlePatientChanges(Collection<ValueChange<IdData<Patient>>> changes) {
+        appointmentManager.handlePatientChanges(changes);
+        for (ValueChange<IdData<Patient>> change : changes) {
+            eligibilityMatrix.handlePatientChange(change, vaxTypeManager.asUnmodifiableObservableMap());
+            eligibilityCache.handlePatientChange(change);
+            followPatientDetail(change);
+        }
+    }
+
+
     @Override
     public List<IdData<Appointment>> validateVaccinationChange(ValueChange<VaxType> change) {
         return appointmentManager.validateVaccinationChange(change);
@@ -263,6 +491,9 @@ public class ModelManager implements Model {
     public void handleVaccinationChange(ValueChange<VaxType> change) {
         appointmentManager.handleVaccinationChange(change);
         patientManager.handleVaccinationChange(change);
+        eligibilityMatrix.handleVaccinationChange(change,
+                patientManager.getMapView(), vaxTypeManager.asUnmodifiableObservableMap());
+        eligibilityCache.handleVaccinationChange(change, vaxTypeManager.asUnmodifiableObservableMap());
         updateVaccinationDetail(change);
 
         IdData<Patient> oldPatient = detailedPatientProperty.get();
@@ -280,7 +511,7 @@ public class ModelManager implements Model {
     public ValueChange<VaxType> addVaccination(VaxType vaxType) throws IllegalValueException {
         vaxTypeManager.add(vaxType);
         ValueChange<VaxType> change = new ValueChange<>(null, vaxType);
-        handleVaccinationChange(change);
+        cascadeVaccinationChange(change, false);
         return change;
     }
 
@@ -288,7 +519,7 @@ public class ModelManager implements Model {
     @Override
     public ValueChange<VaxType> editVaccination(String name, VaxType newValue) throws IllegalValueException {
         ValueChange<VaxType> change = vaxTypeManager.set(name, newValue);
-        handleVaccinationChange(change);
+        cascadeVaccinationChange(change, false);
         return change;
     }
 
@@ -301,20 +532,14 @@ public class ModelManager implements Model {
                         "Vaccination type does not exist: %s", vaxName.toString())));
         ValueChange<VaxType> change = new ValueChange<>(oldValue, null);
 
-        // validation
-        ArrayList<IdData<Appointment>> invalidAppointments = new ArrayList<>();
-        if (!isForce) {
-            invalidAppointments.addAll(validateVaccinationChange(change));
-        }
-        if (!invalidAppointments.isEmpty()) {
-            throw new UnexpectedChangeException(String.format(
-                    Messages.FORMAT_UNEXPECTED_APPOINTMENT_CHANGE,
-                    StringUtil.formatAppointmentListing(invalidAppointments)));
+        // validation, deferred to commit in a transaction
+        if (!isForce && transaction == null) {
+            requireNoInvalidAppointments(validateVaccinationChange(change));
         }
 
         // deletion
         vaxTypeManager.remove(vaxName.toString());
-        handleVaccinationChange(change);
+        cascadeVaccinationChange(change, !isForce);
         return change;
     }
 
@@ -322,11 +547,12 @@ public class ModelManager implements Model {
     @Override
     public void setVaxTypeManager(VaxTypeManager manager) {
         vaxTypeManager.resetData(manager);
+        recomputeEligibility();
     }
 
 
     @Override
-    public ObjectProperty<VaxType> detailedVaccinationProperty() {
+    public ValueProperty<VaxType> detailedVaccinationProperty() {
         return detailedVaccinationProperty;
     }
 
@@ -338,29 +564,82 @@ public class ModelManager implements Model {
 
 
     @Override
-    public void bindVaccinationDisplayList(ObservableList<VaxType> displayList) {
-        this.vaxDisplayList = FXCollections.unmodifiableObservableList(displayList);
+    public VaxType getVaccination(Retriever<String, VaxType> retriever) throws IllegalValueException {
+        // resolved against the model rather than the displayed list, which
+        // only holds the pages loaded so far and is reloaded asynchronously
+        ArrayList<VaxType> sortedVaccinations =
+                new ArrayList<>(filteredVaxTypeMap.asUnmodifiableObservableMap().values());
+        sortedVaccinations.sort(null);
+        return retriever.retrieve(vaxTypeManager.asUnmodifiableObservableMap(), sortedVaccinations);
     }
 
+    // =========== Eligibility =================================================================================
 
     @Override
-    public VaxType getVaccination(Retriever<String, VaxType> retriever) throws IllegalValueException {
-        return retriever.retrieve(vaxTypeManager.asUnmodifiableObservableMap(), vaxDisplayList);
+    public List<String> getEligibleVaccinations(int patientId) {
+        List<String> eligible = eligibilityMatrix.getEligible(patientId);
+        eligible.sort(null);
+        return eligible;
+    }
+
+    @Override
+    public void refreshEligibility(int year) {
+        if (eligibilityMatrix.refresh(year, patientManager.getMapView(),
+                vaxTypeManager.asUnmodifiableObservableMap())) {
+            logger.info("Eligibility recomputed for " + year);
+        }
+    }
+
+    @Override
+    public boolean canTakeVaccination(int patientId, VaxType vaxType) {
+        IdData<Patient> patientData = patientManager.getMapView().get(patientId);
+        if (patientData == null) {
+            throw new IllegalArgumentException("No patient with ID " + patientId);
+        }
+        return eligibilityCache.canTake(patientData, vaxType,
+                vaxTypeManager.asUnmodifiableObservableMap(), LocalDate.now().getYear());
+    }
+
+    @Override
+    public EligibilityCache getEligibilityCache() {
+        return eligibilityCache;
+    }
+
+    private void recomputeEligibility() {
+        eligibilityMatrix.recompute(patientManager.getMapView(), vaxTypeManager.asUnmodifiableObservableMap());
+        eligibilityCache.clear();
     }
 
     // =========== KeywordManager ==============================================================================
 
     @Override
     public void addKeyword(Keyword keyword) {
+        journalKeyword(keyword.getKeyword());
         keywordManager.add(keyword);
     }
 
     @Override
     public Keyword deleteKeyword(String keyword) {
+        journalKeyword(keyword);
         Keyword deletedKeyword = keywordManager.remove(keyword);
         return deletedKeyword;
     }
 
+    /** Records how to undo a change to the given keyword if a transaction is in progress. */
+    private void journalKeyword(String keyword) {
+        if (transaction == null) {
+            return;
+        }
+        Keyword oldValue = keywordManager.getKeywordMap().get(keyword);
+        transaction.addUndoAction(() -> {
+            if (oldValue == null) {
+                keywordManager.remove(keyword);
+            } else {
+                keywordManager.add(oldValue);
+            }
+        });
+    }
+
     @Override
     public KeywordManager getKeywordManager() {
         return keywordManager;
@@ -381,15 +660,31 @@ public class ModelManager implements Model {
         return filteredPatientMap.asUnmodifiableObservableMap();
     }
 
+    @Override
+    public Predicate<IdData<Patient>> getPatientFiltersSnapshot() {
+        return filteredPatientMap.getFiltersSnapshot();
+    }
+
     @Override
     public void updateFilteredPatientList(Predicate<Patient> predicate) {
         requireNonNull(predicate);
-        filteredPatientMap.filter(predicate);
+        // showing all is the same as having no filters, which is cheaper to apply
+        setPatientFilters(predicate == PREDICATE_SHOW_ALL_PATIENTS ? List.of() : List.of(predicate));
     }
 
     @Override
-    public void setPatientFilters(Collection<Predicate<Patient>> filters) {
-        filteredPatientMap.filter(filters);
+    public QueryPlan<Patient> setPatientFilters(Collection<Predicate<Patient>> filters) {
+        requireNonNull(filters);
+        QueryPlan<Patient> plan = patientPlanner.plan(filters, patientManager.getMapView().values());
+        Optional<IdBitmap> candidates = plan.getCandidates();
+        long startTime = System.nanoTime();
+        if (candidates.isEmpty()) {
+            filteredPatientMap.filter(plan.getFilters());
+        } else {
+            filteredPatientMap.filter(plan.getFilters(), candidates.get(), plan.getResidualFilters());
+        }
+        return plan.withExecution(System.nanoTime() - startTime,
+                filteredPatientMap.asUnmodifiableObservableMap().size());
     }
 
     // =========== Filtered VaxType Map Accessors ==============================================================
@@ -416,15 +711,25 @@ public class ModelManager implements Model {
         return filteredAppointmentMap.asUnmodifiableObservableMap();
     }
 
+    @Override
+    public Predicate<IdData<Appointment>> getAppointmentFiltersSnapshot() {
+        return filteredAppointmentMap.getFiltersSnapshot();
+    }
+
     @Override
     public void updateFilteredAppointmentList(Predicate<Appointment> predicate) {
         requireNonNull(predicate);
-        filteredAppointmentMap.filter(predicate);
+        setAppointmentFilters(predicate == PREDICATE_SHOW_ALL_APPOINTMENTS ? List.of() : List.of(predicate));
     }
 
     @Override
-    public void setAppointmentFilters(Collection<Predicate<Appointment>> filters) {
-        filteredAppointmentMap.filter(filters);
+    public QueryPlan<Appointment> setAppointmentFilters(Collection<Predicate<Appointment>> filters) {
+        requireNonNull(filters);
+        QueryPlan<Appointment> plan = appointmentPlanner.plan(filters, appointmentManager.getMapView().values());
+        long startTime = System.nanoTime();
+        filteredAppointmentMap.filter(plan.getFilters());
+        return plan.withExecution(System.nanoTime() - startTime,
+                filteredAppointmentMap.asUnmodifiableObservableMap().size());
     }
 
     @Override
@@ -445,6 +750,33 @@ public class ModelManager implements Model {
     }
 
 
+    /**
+     * Returns the IDs of the data that satisfy the filters of the given plan,
+     * testing only its candidates against its residual filters if it has any.
+     */
+    private static <T> List<Integer> findIds(QueryPlan<T> plan, Map<Integer, IdData<T>> source) {
+        Iterable<Integer> candidates = plan.getCandidates().isPresent()
+                ? plan.getCandidates().get()
+                : source.keySet();
+        List<Predicate<T>> filters = plan.getCandidates().isPresent()
+                ? plan.getResidualFilters()
+                : plan.getFilters();
+
+        ArrayList<Integer> ids = new ArrayList<>();
+        for (int id : candidates) {
+            IdData<T> data = source.get(id);
+            if (data != null && filters.stream().allMatch(filter -> filter.test(data.getValue()))) {
+                ids.add(id);
+            }
+        }
+        return ids;
+    }
+
+
+    /**
+     * Shows the new value of the given change of a single patient as the
+     * detailed patient, or clears the detailed patient if it was deleted.
+     */
     private void updatePatientDetail(ValueChange<IdData<Patient>> change) {
         boolean isUpdated = change.getOldValue()
                 .map(oldValue -> oldValue.equals(detailedPatientProperty.get()))
@@ -455,6 +787,21 @@ public class ModelManager implements Model {
     }
 
 
+    /**
+     * Updates the detailed patient if it is changed by the given change,
+     * without showing any other patient. Used for batches of changes, such
+     * as loading or importing patients, which must not pick a patient to show.
+     */
+    private void followPatientDetail(ValueChange<IdData<Patient>> change) {
+        boolean isUpdated = change.getOldValue()
+                .map(oldValue -> oldValue.equals(detailedPatientProperty.get()))
+                .orElse(false);
+        if (isUpdated) {
+            detailedPatientProperty.set(change.getNewValue().orElse(null));
+        }
+    }
+
+
     @Override
     public boolean equals(Object obj) {
         // short circuit if same object
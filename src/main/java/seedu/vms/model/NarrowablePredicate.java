@@ -0,0 +1,22 @@
+package seedu.vms.model;
+
+import java.util.function.Predicate;
+
+
+/**
+ * A {@code Predicate} that can tell whether it is narrower than another
+ * predicate, so that a result filtered with the other predicate can be
+ * re-filtered instead of recomputed.
+ *
+ * @param <T> - the type of the input to the predicate.
+ */
+public interface NarrowablePredicate<T> extends Predicate<T> {
+    /**
+     * Returns {@code true} if every value that satisfies this predicate is
+     * known to also satisfy the given predicate. Returns {@code false} if
+     * that cannot be shown.
+     *
+     * @param other - the predicate that may be wider.
+     */
+    boolean narrows(Predicate<?> other);
+}
@@ -0,0 +1,100 @@
+package seedu.vms.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Predicate;
+
+
+/**
+ * Filters map entries, splitting the evaluation of the filter across the
+ * common {@link ForkJoinPool} when there are enough entries to make it
+ * worthwhile.
+ */
+final class ParallelFilter {
+    /** Default number of entries from which filtering is done in parallel. */
+    static final int DEFAULT_THRESHOLD = 10000;
+
+    /** Number of entries below which a task is no longer split. */
+    private static final int LEAF_SIZE = 2048;
+
+
+    private ParallelFilter() {} // prevents instantiation
+
+
+    /**
+     * Returns a new map of the entries whose values satisfy the given filter.
+     *
+     * @param entries - the entries to filter. This is snapshotted before the
+     *      filter is evaluated.
+     * @param filter - the filter the values must satisfy. It must be safe to
+     *      evaluate concurrently.
+     * @param threshold - the number of entries from which the filter is
+     *      evaluated in parallel.
+     */
+    static <K, V> HashMap<K, V> filter(Collection<? extends Map.Entry<K, V>> entries,
+                Predicate<? super V> filter, int threshold) {
+        if (entries.size() < threshold) {
+            HashMap<K, V> filtered = new HashMap<>();
+            for (Map.Entry<K, V> entry : entries) {
+                if (filter.test(entry.getValue())) {
+                    filtered.put(entry.getKey(), entry.getValue());
+                }
+            }
+            return filtered;
+        }
+
+        List<Map.Entry<K, V>> snapshot = new ArrayList<>(entries);
+        boolean[] isMatch = new boolean[snapshot.size()];
+        ForkJoinPool.commonPool().invoke(new MatchTask<>(snapshot, filter, isMatch, 0, snapshot.size()));
+
+        HashMap<K, V> filtered = new HashMap<>();
+        for (int i = 0; i < isMatch.length; i++) {
+            if (isMatch[i]) {
+                filtered.put(snapshot.get(i).getKey(), snapshot.get(i).getValue());
+            }
+        }
+        return filtered;
+    }
+
+
+
+
+
+    /** Marks the entries within a range that satisfy a filter. */
+    private static class MatchTask<V> extends RecursiveAction {
+        private final List<? extends Map.Entry<?, V>> entries;
+        private final Predicate<? super V> filter;
+        private final boolean[] isMatch;
+        private final int start;
+        private final int end;
+
+
+        MatchTask(List<? extends Map.Entry<?, V>> entries, Predicate<? super V> filter,
+                    boolean[] isMatch, int start, int end) {
+            this.entries = entries;
+            this.filter = filter;
+            this.isMatch = isMatch;
+            this.start = start;
+            this.end = end;
+        }
+
+
+        @Override
+        protected void compute() {
+            if (end - start <= LEAF_SIZE) {
+                for (int i = start; i < end; i++) {
+                    isMatch[i] = filter.test(entries.get(i).getValue());
+                }
+                return;
+            }
+            int mid = (start + end) >>> 1;
+            invokeAll(new MatchTask<>(entries, filter, isMatch, start, mid),
+                    new MatchTask<>(entries, filter, isMatch, mid, end));
+        }
+    }
+}
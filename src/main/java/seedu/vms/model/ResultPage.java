@@ -0,0 +1,223 @@
+package seedu.vms.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.PriorityQueue;
+
+
+/**
+ * A page of the values of a collection under some order.
+ *
+ * <p>Pages are computed with a bounded heap, so only the values of the page
+ * are sorted regardless of the size of the collection. Subsequent pages are
+ * located by the first and last values of the page (the cursors) rather
+ * than by position, so the values of the collection may change in between.
+ * The comparator should not consider distinct values equal, otherwise such
+ * values may be skipped at the page boundaries.
+ *
+ * @param <V> - the type of the values.
+ */
+public class ResultPage<V> {
+    private final Collection<? extends V> values;
+    private final Comparator<? super V> comparator;
+    private final int pageSize;
+    private final List<V> items;
+    private final boolean hasPrevious;
+    private final boolean hasNext;
+
+
+    private ResultPage(Collection<? extends V> values, Comparator<? super V> comparator, int pageSize,
+                List<V> items, boolean hasPrevious, boolean hasNext) {
+        this.values = values;
+        this.comparator = comparator;
+        this.pageSize = pageSize;
+        this.items = Collections.unmodifiableList(items);
+        this.hasPrevious = hasPrevious;
+        this.hasNext = hasNext;
+    }
+
+
+    /**
+     * Returns the first page of the given values.
+     *
+     * @param values - the values to page through. Subsequent pages are
+     *      computed from the values of this collection at that time.
+     * @param comparator - the order of the values.
+     * @param pageSize - the maximum number of values in a page.
+     * @throws IllegalArgumentException if {@code pageSize} is not positive.
+     */
+    public static <V> ResultPage<V> first(Collection<? extends V> values, Comparator<? super V> comparator,
+                int pageSize) {
+        Objects.requireNonNull(values);
+        Objects.requireNonNull(comparator);
+        return after(values, comparator, null, pageSize);
+    }
+
+
+    /**
+     * Returns a page with the same values as this page, whose subsequent
+     * pages are computed from the given values instead. This allows a page
+     * computed from a snapshot of a collection to continue from the
+     * collection itself.
+     *
+     * @param values - the values to page through.
+     */
+    public ResultPage<V> withValues(Collection<? extends V> values) {
+        return new ResultPage<>(Objects.requireNonNull(values), comparator, pageSize,
+                items, hasPrevious, hasNext);
+    }
+
+
+    /**
+     * Returns the page of values right after this page, which has the same
+     * page size as this page.
+     */
+    public ResultPage<V> next() {
+        return next(pageSize);
+    }
+
+
+    /**
+     * Returns the page of values right after this page.
+     *
+     * @param pageSize - the maximum number of values in the page.
+     * @throws IllegalArgumentException if {@code pageSize} is not positive.
+     */
+    public ResultPage<V> next(int pageSize) {
+        if (items.isEmpty()) {
+            return first(values, comparator, pageSize);
+        }
+        return after(values, comparator, items.get(items.size() - 1), pageSize);
+    }
+
+
+    /**
+     * Returns the page of values right before this page, which has the same
+     * page size as this page.
+     */
+    public ResultPage<V> previous() {
+        return previous(pageSize);
+    }
+
+
+    /**
+     * Returns the page of values right before this page.
+     *
+     * @param pageSize - the maximum number of values in the page.
+     * @throws IllegalArgumentException if {@code pageSize} is not positive.
+     */
+    public ResultPage<V> previous(int pageSize) {
+        if (items.isEmpty()) {
+            return first(values, comparator, pageSize);
+        }
+        checkPageSize(pageSize);
+        V cursor = items.get(0);
+
+        // min heap of the largest values before the cursor
+        PriorityQueue<V> heap = new PriorityQueue<>(comparator);
+        boolean hasNext = false;
+        for (V value : values) {
+            if (comparator.compare(value, cursor) >= 0) {
+                hasNext = true;
+                continue;
+            }
+            offer(heap, value, limitOf(pageSize), comparator);
+        }
+
+        boolean hasPrevious = heap.size() > pageSize;
+        if (hasPrevious) {
+            heap.poll();
+        }
+        return new ResultPage<>(values, comparator, pageSize, drainSorted(heap), hasPrevious, hasNext);
+    }
+
+
+    private static <V> ResultPage<V> after(Collection<? extends V> values, Comparator<? super V> comparator,
+                V cursor, int pageSize) {
+        checkPageSize(pageSize);
+        Comparator<? super V> reversed = comparator.reversed();
+
+        // max heap of the smallest values after the cursor
+        PriorityQueue<V> heap = new PriorityQueue<>(reversed);
+        boolean hasPrevious = false;
+        for (V value : values) {
+            if (cursor != null && comparator.compare(value, cursor) <= 0) {
+                hasPrevious = true;
+                continue;
+            }
+            offer(heap, value, limitOf(pageSize), reversed);
+        }
+
+        boolean hasNext = heap.size() > pageSize;
+        if (hasNext) {
+            heap.poll();
+        }
+        List<V> items = drainSorted(heap);
+        Collections.reverse(items);
+        return new ResultPage<>(values, comparator, pageSize, items, hasPrevious, hasNext);
+    }
+
+
+    /**
+     * Offers the value to the heap, keeping at most {@code limit} values that
+     * come last under the heap's order.
+     */
+    private static <V> void offer(PriorityQueue<V> heap, V value, int limit, Comparator<? super V> heapOrder) {
+        if (heap.size() < limit) {
+            heap.offer(value);
+        } else if (heapOrder.compare(value, heap.peek()) > 0) {
+            heap.poll();
+            heap.offer(value);
+        }
+    }
+
+
+    /** Empties the heap into a list in the heap's order. */
+    private static <V> List<V> drainSorted(PriorityQueue<V> heap) {
+        ArrayList<V> items = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            items.add(heap.poll());
+        }
+        return items;
+    }
+
+
+    /** Returns the number of values to keep to know if there are more than a page of values. */
+    private static int limitOf(int pageSize) {
+        return pageSize == Integer.MAX_VALUE ? pageSize : pageSize + 1;
+    }
+
+
+    private static void checkPageSize(int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+    }
+
+
+    /** Returns the values of this page in order. */
+    public List<V> getItems() {
+        return items;
+    }
+
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+
+    /** Returns if there were values before this page when it was computed. */
+    public boolean hasPrevious() {
+        return hasPrevious;
+    }
+
+
+    /** Returns if there were values after this page when it was computed. */
+    public boolean hasNext() {
+        return hasNext;
+    }
+}
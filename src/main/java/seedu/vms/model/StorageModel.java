@@ -1,6 +1,8 @@
 package seedu.vms.model;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import javafx.collections.ObservableMap;
@@ -88,6 +90,29 @@ public abstract class StorageModel<T> implements ReadOnlyStorageModel<T> {
     }
 
 
+    /**
+     * Adds all the specified values to the storage. None of the values are
+     * added if there is no space for all of them.
+     *
+     * @param values - the values to add.
+     * @return the data added, in the order of the collection.
+     */
+    public List<IdData<T>> addAll(Collection<T> values) {
+        return dataMap.addAll(values);
+    }
+
+
+    /**
+     * Adds all the specified data to the storage as a single batch. Values
+     * already mapped to the IDs of the data are replaced with the given.
+     *
+     * @param datas - the data to add.
+     */
+    public void addDatas(Collection<IdData<T>> datas) {
+        dataMap.addDatas(datas);
+    }
+
+
     /**
      * Adds the specified data to the storage. If there is already a value
      * mapped to the ID of the specified data, that value is replaced with the
@@ -118,6 +143,18 @@ public abstract class StorageModel<T> implements ReadOnlyStorageModel<T> {
     }
 
 
+    /**
+     * Sets the values of all the given IDs as a single batch. Values already
+     * mapped to the IDs are replaced with the given.
+     *
+     * @param values - the values to set, keyed by their IDs.
+     * @throws NullPointerException if any value is {@code null}.
+     */
+    public List<ValueChange<IdData<T>>> set(Map<Integer, T> values) {
+        return dataMap.set(values);
+    }
+
+
     /**
      * Returns the {@code IdData} that is mapped to the specified id.
      *
@@ -139,6 +176,16 @@ public abstract class StorageModel<T> implements ReadOnlyStorageModel<T> {
     }
 
 
+    /**
+     * Removes the data associated with all the given IDs as a single batch.
+     *
+     * @param ids - the IDs of the data to remove.
+     */
+    public List<ValueChange<IdData<T>>> removeAll(Collection<Integer> ids) {
+        return dataMap.removeAll(ids);
+    }
+
+
     /**
      * Resets the ID count.
      */
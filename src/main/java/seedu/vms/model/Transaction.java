@@ -0,0 +1,94 @@
+package seedu.vms.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import javafx.collections.MapChangeListener;
+import javafx.collections.ObservableMap;
+import seedu.vms.model.appointment.Appointment;
+
+
+/**
+ * The journal of the changes made to a {@code Model} since a transaction
+ * began.
+ *
+ * <p>Changes are applied and cascaded as they are made, so that later
+ * changes of the transaction see them. Instead of copying the data when the
+ * transaction begins, every entry change of the journaled maps is recorded
+ * along with how to undo it, so that the transaction can be rolled back by
+ * undoing its changes in reverse order. The appointments that unforced
+ * changes have deleted are also recorded, to be validated once the
+ * transaction is committed.
+ */
+class Transaction {
+    private final ArrayList<Runnable> undoActions = new ArrayList<>();
+    private final ArrayList<Runnable> detachActions = new ArrayList<>();
+    private final ArrayList<IdData<Appointment>> invalidAppointments = new ArrayList<>();
+
+
+    /**
+     * Records the entry changes of the given map until the transaction ends.
+     *
+     * @param map - the map to journal.
+     * @param put - how to map a key back to the value it had.
+     * @param remove - how to remove a key that was added.
+     */
+    <K, V> void journal(ObservableMap<K, V> map, BiConsumer<K, V> put, Consumer<K> remove) {
+        MapChangeListener<K, V> listener = change -> {
+            K key = change.getKey();
+            if (change.wasRemoved()) {
+                V oldValue = change.getValueRemoved();
+                undoActions.add(() -> put.accept(key, oldValue));
+            } else {
+                undoActions.add(() -> remove.accept(key));
+            }
+        };
+        map.addListener(listener);
+        detachActions.add(() -> map.removeListener(listener));
+    }
+
+
+    /**
+     * Records how to undo a change that is not made to a journaled map.
+     *
+     * @param undoAction - the action that undoes the change.
+     */
+    void addUndoAction(Runnable undoAction) {
+        undoActions.add(undoAction);
+    }
+
+
+    /**
+     * Records the appointments that an unforced change has deleted.
+     *
+     * @param appointments - the appointments deleted.
+     */
+    void addInvalidAppointments(List<IdData<Appointment>> appointments) {
+        invalidAppointments.addAll(appointments);
+    }
+
+
+    /** Returns the appointments that unforced changes have deleted. */
+    List<IdData<Appointment>> getInvalidAppointments() {
+        return invalidAppointments;
+    }
+
+
+    /** Stops recording changes. */
+    void end() {
+        detachActions.forEach(Runnable::run);
+        detachActions.clear();
+    }
+
+
+    /** Stops recording changes and undoes all changes in reverse order. */
+    void undo() {
+        end();
+        for (int i = undoActions.size() - 1; i >= 0; i--) {
+            undoActions.get(i).run();
+        }
+        undoActions.clear();
+    }
+}
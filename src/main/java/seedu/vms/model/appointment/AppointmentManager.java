@@ -1,6 +1,8 @@
 package seedu.vms.model.appointment;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -44,6 +46,18 @@ public class AppointmentManager extends StorageModel<Appointment> implements Rea
         set(id, appointment);
     }
 
+    /**
+     * Marks the appointments at all the given ids as completed, as a single
+     * batch. The appointments must exist in the appointment manager.
+     */
+    public void markAll(Collection<Integer> ids) {
+        HashMap<Integer, Appointment> markedAppointments = new HashMap<>();
+        for (int id : ids) {
+            markedAppointments.put(id, getMapView().get(id).getValue().mark());
+        }
+        set(markedAppointments);
+    }
+
     /**
      * Unmarks the appointment at the given id as not completed.
      * The appointment must exist in the appointment manager.
@@ -70,9 +84,7 @@ public class AppointmentManager extends StorageModel<Appointment> implements Rea
                         || !validVaxs.contains(entry.getValue().getVaccination().getName()))
                 .collect(Collectors.toList());
 
-        for (IdData<Appointment> appointment : invalidAppointments) {
-            remove(appointment.getId());
-        }
+        removeAll(invalidAppointments.stream().map(IdData::getId).collect(Collectors.toList()));
 
         return invalidAppointments;
     }
@@ -111,6 +123,33 @@ public class AppointmentManager extends StorageModel<Appointment> implements Rea
         }
     }
 
+    /**
+     * Validates a batch of patient changes in AppointmentManager with a single
+     * scan of the appointments.
+     * Does not delete.
+     */
+    public List<IdData<Appointment>> validatePatientChanges(Collection<ValueChange<IdData<Patient>>> changes) {
+        HashSet<Integer> patientsToDelete = new HashSet<>();
+        for (ValueChange<IdData<Patient>> change : changes) {
+            if (change.getOldValue().isPresent() && change.getNewValue().isEmpty()) {
+                patientsToDelete.add(change.getOldValue().get().getId());
+            }
+        }
+        if (patientsToDelete.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return getMapView().values().stream()
+                .filter(x -> patientsToDelete.contains(x.getValue().getPatient().getZeroBased()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Handles a batch of patient changes in AppointmentManager.
+     */
+    public void handlePatientChanges(Collection<ValueChange<IdData<Patient>>> changes) {
+        removeAll(validatePatientChanges(changes).stream().map(IdData::getId).collect(Collectors.toList()));
+    }
+
     /**
      * Validates vaccination changes in AppointmentManager.
      * Does not delete.
@@ -7,12 +7,13 @@ import java.util.stream.Collectors;
 
 import seedu.vms.commons.util.StringUtil;
 import seedu.vms.model.GroupName;
+import seedu.vms.model.NarrowablePredicate;
 import seedu.vms.model.appointment.Appointment;
 
 /**
  * Tests that a {@code Appointment}'s {@code Vaccine} matches any of the keywords given.
  */
-public class VaccineContainsKeywordsPredicate implements Predicate<Appointment> {
+public class VaccineContainsKeywordsPredicate implements NarrowablePredicate<Appointment> {
     private final List<String> keywords;
 
     /**
@@ -29,6 +30,16 @@ public class VaccineContainsKeywordsPredicate implements Predicate<Appointment>
         return StringUtil.isMatching(appointment.getVaccination().toString(), keywords);
     }
 
+    /**
+     * Returns {@code true} if the other predicate is also a
+     * {@code VaccineContainsKeywordsPredicate} whose keywords this predicate's keywords narrow.
+     */
+    @Override
+    public boolean narrows(Predicate<?> other) {
+        return other instanceof VaccineContainsKeywordsPredicate
+                && StringUtil.isNarrowing(keywords, ((VaccineContainsKeywordsPredicate) other).keywords);
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -1,11 +1,20 @@
 package seedu.vms.model.patient;
 
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Predicate;
 
+import javafx.collections.MapChangeListener;
 import seedu.vms.commons.core.ValueChange;
+import seedu.vms.model.GroupIndex;
 import seedu.vms.model.GroupName;
+import seedu.vms.model.IdBitmap;
+import seedu.vms.model.IdData;
 import seedu.vms.model.StorageModel;
+import seedu.vms.model.patient.predicates.AllergyContainsKeywordsPredicate;
+import seedu.vms.model.patient.predicates.VaccineContainsKeywordsPredicate;
 import seedu.vms.model.vaccination.VaxType;
 
 /**
@@ -13,13 +22,73 @@ import seedu.vms.model.vaccination.VaxType;
  * Duplicates are not allowed (by .isSamePatient comparison)
  */
 public class PatientManager extends StorageModel<Patient> implements ReadOnlyPatientManager {
-    public PatientManager() {}
+    private final GroupIndex allergyIndex = new GroupIndex();
+    private final GroupIndex vaccineIndex = new GroupIndex();
+
+    public PatientManager() {
+        bindIndexes();
+    }
 
     /**
      * Creates an PatientManager using the Patients in the {@code toBeCopied}
      */
     public PatientManager(ReadOnlyPatientManager toBeCopied) {
         super(toBeCopied);
+        bindIndexes();
+    }
+
+    private void bindIndexes() {
+        getMapView().values().forEach(this::index);
+        getMapView().addListener(this::handleMapChange);
+    }
+
+    private void handleMapChange(MapChangeListener.Change<? extends Integer, ? extends IdData<Patient>> change) {
+        if (change.wasRemoved()) {
+            unindex(change.getValueRemoved());
+        }
+        if (change.wasAdded()) {
+            index(change.getValueAdded());
+        }
+    }
+
+    private void index(IdData<Patient> data) {
+        allergyIndex.add(data.getId(), data.getValue().getAllergy());
+        vaccineIndex.add(data.getId(), data.getValue().getVaccine());
+    }
+
+    private void unindex(IdData<Patient> data) {
+        allergyIndex.remove(data.getId(), data.getValue().getAllergy());
+        vaccineIndex.remove(data.getId(), data.getValue().getVaccine());
+    }
+
+    /**
+     * Returns the IDs of the patients with at least one allergy matching the
+     * given keywords.
+     */
+    public IdBitmap findByAllergy(Collection<String> keywords) {
+        return allergyIndex.getMatching(keywords);
+    }
+
+    /**
+     * Returns the IDs of the patients with at least one vaccine matching the
+     * given keywords.
+     */
+    public IdBitmap findByVaccine(Collection<String> keywords) {
+        return vaccineIndex.getMatching(keywords);
+    }
+
+    /**
+     * Returns the IDs of the patients that satisfy the given filter, wrapped
+     * in an {@code Optional}, if the filter can be answered by the allergy or
+     * vaccine index. Otherwise, {@code Optional.empty} is returned.
+     */
+    public Optional<IdBitmap> findIndexed(Predicate<Patient> filter) {
+        if (filter instanceof AllergyContainsKeywordsPredicate) {
+            return Optional.of(findByAllergy(((AllergyContainsKeywordsPredicate) filter).getKeywords()));
+        } else if (filter instanceof VaccineContainsKeywordsPredicate) {
+            return Optional.of(findByVaccine(((VaccineContainsKeywordsPredicate) filter).getKeywords()));
+        }
+        return Optional.empty();
     }
 
     /**
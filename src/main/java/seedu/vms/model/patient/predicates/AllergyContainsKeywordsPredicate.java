@@ -7,12 +7,13 @@ import java.util.stream.Collectors;
 
 import seedu.vms.commons.util.StringUtil;
 import seedu.vms.model.GroupName;
+import seedu.vms.model.NarrowablePredicate;
 import seedu.vms.model.patient.Patient;
 
 /**
  * Tests that a {@code Patient}'s {@code Allergy} matches any of the keywords given.
  */
-public class AllergyContainsKeywordsPredicate implements Predicate<Patient> {
+public class AllergyContainsKeywordsPredicate implements NarrowablePredicate<Patient> {
     private final List<String> keywords;
 
     /**
@@ -24,12 +25,26 @@ public class AllergyContainsKeywordsPredicate implements Predicate<Patient> {
         this.keywords = groupNames.stream().map(GroupName::toString).collect(Collectors.toList());
     }
 
+    public List<String> getKeywords() {
+        return List.copyOf(keywords);
+    }
+
     @Override
     public boolean test(Patient patient) {
         return patient.getAllergyAsString().stream()
                 .anyMatch(allergy -> StringUtil.isMatching(allergy, keywords));
     }
 
+    /**
+     * Returns {@code true} if the other predicate is also a
+     * {@code AllergyContainsKeywordsPredicate} whose keywords this predicate's keywords narrow.
+     */
+    @Override
+    public boolean narrows(Predicate<?> other) {
+        return other instanceof AllergyContainsKeywordsPredicate
+                && StringUtil.isNarrowing(keywords, ((AllergyContainsKeywordsPredicate) other).keywords);
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -4,12 +4,13 @@ import java.util.List;
 import java.util.function.Predicate;
 
 import seedu.vms.commons.util.StringUtil;
+import seedu.vms.model.NarrowablePredicate;
 import seedu.vms.model.patient.Patient;
 
 /**
  * Tests that a {@code Patient}'s {@code Name} matches any of the keywords given.
  */
-public class NameContainsKeywordsPredicate implements Predicate<Patient> {
+public class NameContainsKeywordsPredicate implements NarrowablePredicate<Patient> {
     private final List<String> keywords;
 
     public NameContainsKeywordsPredicate(List<String> keywords) {
@@ -21,6 +22,16 @@ public class NameContainsKeywordsPredicate implements Predicate<Patient> {
         return StringUtil.isMatching(patient.getName().toString(), keywords);
     }
 
+    /**
+     * Returns {@code true} if the other predicate is also a
+     * {@code NameContainsKeywordsPredicate} whose keywords this predicate's keywords narrow.
+     */
+    @Override
+    public boolean narrows(Predicate<?> other) {
+        return other instanceof NameContainsKeywordsPredicate
+                && StringUtil.isNarrowing(keywords, ((NameContainsKeywordsPredicate) other).keywords);
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -0,0 +1,80 @@
+package seedu.vms.model.patient.predicates;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import seedu.vms.model.Age;
+import seedu.vms.model.GroupName;
+import seedu.vms.model.patient.Patient;
+import seedu.vms.model.vaccination.VaxEvaluator;
+import seedu.vms.model.vaccination.VaxType;
+
+/**
+ * Tests that a {@code Patient} can take a vaccination as of a given year,
+ * using the same rules as when scheduling an appointment.
+ *
+ * <p>The age and allergies of the patient are checked before its vaccination
+ * history is looked up, so that most ineligible patients are rejected without
+ * allocating. The predicate only reads its arguments and may be tested
+ * concurrently.
+ */
+public class VaxEligibilityPredicate implements Predicate<Patient> {
+    private final VaxType vaxType;
+    private final VaxEvaluator evaluator;
+    private final Map<String, VaxType> vaccinations;
+    private final int year;
+
+    /**
+     * Constructs a {@code VaxEligibilityPredicate}.
+     *
+     * @param vaxType - the vaccination to check for.
+     * @param vaccinations - the vaccinations the histories of patients are
+     *      looked up in, keyed by name.
+     * @param year - the year the ages of patients are calculated at.
+     */
+    public VaxEligibilityPredicate(VaxType vaxType, Map<String, VaxType> vaccinations, int year) {
+        this.vaxType = requireNonNull(vaxType);
+        this.evaluator = vaxType.getEvaluator();
+        this.vaccinations = requireNonNull(vaccinations);
+        this.year = year;
+    }
+
+    /**
+     * Constructs a {@code VaxEligibilityPredicate} for the current year.
+     */
+    public VaxEligibilityPredicate(VaxType vaxType, Map<String, VaxType> vaccinations) {
+        this(vaxType, vaccinations, LocalDate.now().getYear());
+    }
+
+    @Override
+    public boolean test(Patient patient) {
+        int ageValue = year - patient.getDob().value.getYear();
+        if (!Age.isValid(ageValue) || !evaluator.isWithinAge(new Age(ageValue))
+                || !evaluator.isAllergySafe(patient.getAllergy())) {
+            return false;
+        }
+
+        ArrayList<VaxType> history = new ArrayList<>(patient.getVaccine().size());
+        for (GroupName vaxName : patient.getVaccine()) {
+            VaxType taken = vaccinations.get(vaxName.getName());
+            if (taken != null) {
+                history.add(taken);
+            }
+        }
+        return evaluator.isHistorySatisfied(history);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof VaxEligibilityPredicate // instanceof handles nulls
+                        && vaxType.equals(((VaxEligibilityPredicate) other).vaxType)
+                        && vaccinations == ((VaxEligibilityPredicate) other).vaccinations
+                        && year == ((VaxEligibilityPredicate) other).year); // state check
+    }
+
+}
@@ -0,0 +1,128 @@
+package seedu.vms.model.query;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import seedu.vms.model.IdBitmap;
+
+
+/**
+ * The plan of how a conjunction of filters is evaluated, as produced by
+ * {@link QueryPlanner}.
+ *
+ * @param <T> - the type of data being filtered.
+ */
+public class QueryPlan<T> {
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final List<Predicate<T>> filters;
+    private final Optional<IdBitmap> candidates;
+    private final List<Predicate<T>> residualFilters;
+    private final List<String> steps;
+    private final int estimatedSize;
+    private final long planTime;
+    private final long executeTime;
+    private final int resultSize;
+
+
+    /**
+     * Constructs a {@code QueryPlan} that is yet to be executed.
+     *
+     * @param filters - all the filters, in the order they should be tested.
+     * @param candidates - the IDs of the data that satisfy all filters not
+     *      in {@code residualFilters}. {@code Optional.empty} if every row
+     *      has to be scanned.
+     * @param residualFilters - the filters the candidates have yet to be
+     *      tested against, in the order they should be tested.
+     * @param steps - the human readable description of each step.
+     * @param estimatedSize - the estimated number of data that satisfies all
+     *      filters.
+     * @param planTime - the time taken to plan in nanoseconds.
+     */
+    public QueryPlan(List<Predicate<T>> filters, Optional<IdBitmap> candidates,
+                List<Predicate<T>> residualFilters, List<String> steps, int estimatedSize, long planTime) {
+        this(filters, candidates, residualFilters, steps, estimatedSize, planTime, -1, -1);
+    }
+
+
+    private QueryPlan(List<Predicate<T>> filters, Optional<IdBitmap> candidates,
+                List<Predicate<T>> residualFilters, List<String> steps, int estimatedSize,
+                long planTime, long executeTime, int resultSize) {
+        this.filters = List.copyOf(filters);
+        this.candidates = candidates;
+        this.residualFilters = List.copyOf(residualFilters);
+        this.steps = List.copyOf(steps);
+        this.estimatedSize = estimatedSize;
+        this.planTime = planTime;
+        this.executeTime = executeTime;
+        this.resultSize = resultSize;
+    }
+
+
+    /**
+     * Returns a copy of this plan with its execution statistics recorded.
+     *
+     * @param executeTime - the time taken to execute the plan in nanoseconds.
+     * @param resultSize - the number of data that satisfied all filters.
+     */
+    public QueryPlan<T> withExecution(long executeTime, int resultSize) {
+        return new QueryPlan<>(filters, candidates, residualFilters, steps, estimatedSize,
+                planTime, executeTime, resultSize);
+    }
+
+
+    public List<Predicate<T>> getFilters() {
+        return filters;
+    }
+
+
+    public Optional<IdBitmap> getCandidates() {
+        return candidates.map(IdBitmap::copy);
+    }
+
+
+    public List<Predicate<T>> getResidualFilters() {
+        return residualFilters;
+    }
+
+
+    public List<String> getSteps() {
+        return steps;
+    }
+
+
+    public int getEstimatedSize() {
+        return estimatedSize;
+    }
+
+
+    /** Returns if this plan has been executed. */
+    public boolean isExecuted() {
+        return executeTime >= 0;
+    }
+
+
+    /**
+     * Returns a human readable explanation of this plan and its timings.
+     */
+    public String explain() {
+        StringBuilder builder = new StringBuilder("Query plan:");
+        for (int i = 0; i < steps.size(); i++) {
+            builder.append(String.format("\n  %d. %s", i + 1, steps.get(i)));
+        }
+        builder.append(String.format("\nEstimated rows: %d", estimatedSize));
+        builder.append(String.format("\nPlanned in %.3f ms", planTime / NANOS_PER_MILLI));
+        if (isExecuted()) {
+            builder.append(String.format(", executed in %.3f ms (%d rows)",
+                    executeTime / NANOS_PER_MILLI, resultSize));
+        }
+        return builder.toString();
+    }
+
+
+    @Override
+    public String toString() {
+        return explain();
+    }
+}
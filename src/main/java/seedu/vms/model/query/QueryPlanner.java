@@ -0,0 +1,278 @@
+package seedu.vms.model.query;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import seedu.vms.model.IdBitmap;
+import seedu.vms.model.IdData;
+import seedu.vms.model.appointment.predicates.EndTimePredicate;
+import seedu.vms.model.appointment.predicates.IndexPredicate;
+import seedu.vms.model.appointment.predicates.StartTimePredicate;
+import seedu.vms.model.patient.BloodType;
+import seedu.vms.model.patient.predicates.AllergyContainsKeywordsPredicate;
+import seedu.vms.model.patient.predicates.BloodTypePredicate;
+import seedu.vms.model.patient.predicates.DobPredicate;
+import seedu.vms.model.patient.predicates.NameContainsKeywordsPredicate;
+import seedu.vms.model.patient.predicates.PhoneNumberPredicate;
+import seedu.vms.model.patient.predicates.VaccineContainsKeywordsPredicate;
+
+
+/**
+ * Plans the evaluation of a conjunction of filters.
+ *
+ * <p>Filters that can be answered by an index are resolved to their matching
+ * IDs first and the search is driven from the smallest of these. The
+ * remaining filters are tested per row, ordered so that the filters that are
+ * cheap to test and likely to reject a row go first.
+ *
+ * <p>The fraction of rows that satisfy a residual filter is measured by
+ * testing it against a sample of at most {@link #SAMPLE_SIZE} rows of the
+ * data being filtered. The fraction of IDs an indexed filter matches is read
+ * from the index. The costs of testing a row and, when there is no data to
+ * sample, the selectivities are fixed heuristics that only need to order
+ * the filters sensibly relative to each other; they are not measured.
+ *
+ * @param <T> - the type of data being filtered.
+ */
+public class QueryPlanner<T> {
+    /** The maximum number of rows tested to estimate the selectivity of a filter. */
+    static final int SAMPLE_SIZE = 128;
+
+    /** Relative cost of a field equality test. */
+    private static final double COST_EQUALITY = 1;
+    /** Relative cost of matching keywords against a single string. */
+    private static final double COST_KEYWORD = 4;
+    /** Relative cost of matching keywords against a set of names. */
+    private static final double COST_GROUP_KEYWORD = 8;
+    /** Relative cost of filters the planner knows nothing about. */
+    private static final double COST_UNKNOWN = 2;
+
+    // heuristic selectivities used when there is no data to sample
+    private static final double SELECTIVITY_DOB = 0.01;
+    private static final double SELECTIVITY_BLOOD_TYPE = 1.0 / BloodType.BloodTypes.values().length;
+    private static final double SELECTIVITY_KEYWORD = 0.1;
+    private static final double SELECTIVITY_PATIENT_INDEX = 0.05;
+    private static final double SELECTIVITY_TIME_BOUND = 0.5;
+    private static final double SELECTIVITY_UNKNOWN = 0.5;
+
+    /** Lower bound of the rejection rate to keep ranks finite. */
+    private static final double MIN_REJECTION = 0.001;
+
+    private final Function<Predicate<T>, Optional<IdBitmap>> indexLookup;
+
+
+    /**
+     * Constructs a {@code QueryPlanner}.
+     *
+     * @param indexLookup - function that returns the IDs of the data that
+     *      satisfy a filter if the filter can be answered by an index and
+     *      {@code Optional.empty} otherwise.
+     */
+    public QueryPlanner(Function<Predicate<T>, Optional<IdBitmap>> indexLookup) {
+        this.indexLookup = Objects.requireNonNull(indexLookup);
+    }
+
+
+    /**
+     * Constructs a {@code QueryPlanner} for data that has no indexes.
+     */
+    public QueryPlanner() {
+        this(filter -> Optional.empty());
+    }
+
+
+    /**
+     * Plans the evaluation of the given filters over the given data,
+     * estimating the selectivity of the filters from a sample of the data.
+     *
+     * @param filters - the filters to plan for.
+     * @param data - the data being filtered.
+     * @return the plan.
+     */
+    public QueryPlan<T> plan(Collection<Predicate<T>> filters, Collection<IdData<T>> data) {
+        Objects.requireNonNull(data);
+        return plan(filters, data.size(), sample(data));
+    }
+
+
+    /**
+     * Plans the evaluation of the given filters using the heuristic
+     * selectivities of the filters.
+     *
+     * @param filters - the filters to plan for.
+     * @param dataSize - the number of data being filtered.
+     * @return the plan.
+     */
+    public QueryPlan<T> plan(Collection<Predicate<T>> filters, int dataSize) {
+        return plan(filters, dataSize, List.of());
+    }
+
+
+    private QueryPlan<T> plan(Collection<Predicate<T>> filters, int dataSize, List<T> sample) {
+        Objects.requireNonNull(filters);
+        long startTime = System.nanoTime();
+
+        ArrayList<Predicate<T>> indexedFilters = new ArrayList<>();
+        ArrayList<IdBitmap> indexedIds = new ArrayList<>();
+        ArrayList<Predicate<T>> residualFilters = new ArrayList<>();
+        for (Predicate<T> filter : filters) {
+            Optional<IdBitmap> ids = indexLookup.apply(filter);
+            if (ids.isEmpty()) {
+                residualFilters.add(filter);
+                continue;
+            }
+            int pos = 0;
+            while (pos < indexedIds.size() && indexedIds.get(pos).cardinality() <= ids.get().cardinality()) {
+                pos++;
+            }
+            indexedFilters.add(pos, filter);
+            indexedIds.add(pos, ids.get());
+        }
+        HashMap<Predicate<T>, Double> selectivities = new HashMap<>();
+        for (Predicate<T> filter : residualFilters) {
+            selectivities.put(filter, sample.isEmpty()
+                    ? estimateSelectivity(filter, dataSize)
+                    : measureSelectivity(filter, sample));
+        }
+        residualFilters.sort(Comparator.comparingDouble(filter -> rank(filter, selectivities.get(filter))));
+
+        ArrayList<String> steps = new ArrayList<>();
+        Optional<IdBitmap> candidates = Optional.empty();
+        for (int i = 0; i < indexedIds.size(); i++) {
+            IdBitmap ids = indexedIds.get(i);
+            String filterName = describe(indexedFilters.get(i));
+            if (candidates.isEmpty()) {
+                candidates = Optional.of(ids);
+                steps.add(String.format("index scan %s (%d ids)", filterName, ids.cardinality()));
+            } else {
+                candidates = Optional.of(candidates.get().and(ids));
+                steps.add(String.format("index intersect %s (%d ids) -> %d candidates",
+                        filterName, ids.cardinality(), candidates.get().cardinality()));
+            }
+        }
+        if (candidates.isEmpty()) {
+            steps.add(String.format("full scan (%d rows)", dataSize));
+        }
+
+        double estimatedRows = candidates.map(IdBitmap::cardinality).orElse(dataSize);
+        String selectivitySource = sample.isEmpty() ? "estimated" : "sampled from " + sample.size() + " rows";
+        for (Predicate<T> filter : residualFilters) {
+            double selectivity = selectivities.get(filter);
+            estimatedRows *= selectivity;
+            steps.add(String.format("filter %s (cost %.0f, selectivity %.3f %s)",
+                    describe(filter), estimateCost(filter), selectivity, selectivitySource));
+        }
+
+        // indexed filters are the costliest to test per row so they go last
+        // when testing subsequent changes
+        ArrayList<Predicate<T>> orderedFilters = new ArrayList<>(residualFilters);
+        orderedFilters.addAll(indexedFilters);
+
+        return new QueryPlan<>(orderedFilters, candidates, residualFilters, steps,
+                (int) Math.ceil(estimatedRows), System.nanoTime() - startTime);
+    }
+
+
+    private static double rank(Predicate<?> filter, double selectivity) {
+        double rejection = Math.max(MIN_REJECTION, 1 - selectivity);
+        return estimateCost(filter) / rejection;
+    }
+
+
+    /**
+     * Returns at most {@link #SAMPLE_SIZE} values of the given data. The
+     * sample is the first values in the iteration order of the data, so
+     * sampling never walks the whole data.
+     */
+    private static <T> List<T> sample(Collection<IdData<T>> data) {
+        ArrayList<T> sample = new ArrayList<>(Math.min(SAMPLE_SIZE, data.size()));
+        Iterator<IdData<T>> iterator = data.iterator();
+        while (sample.size() < SAMPLE_SIZE && iterator.hasNext()) {
+            sample.add(iterator.next().getValue());
+        }
+        return sample;
+    }
+
+
+    /**
+     * Returns the fraction of the given sample that satisfies the given
+     * filter. Half a match is added to either side of the fraction, so that
+     * a filter no row of the sample satisfies is not assumed to reject every
+     * row of the data.
+     */
+    static <T> double measureSelectivity(Predicate<T> filter, List<T> sample) {
+        int matchCount = 0;
+        for (T value : sample) {
+            if (filter.test(value)) {
+                matchCount++;
+            }
+        }
+        return (matchCount + 0.5) / (sample.size() + 1);
+    }
+
+
+    /**
+     * Returns the heuristic relative cost of testing a single row against
+     * the given filter.
+     */
+    static double estimateCost(Predicate<?> filter) {
+        if (filter instanceof NameContainsKeywordsPredicate
+                || filter instanceof seedu.vms.model.appointment.predicates.VaccineContainsKeywordsPredicate) {
+            return COST_KEYWORD;
+        }
+        if (filter instanceof AllergyContainsKeywordsPredicate
+                || filter instanceof VaccineContainsKeywordsPredicate) {
+            return COST_GROUP_KEYWORD;
+        }
+        if (filter instanceof PhoneNumberPredicate
+                || filter instanceof DobPredicate
+                || filter instanceof BloodTypePredicate
+                || filter instanceof IndexPredicate
+                || filter instanceof StartTimePredicate
+                || filter instanceof EndTimePredicate) {
+            return COST_EQUALITY;
+        }
+        return COST_UNKNOWN;
+    }
+
+
+    /**
+     * Returns the heuristic fraction of rows that satisfy the given filter,
+     * used when there is no data to sample.
+     */
+    static double estimateSelectivity(Predicate<?> filter, int dataSize) {
+        if (filter instanceof PhoneNumberPredicate) {
+            // phone numbers are close to unique
+            return 1.0 / Math.max(1, dataSize);
+        } else if (filter instanceof DobPredicate) {
+            return SELECTIVITY_DOB;
+        } else if (filter instanceof BloodTypePredicate) {
+            return SELECTIVITY_BLOOD_TYPE;
+        } else if (filter instanceof IndexPredicate) {
+            return SELECTIVITY_PATIENT_INDEX;
+        } else if (filter instanceof StartTimePredicate || filter instanceof EndTimePredicate) {
+            return SELECTIVITY_TIME_BOUND;
+        } else if (filter instanceof NameContainsKeywordsPredicate
+                || filter instanceof AllergyContainsKeywordsPredicate
+                || filter instanceof VaccineContainsKeywordsPredicate
+                || filter instanceof seedu.vms.model.appointment.predicates.VaccineContainsKeywordsPredicate) {
+            return SELECTIVITY_KEYWORD;
+        }
+        return SELECTIVITY_UNKNOWN;
+    }
+
+
+    private static String describe(Predicate<?> filter) {
+        String name = filter.getClass().getSimpleName();
+        int lambdaPos = name.indexOf("$$");
+        return lambdaPos < 0 ? name : name.substring(0, lambdaPos) + "$lambda";
+    }
+}
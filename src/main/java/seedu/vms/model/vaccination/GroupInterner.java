@@ -0,0 +1,102 @@
+package seedu.vms.model.vaccination;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+
+import seedu.vms.model.GroupName;
+
+
+/**
+ * Interns group names into small non-negative indexes, so that sets of groups
+ * can be compiled into bit masks. Indexes are never reused within an
+ * interner, so masks compiled with the same interner remain comparable.
+ *
+ * <p>Evaluators are compiled with the {@link #current() current} interner.
+ * Once it holds {@link #CAPACITY} names, it is replaced by a fresh interner
+ * for the evaluators compiled afterwards, so that names of vaccinations that
+ * have long been deleted or edited are not held forever. An interner lives
+ * only as long as the evaluators compiled with it, and holds at most its
+ * capacity plus the names of a single vaccination.
+ */
+class GroupInterner {
+    /** The index of group names that have not been interned. */
+    static final int NOT_FOUND = -1;
+
+    /** The number of names after which the current interner is replaced. */
+    static final int CAPACITY = 4096;
+
+    private static GroupInterner current = new GroupInterner();
+
+    private final ConcurrentHashMap<GroupName, Integer> indexes = new ConcurrentHashMap<>();
+
+
+    /**
+     * Returns the interner to compile new evaluators with, replacing it with
+     * a fresh one if it is full.
+     */
+    static synchronized GroupInterner current() {
+        if (current.size() >= CAPACITY) {
+            current = new GroupInterner();
+        }
+        return current;
+    }
+
+
+    /** Returns the number of names interned. */
+    int size() {
+        return indexes.size();
+    }
+
+
+    /** Returns the index of the given group name, interning it if needed. */
+    int intern(GroupName name) {
+        Integer index = indexes.get(name);
+        if (index != null) {
+            return index;
+        }
+        synchronized (indexes) {
+            return indexes.computeIfAbsent(name, unused -> indexes.size());
+        }
+    }
+
+
+    /**
+     * Returns the index of the given group name or {@link #NOT_FOUND} if it
+     * has not been interned. Unlike {@link #intern(GroupName)}, this never
+     * allocates.
+     */
+    int indexOf(GroupName name) {
+        Integer index = indexes.get(name);
+        return index == null ? NOT_FOUND : index;
+    }
+
+
+    /** Returns a bit mask with the bits of the indexes of the given group names set, interning them. */
+    long[] toMask(Collection<GroupName> names) {
+        int[] nameIndexes = names.stream().mapToInt(this::intern).toArray();
+        return toMask(nameIndexes);
+    }
+
+
+    /**
+     * Returns a bit mask with the bits of the indexes of the given group
+     * names set, ignoring the names that have not been interned.
+     */
+    long[] maskOf(Collection<GroupName> names) {
+        int[] nameIndexes = names.stream().mapToInt(this::indexOf).filter(index -> index >= 0).toArray();
+        return toMask(nameIndexes);
+    }
+
+
+    private static long[] toMask(int[] nameIndexes) {
+        int maxIndex = -1;
+        for (int index : nameIndexes) {
+            maxIndex = Math.max(maxIndex, index);
+        }
+        long[] mask = new long[(maxIndex >> 6) + 1];
+        for (int index : nameIndexes) {
+            mask[index >> 6] |= 1L << index;
+        }
+        return mask;
+    }
+}
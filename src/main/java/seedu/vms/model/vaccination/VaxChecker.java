@@ -2,7 +2,6 @@ package seedu.vms.model.vaccination;
 
 import java.util.HashSet;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import seedu.vms.model.Age;
 import seedu.vms.model.GroupName;
@@ -15,7 +14,8 @@ import seedu.vms.model.GroupName;
 public class VaxChecker {
     /**
      * Checks if the given attributes of a patient meets the requirements to
-     * take the specified vaccination.
+     * take the specified vaccination. The check is done by the compiled
+     * {@link VaxEvaluator} of the vaccination.
      *
      * @param vaxType - the vaccination type to check.
      * @param age - the age ot the patient.
@@ -25,92 +25,6 @@ public class VaxChecker {
      */
     public static boolean check(VaxType vaxType,
                 Age age, HashSet<GroupName> allergies, List<VaxType> takenTypes) {
-        boolean isWithinAge = age.compareTo(vaxType.getMinAge()) * vaxType.getMaxAge().compareTo(age) >= 0;
-
-        boolean isAllergiesSatisfied = checkAllergies(allergies, vaxType.getIngredients());
-        boolean isHistorySatisfied = checkHistReqs(vaxType.getHistoryReqs(), takenTypes);
-
-        return isWithinAge && isAllergiesSatisfied && isHistorySatisfied;
-    }
-
-
-    private static boolean checkAllergies(HashSet<GroupName> allergies, HashSet<GroupName> ingredients) {
-        for (GroupName allergy : allergies) {
-            if (ingredients.contains(allergy)) {
-                return false;
-            }
-        }
-        return true;
-    }
-
-
-    private static boolean checkHistReqs(List<Requirement> reqs, List<VaxType> records) {
-        List<HistReqChecker> checkers = records.stream()
-                .map(HistReqChecker::new)
-                .collect(Collectors.toList());
-        for (Requirement req : reqs) {
-            if (!checkHistReq(req, checkers)) {
-                return false;
-            }
-        }
-        return true;
-    }
-
-
-    private static boolean checkHistReq(Requirement req, List<HistReqChecker> checkers) {
-        for (HistReqChecker checker : checkers) {
-            switch (checker.check(req)) {
-            case SATISFIED:
-                return true;
-            case PASS:
-                continue;
-            case VIOLATED:
-                return false;
-            default:
-                assert false : "Unexpected satisfaction state";
-            }
-        }
-        return req.getReqType().equals(Requirement.RequirementType.NONE);
-    }
-
-
-
-
-
-    private static class HistReqChecker {
-        private final VaxType vaxType;
-        private final HashSet<Requirement> satisfiedReqs = new HashSet<>();
-
-
-        HistReqChecker(VaxType vaxType) {
-            this.vaxType = vaxType;
-        }
-
-
-        SatisfactionState check(Requirement req) {
-            SatisfactionState state = SatisfactionState.PASS;
-            if (satisfiedReqs.contains(req)) {
-                return state;
-            }
-
-            if (req.check(vaxType.getGroups())) {
-                if (!req.getReqType().equals(Requirement.RequirementType.NONE)) {
-                    state = SatisfactionState.SATISFIED;
-                    satisfiedReqs.add(req);
-                }
-            } else if (req.getReqType().equals(Requirement.RequirementType.NONE)) {
-                state = SatisfactionState.VIOLATED;
-            }
-
-            return state;
-        }
-    }
-
-
-
-
-
-    private static enum SatisfactionState {
-        SATISFIED, PASS, VIOLATED;
+        return vaxType.getEvaluator().check(age, allergies, takenTypes);
     }
 }
@@ -0,0 +1,200 @@
+package seedu.vms.model.vaccination;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import seedu.vms.model.Age;
+import seedu.vms.model.GroupName;
+import seedu.vms.model.vaccination.Requirement.RequirementType;
+
+
+/**
+ * The requirements of a {@code VaxType} compiled for checking patients
+ * against them.
+ *
+ * <p>Groups are interned into indexes so that the ingredients, the groups and
+ * the history requirements of the vaccination are bit masks. Checking a
+ * patient allocates nothing and takes time independent of the sizes of the
+ * group sets, other than a lookup per allergy of the patient and a pass over
+ * the requirements per vaccination the patient has taken.
+ *
+ * <p>Equal history requirements are merged and counted, as each occurrence
+ * has to be satisfied by a different vaccination in the history of the
+ * patient.
+ *
+ * <p>Masks of evaluators compiled with different {@link GroupInterner}s are
+ * not comparable, so the groups of taken vaccinations compiled with another
+ * interner are masked with the interner of this evaluator instead.
+ */
+public class VaxEvaluator {
+    private final GroupInterner interner;
+    private final int minAge;
+    private final int maxAge;
+    private final long[] ingredientMask;
+    private final long[] groupMask;
+
+    private final RequirementType[] reqTypes;
+    private final long[][] reqMasks;
+    private final int[] reqCounts;
+
+
+    /**
+     * Compiles the requirements of the given vaccination type.
+     *
+     * @param vaxType - the vaccination type to compile.
+     */
+    VaxEvaluator(VaxType vaxType) {
+        interner = GroupInterner.current();
+        minAge = vaxType.getMinAge().getValue();
+        maxAge = vaxType.getMaxAge().getValue();
+        ingredientMask = interner.toMask(vaxType.getIngredients());
+        groupMask = interner.toMask(vaxType.getGroups());
+
+        ArrayList<Requirement> distinctReqs = new ArrayList<>();
+        ArrayList<Integer> counts = new ArrayList<>();
+        for (Requirement req : vaxType.getHistoryReqs()) {
+            int index = distinctReqs.indexOf(req);
+            if (index < 0) {
+                distinctReqs.add(req);
+                counts.add(1);
+            } else {
+                counts.set(index, counts.get(index) + 1);
+            }
+        }
+
+        reqTypes = new RequirementType[distinctReqs.size()];
+        reqMasks = new long[distinctReqs.size()][];
+        reqCounts = new int[distinctReqs.size()];
+        for (int i = 0; i < distinctReqs.size(); i++) {
+            reqTypes[i] = distinctReqs.get(i).getReqType();
+            reqMasks[i] = interner.toMask(distinctReqs.get(i).getReqSet());
+            reqCounts[i] = counts.get(i);
+        }
+    }
+
+
+    /**
+     * Checks if a patient with the given attributes meets the requirements of
+     * the vaccination.
+     *
+     * @param age - the age of the patient.
+     * @param allergies - the allergies of the patient.
+     * @param takenTypes - the vaccinations the patient has taken.
+     * @return {@code true} if the patient meets the requirements and
+     *      {@code false} otherwise.
+     */
+    public boolean check(Age age, Collection<GroupName> allergies, List<VaxType> takenTypes) {
+        return isWithinAge(age) && isAllergySafe(allergies) && isHistorySatisfied(takenTypes);
+    }
+
+
+    /** Returns if the given age is within the age range of the vaccination. */
+    public boolean isWithinAge(Age age) {
+        return minAge <= age.getValue() && age.getValue() <= maxAge;
+    }
+
+
+    /** Returns if the vaccination contains none of the given allergies. */
+    public boolean isAllergySafe(Collection<GroupName> allergies) {
+        for (GroupName allergy : allergies) {
+            if (hasBit(ingredientMask, interner.indexOf(allergy))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+
+    /** Returns if the given vaccination history satisfies the history requirements. */
+    public boolean isHistorySatisfied(List<VaxType> takenTypes) {
+        for (int i = 0; i < reqTypes.length; i++) {
+            if (!isSatisfied(i, takenTypes)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+
+    /**
+     * Returns if having taken the given vaccination may affect whether the
+     * history requirements are satisfied, which is when any of them involves
+     * a group of the vaccination.
+     */
+    public boolean dependsOn(VaxType takenType) {
+        long[] takenMask = groupMaskOf(takenType);
+        for (long[] reqMask : reqMasks) {
+            if (intersects(takenMask, reqMask)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+
+    private boolean isSatisfied(int reqIndex, List<VaxType> takenTypes) {
+        RequirementType reqType = reqTypes[reqIndex];
+        long[] reqMask = reqMasks[reqIndex];
+        int remaining = reqCounts[reqIndex];
+        for (int i = 0; i < takenTypes.size(); i++) {
+            long[] takenMask = groupMaskOf(takenTypes.get(i));
+            switch (reqType) {
+            case ALL:
+                remaining -= containsAll(takenMask, reqMask) ? 1 : 0;
+                break;
+            case ANY:
+                remaining -= intersects(takenMask, reqMask) ? 1 : 0;
+                break;
+            case NONE:
+                if (intersects(takenMask, reqMask)) {
+                    return false;
+                }
+                break;
+            default:
+                assert false : "Unexpected requirement type";
+            }
+            if (remaining <= 0 && reqType != RequirementType.NONE) {
+                return true;
+            }
+        }
+        return reqType == RequirementType.NONE;
+    }
+
+
+    /** Returns the mask of the groups of the given vaccination that is comparable with the masks of this. */
+    private long[] groupMaskOf(VaxType vaxType) {
+        VaxEvaluator evaluator = vaxType.getEvaluator();
+        if (evaluator.interner == interner) {
+            return evaluator.groupMask;
+        }
+        return interner.maskOf(vaxType.getGroups());
+    }
+
+
+    private static boolean hasBit(long[] mask, int index) {
+        return index >= 0 && (index >> 6) < mask.length && (mask[index >> 6] & (1L << index)) != 0;
+    }
+
+
+    private static boolean containsAll(long[] mask, long[] subMask) {
+        for (int i = 0; i < subMask.length; i++) {
+            long word = i < mask.length ? mask[i] : 0;
+            if ((word & subMask[i]) != subMask[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+
+    private static boolean intersects(long[] mask, long[] otherMask) {
+        int length = Math.min(mask.length, otherMask.length);
+        for (int i = 0; i < length; i++) {
+            if ((mask[i] & otherMask[i]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -39,6 +39,8 @@ public class VaxType implements Comparable<VaxType> {
     private final HashSet<GroupName> ingredients;
     private final List<Requirement> historyReqs;
 
+    private volatile VaxEvaluator evaluator = null;
+
 
     /**
      * Constructs a {@code VaxType}.
@@ -55,11 +57,12 @@ public class VaxType implements Comparable<VaxType> {
         AppUtil.checkArgument(AppUtil.isWithinLimit(historyReqs, LIMIT_HISTORY_REQ), MESSAGE_HISTORY_REQ_CONSTRAINTS);
 
         this.name = name;
-        this.groups = groups;
+        // copied so that the compiled evaluator cannot go stale
+        this.groups = new HashSet<>(groups);
         this.minAge = minAge;
         this.maxAge = maxAge;
-        this.ingredients = ingredients;
-        this.historyReqs = historyReqs;
+        this.ingredients = new HashSet<>(ingredients);
+        this.historyReqs = List.copyOf(historyReqs);
     }
 
     public static boolean isValidRange(Age minAge, Age maxAge) {
@@ -101,6 +104,23 @@ public class VaxType implements Comparable<VaxType> {
     }
 
 
+    /**
+     * Returns the requirements of this vaccination type compiled for checking
+     * patients against. They are compiled on first use and kept for the life
+     * of this instance. As vaccination types are immutable, editing one
+     * replaces it with a new instance, which discards its evaluator.
+     */
+    public VaxEvaluator getEvaluator() {
+        VaxEvaluator compiled = evaluator;
+        if (compiled == null) {
+            // compiling twice on a race is harmless as the results are equal
+            compiled = new VaxEvaluator(this);
+            evaluator = compiled;
+        }
+        return compiled;
+    }
+
+
     @Override
     public int compareTo(VaxType other) {
         return name.compareTo(other.name);
@@ -1,13 +1,16 @@
 package seedu.vms.storage;
 
 import java.io.IOException;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import seedu.vms.commons.core.LogsCenter;
+import seedu.vms.model.IdData;
 import seedu.vms.model.ReadOnlyUserPrefs;
 import seedu.vms.model.UserPrefs;
 import seedu.vms.model.appointment.AppointmentManager;
 import seedu.vms.model.keyword.KeywordManager;
+import seedu.vms.model.patient.Patient;
 import seedu.vms.model.patient.ReadOnlyPatientManager;
 import seedu.vms.model.vaccination.ReadOnlyVaxTypeManage;
 import seedu.vms.model.vaccination.VaxTypeManager;
@@ -63,6 +66,12 @@ public class StorageManager implements Storage {
         return patientManagerStorage.readPatientManager();
     }
 
+    @Override
+    public ReadOnlyPatientManager readPatientManager(Consumer<? super IdData<Patient>> decodedHandler)
+                throws IOException {
+        return patientManagerStorage.readPatientManager(decodedHandler);
+    }
+
     @Override
     public void savePatientManager(ReadOnlyPatientManager patientManager) throws IOException {
         patientManagerStorage.savePatientManager(patientManager);
@@ -4,10 +4,13 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import seedu.vms.commons.exceptions.IllegalValueException;
 import seedu.vms.commons.util.FileUtil;
 import seedu.vms.commons.util.JsonUtil;
+import seedu.vms.model.IdData;
+import seedu.vms.model.patient.Patient;
 import seedu.vms.model.patient.ReadOnlyPatientManager;
 
 /**
@@ -27,11 +30,12 @@ public class JsonPatientManagerStorage implements PatientManagerStorage {
     }
 
     @Override
-    public ReadOnlyPatientManager readPatientManager() throws IOException {
+    public ReadOnlyPatientManager readPatientManager(Consumer<? super IdData<Patient>> decodedHandler)
+                throws IOException {
         try {
             return JsonUtil
                     .deserializeFromFile(filePath, JsonSerializablePatientManager.class)
-                    .toModelType();
+                    .toModelType(decodedHandler);
         } catch (IllegalValueException ive) {
             throw new IOException("Illegal values present", ive);
         }
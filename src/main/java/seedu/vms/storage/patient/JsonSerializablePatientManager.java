@@ -2,6 +2,7 @@ package seedu.vms.storage.patient;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -52,6 +53,18 @@ public class JsonSerializablePatientManager {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public PatientManager toModelType() throws IllegalValueException {
+        return toModelType(data -> {});
+    }
+
+    /**
+     * Converts this patient manager into the model's {@code PatientManager}
+     * object, passing each patient to {@code decodedHandler} once it has been
+     * converted and checked.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public PatientManager toModelType(Consumer<? super IdData<Patient>> decodedHandler)
+                throws IllegalValueException {
         PatientManager patientManager = new PatientManager();
         for (JsonAdaptedPatientData jsonAdaptedPatientData : datas) {
             IdData<Patient> patientData = jsonAdaptedPatientData.toModelType();
@@ -65,6 +78,7 @@ public class JsonSerializablePatientManager {
             } catch (IllegalArgumentException illArgEx) {
                 throw new IllegalValueException(illArgEx.getMessage());
             }
+            decodedHandler.accept(patientData);
         }
         return patientManager;
     }
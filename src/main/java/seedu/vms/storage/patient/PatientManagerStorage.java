@@ -1,8 +1,11 @@
 package seedu.vms.storage.patient;
 
 import java.io.IOException;
+import java.util.function.Consumer;
 
 import seedu.vms.commons.exceptions.DataConversionException;
+import seedu.vms.model.IdData;
+import seedu.vms.model.patient.Patient;
 import seedu.vms.model.patient.ReadOnlyPatientManager;
 
 /**
@@ -15,7 +18,16 @@ public interface PatientManagerStorage {
      * @throws DataConversionException if the data in storage is not in the expected format.
      * @throws IOException if there was any problem when reading from the storage.
      */
-    ReadOnlyPatientManager readPatientManager() throws IOException;
+    default ReadOnlyPatientManager readPatientManager() throws IOException {
+        return readPatientManager(data -> {});
+    }
+
+    /**
+     * Returns PatientManager data as a {@link ReadOnlyPatientManager}, passing
+     * each patient to {@code decodedHandler} as soon as it is decoded.
+     * @throws IOException if there was any problem when reading from the storage.
+     */
+    ReadOnlyPatientManager readPatientManager(Consumer<? super IdData<Patient>> decodedHandler) throws IOException;
 
     /**
      * Saves the given {@link ReadOnlyPatientManager} to the storage.
@@ -2,10 +2,9 @@ package seedu.vms.ui;
 
 import java.util.function.Function;
 
-import javafx.beans.property.ObjectProperty;
-import javafx.beans.value.ObservableValue;
 import javafx.scene.Node;
 import javafx.scene.layout.VBox;
+import seedu.vms.commons.core.ReadOnlyValueProperty;
 
 
 /**
@@ -25,18 +24,19 @@ public class DetailedView<T> extends VBox implements Refreshable {
     /**
      * Constructs a {@code DetailedView}.
      *
-     * @param sourceProperty - value property to bind to.
+     * @param sourceProperty - value property to bind to. It may be changed
+     *      from any thread, as the view is only updated when refreshed.
      * @param displayFunction - a function to convert the value to display to
      *      its graphical representation.
      */
-    public DetailedView(ObjectProperty<T> sourceProperty, Function<T, Node> displayFunction) {
+    public DetailedView(ReadOnlyValueProperty<T> sourceProperty, Function<T, Node> displayFunction) {
         getStyleClass().add(STYLE_CLASS);
         this.displayFunction = displayFunction;
         sourceProperty.addListener(this::handleChange);
     }
 
 
-    private synchronized void handleChange(ObservableValue<? extends T> ob, T oldValue, T newValue) {
+    private synchronized void handleChange(T oldValue, T newValue) {
         value = newValue;
         isUpdated = false;
     }
@@ -1,10 +1,17 @@
 package seedu.vms.ui;
 
-import java.util.Collection;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
+import javafx.application.Platform;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.MapChangeListener;
@@ -13,16 +20,51 @@ import javafx.collections.ObservableMap;
 import javafx.scene.Node;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
+import seedu.vms.model.BatchMapChangeListener;
+import seedu.vms.model.ResultPage;
 
 
-/** An extension of {@link ListView} to display the values of a map. */
+/**
+ * An extension of {@link ListView} to display the values of a map.
+ *
+ * <p>Values are loaded in sorted pages. Only the first page is loaded at
+ * first and the next page is loaded once the last loaded value is shown.
+ * Changes to the map are applied to the loaded values as binary search
+ * inserts and removes. The loaded values are only reloaded when more changes
+ * than a page arrive between refreshes, such as a large batch of changes,
+ * and when the comparator changes. Reloads sort a snapshot of the map on a
+ * background thread and the sorted values are swapped in on the JavaFX
+ * application thread. A reload is cancelled if a newer reload is started
+ * before it completes.
+ *
+ * <p>Each cell of the list view creates one card from the card factory and
+ * rebinds it to whichever value the cell is showing, so scrolling does not
+ * build new nodes.
+ */
 public class ListViewPanel<T extends Comparable<T>> extends ListView<T> implements Refreshable {
-    private final BiFunction<Integer, T, Node> displayFunction;
+    /** Default number of values loaded at a time. */
+    public static final int DEFAULT_PAGE_SIZE = 100;
+
+    private static final ExecutorService SORT_EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "list-view-sorter");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final ObservableMap<?, T> dataMap;
+    private final Supplier<? extends ReusableCard<? super T>> cardFactory;
+    private final int pageSize;
     private final ObjectProperty<Comparator<T>> comparatorProperty =
             new SimpleObjectProperty<>(Comparator.naturalOrder());
 
-    private final ObjectProperty<MapChangeListener.Change<?, ? extends T>> changeProperty =
-            new SimpleObjectProperty<>();
+    private final ArrayList<MapChangeListener.Change<?, ? extends T>> pendingChanges = new ArrayList<>();
+    private boolean isReloadNeeded = false;
+
+    private ResultPage<T> lastPage;
+    private boolean isLoadingPage = false;
+
+    private Future<?> pendingReload;
+    private long reloadCount = 0;
 
 
     /**
@@ -46,10 +88,53 @@ public class ListViewPanel<T extends Comparable<T>> extends ListView<T> implemen
      *      representation of the data.
      */
     public ListViewPanel(ObservableMap<?, T> dataMap, BiFunction<Integer, T, Node> displayFunction) {
-        this.displayFunction = displayFunction;
+        this(dataMap, displayFunction, DEFAULT_PAGE_SIZE);
+    }
+
+
+    /**
+     * Constructs a {@code ListViewPanel}.
+     *
+     * @param dataMap - the map of data to display within this list view.
+     * @param displayFunction - factory function to generate the graphical
+     *      representation of the data.
+     * @param pageSize - the number of values to load at a time.
+     */
+    public ListViewPanel(ObservableMap<?, T> dataMap, BiFunction<Integer, T, Node> displayFunction,
+                int pageSize) {
+        this(dataMap, () -> new RebuildingCard<>(displayFunction), pageSize);
+    }
+
+
+    /**
+     * Constructs a {@code ListViewPanel} that reuses the cards of its cells.
+     *
+     * @param dataMap - the map of data to display within this list view.
+     * @param cardFactory - factory function to generate the reusable
+     *      graphical representation of the data.
+     */
+    public ListViewPanel(ObservableMap<?, T> dataMap, Supplier<? extends ReusableCard<? super T>> cardFactory) {
+        this(dataMap, cardFactory, DEFAULT_PAGE_SIZE);
+    }
+
+
+    /**
+     * Constructs a {@code ListViewPanel} that reuses the cards of its cells.
+     *
+     * @param dataMap - the map of data to display within this list view.
+     * @param cardFactory - factory function to generate the reusable
+     *      graphical representation of the data.
+     * @param pageSize - the number of values to load at a time.
+     */
+    public ListViewPanel(ObservableMap<?, T> dataMap, Supplier<? extends ReusableCard<? super T>> cardFactory,
+                int pageSize) {
+        this.dataMap = dataMap;
+        this.cardFactory = cardFactory;
+        this.pageSize = pageSize;
         setCellFactory(listView -> new DisplayCell());
-        dataMap.addListener(this::handleChange);
-        updateList(dataMap.values());
+        dataMap.addListener((BatchMapChangeListener<Object, T>) this::handleChanges);
+        comparatorProperty.addListener((observable, oldComparator, newComparator) -> requestReload());
+        updateList();
     }
 
 
@@ -66,25 +151,162 @@ public class ListViewPanel<T extends Comparable<T>> extends ListView<T> implemen
     }
 
 
-    private synchronized void handleChange(MapChangeListener.Change<?, ? extends T> change) {
-        changeProperty.set(change);
+    private synchronized void handleChanges(List<? extends MapChangeListener.Change<?, ? extends T>> changes) {
+        if (isReloadNeeded) {
+            return;
+        }
+        if (pendingChanges.size() + changes.size() > pageSize) {
+            // too many changes between refreshes, reloading is cheaper
+            requestReload();
+            return;
+        }
+        pendingChanges.addAll(changes);
+    }
+
+
+    private synchronized void requestReload() {
+        isReloadNeeded = true;
+        pendingChanges.clear();
     }
 
 
-    private synchronized void updateList(Collection<? extends T> updatedDatas) {
-        getItems().setAll(updatedDatas);
-        getItems().sort(comparatorProperty.get());
+    private void applyChange(MapChangeListener.Change<?, ? extends T> change) {
+        if (change.wasRemoved()) {
+            removeItem(change.getValueRemoved());
+        }
+        if (change.wasAdded()) {
+            insertItem(change.getValueAdded());
+        }
+    }
+
+
+    private void insertItem(T item) {
+        Comparator<T> comparator = comparatorProperty.get();
+        List<T> pageItems = lastPage.getItems();
+        if (lastPage.hasNext() && !pageItems.isEmpty()
+                && comparator.compare(item, pageItems.get(pageItems.size() - 1)) > 0) {
+            // not loaded yet, it will be part of a subsequent page
+            return;
+        }
+        int index = Collections.binarySearch(getItems(), item, comparator);
+        if (index < 0) {
+            getItems().add(-index - 1, item);
+        } else if (indexOfExact(item, index) < 0) {
+            getItems().add(index, item);
+        }
+    }
+
+
+    private void removeItem(T item) {
+        int index = Collections.binarySearch(getItems(), item, comparatorProperty.get());
+        if (index < 0) {
+            return;
+        }
+        int exactIndex = indexOfExact(item, index);
+        if (exactIndex >= 0) {
+            getItems().remove(exactIndex);
+        }
+    }
+
+
+    /**
+     * Returns the index of the given item among the items the comparator
+     * considers equal to the item at {@code index}, or -1 if it is not
+     * found.
+     */
+    private int indexOfExact(T item, int index) {
+        Comparator<T> comparator = comparatorProperty.get();
+        int start = index;
+        while (start > 0 && comparator.compare(getItems().get(start - 1), item) == 0) {
+            start--;
+        }
+        for (int i = start; i < getItems().size() && comparator.compare(getItems().get(i), item) == 0; i++) {
+            if (getItems().get(i).equals(item)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+
+    /**
+     * Reloads the displayed values on the calling thread, keeping at least as
+     * many values loaded as there were before.
+     */
+    private synchronized void updateList() {
+        int loadCount = Math.max(pageSize, getItems().size());
+        lastPage = ResultPage.first(dataMap.values(), comparatorProperty.get(), loadCount);
+        getItems().setAll(lastPage.getItems());
+    }
+
+
+    /**
+     * Starts reloading the displayed values from a snapshot of the map on the
+     * sort executor, cancelling any reload that is still in progress.
+     */
+    private synchronized void startReload() {
+        if (pendingReload != null) {
+            pendingReload.cancel(true);
+        }
+        long reloadId = ++reloadCount;
+        List<T> snapshot = new ArrayList<>(dataMap.values());
+        Comparator<T> comparator = comparatorProperty.get();
+        int loadCount = Math.max(pageSize, getItems().size());
+        pendingReload = SORT_EXECUTOR.submit(() -> {
+            ResultPage<T> page = ResultPage.first(snapshot, comparator, loadCount);
+            Platform.runLater(() -> completeReload(reloadId, page));
+        });
+    }
+
+
+    /**
+     * Swaps in the values of a completed reload if no newer reload has been
+     * started since, then applies the changes made after its snapshot.
+     */
+    private void completeReload(long reloadId, ResultPage<T> page) {
+        synchronized (this) {
+            if (reloadId != reloadCount) {
+                return;
+            }
+            pendingReload = null;
+            lastPage = page.withValues(dataMap.values());
+        }
+        getItems().setAll(page.getItems());
+        refresh();
+    }
+
+
+    /** Appends the next page of values to the displayed values. */
+    private synchronized void loadNextPage() {
+        isLoadingPage = false;
+        if (lastPage == null || !lastPage.hasNext() || pendingReload != null) {
+            return;
+        }
+        lastPage = lastPage.next(pageSize);
+        getItems().addAll(lastPage.getItems());
     }
 
 
     @Override
     public void refresh() {
-        MapChangeListener.Change<?, ? extends T> change = changeProperty.get();
-        if (change == null) {
-            return;
+        ArrayList<MapChangeListener.Change<?, ? extends T>> changes;
+        synchronized (this) {
+            if (isReloadNeeded) {
+                isReloadNeeded = false;
+                pendingChanges.clear();
+                startReload();
+                return;
+            }
+            if (pendingReload != null || pendingChanges.isEmpty()) {
+                // changes made during a reload are applied once it completes
+                return;
+            }
+            changes = new ArrayList<>(pendingChanges);
+            pendingChanges.clear();
+        }
+        for (MapChangeListener.Change<?, ? extends T> change : changes) {
+            applyChange(change);
         }
-        updateList(change.getMap().values());
-        changeProperty.set(null);
     }
 
 
@@ -92,6 +314,9 @@ public class ListViewPanel<T extends Comparable<T>> extends ListView<T> implemen
 
 
     private class DisplayCell extends ListCell<T> {
+        private ReusableCard<? super T> card;
+
+
         @Override
         protected void updateItem(T data, boolean empty) {
             super.updateItem(data, empty);
@@ -99,8 +324,50 @@ public class ListViewPanel<T extends Comparable<T>> extends ListView<T> implemen
                 setText(null);
                 setGraphic(null);
             } else {
-                setGraphic(displayFunction.apply(getIndex() + 1, data));
+                if (card == null) {
+                    card = cardFactory.get();
+                }
+                card.bind(getIndex() + 1, data);
+                setGraphic(card.getRoot());
+                requestNextPageIfLast();
             }
         }
+
+
+        private void requestNextPageIfLast() {
+            if (isLoadingPage || getIndex() < getItems().size() - 1
+                    || lastPage == null || !lastPage.hasNext()) {
+                return;
+            }
+            isLoadingPage = true;
+            Platform.runLater(ListViewPanel.this::loadNextPage);
+        }
+    }
+
+
+
+
+
+    /** A card that rebuilds its node from a display function on every bind. */
+    private static class RebuildingCard<T> implements ReusableCard<T> {
+        private final BiFunction<Integer, T, Node> displayFunction;
+        private Node root;
+
+
+        RebuildingCard(BiFunction<Integer, T, Node> displayFunction) {
+            this.displayFunction = displayFunction;
+        }
+
+
+        @Override
+        public void bind(int index, T value) {
+            root = displayFunction.apply(index, value);
+        }
+
+
+        @Override
+        public Node getRoot() {
+            return root;
+        }
     }
 }
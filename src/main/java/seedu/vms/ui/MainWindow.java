@@ -1,9 +1,11 @@
 package seedu.vms.ui;
 
 import javafx.application.Platform;
+import javafx.beans.Observable;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
+import javafx.scene.control.ProgressBar;
 import javafx.scene.control.TextInputControl;
 import javafx.scene.input.KeyCombination;
 import javafx.scene.input.KeyEvent;
@@ -11,6 +13,8 @@ import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
+import seedu.vms.commons.core.CommandStats;
+import seedu.vms.commons.core.CommandStats.Phase;
 import seedu.vms.commons.core.GuiSettings;
 import seedu.vms.logic.Logic;
 import seedu.vms.model.IdData;
@@ -33,6 +37,7 @@ public class MainWindow extends UiPart<Stage> implements Refreshable {
 
     private Stage primaryStage;
     private Logic logic;
+    private RefreshScheduler refreshScheduler;
 
     // Independent Ui parts residing in this Ui container
     private ListViewPanel<IdData<Patient>> patientListPanel;
@@ -41,6 +46,7 @@ public class MainWindow extends UiPart<Stage> implements Refreshable {
     private DetailedView<VaxType> detailedVaxTypeView;
     private ListViewPanel<IdData<Appointment>> appointmentListPanel;
     private ResultDisplay resultDisplay;
+    private ProgressBar loadProgressBar;
     private HelpWindow helpWindow;
 
     @FXML private StackPane commandBoxPlaceholder;
@@ -58,14 +64,16 @@ public class MainWindow extends UiPart<Stage> implements Refreshable {
     @FXML private VBox resultDisplayPlaceholder;
 
     /**
-     * Creates a {@code MainWindow} with the given {@code Stage} and {@code Logic}.
+     * Creates a {@code MainWindow} with the given {@code Stage} and {@code Logic}
+     * whose refreshes are scheduled by the given {@code RefreshScheduler}.
      */
-    public MainWindow(Stage primaryStage, Logic logic) {
+    public MainWindow(Stage primaryStage, Logic logic, RefreshScheduler refreshScheduler) {
         super(FXML, primaryStage);
 
         // Set dependencies
         this.primaryStage = primaryStage;
         this.logic = logic;
+        this.refreshScheduler = refreshScheduler;
         logic.setCloseAction(() -> Platform.runLater(this::handleExit));
         logic.setShowHelpAction(() -> Platform.runLater(this::handleHelp));
 
@@ -84,12 +92,25 @@ public class MainWindow extends UiPart<Stage> implements Refreshable {
 
     @Override
     public void refresh() {
+        long startTime = System.nanoTime();
+        updateLoadProgress();
         resultDisplay.refresh();
         patientListPanel.refresh();
         detailedPatientView.refresh();
         vaxTypeListPanel.refresh();
         detailedVaxTypeView.refresh();
         appointmentListPanel.refresh();
+        logic.getCommandStats().record(CommandStats.UI_TYPE, Phase.REFRESH, System.nanoTime() - startTime);
+    }
+
+
+    private void updateLoadProgress() {
+        double progress = logic.loadProgressProperty().get();
+        loadProgressBar.setProgress(progress);
+        if (progress >= 1D) {
+            loadProgressBar.setVisible(false);
+            loadProgressBar.setManaged(false);
+        }
     }
 
 
@@ -135,37 +156,57 @@ public class MainWindow extends UiPart<Stage> implements Refreshable {
         // patients
         patientListPanel = new ListViewPanel<>(
                 logic.getFilteredPatientMap(),
-                idData -> new SimplifiedPatientCard(idData).getRoot());
+                () -> new SimplifiedPatientCard());
         patientListPanelPlaceholder.getChildren().add(patientListPanel);
         detailedPatientView = new DetailedView<>(logic.detailedPatientProperty(),
-                data -> new PatientCard(data.getValue(), data.getId() + 1).getRoot());
+                data -> new PatientCard(data.getValue(), data.getId() + 1,
+                        logic.getEligibleVaccinations(data.getId())).getRoot());
         detailedPatientPanel.getChildren().add(detailedPatientView);
 
         // @@author daitenshionyan
         vaxTypeListPanel = new ListViewPanel<>(
                 logic.getFilteredVaxTypeMap(),
-                (index, vaxType) -> new SimplifiedVaxTypeCard(index, vaxType).getRoot());
+                () -> new SimplifiedVaxTypeCard());
         vaxTypeListPanelPlaceholder.getChildren().add(vaxTypeListPanel);
         detailedVaxTypeView = new DetailedView<>(
                 logic.detailedVaxTypeProperty(),
                 vaxType -> new VaxTypeCard(vaxType).getRoot());
         detailedVaxTypePanel.getChildren().add(detailedVaxTypeView);
-        logic.bindVaccinationDisplayList(vaxTypeListPanel.getDisplayList());
 
         // @@author nusE0726844
         appointmentListPanel = new ListViewPanel<>(
                 logic.getFilteredAppointmentMap(),
-                idData -> new AppointmentCard(idData.getValue(), idData.getId() + 1).getRoot());
+                () -> new AppointmentCard());
         appointmentListPanelPlaceholder.getChildren().add(appointmentListPanel);
 
         // @@author
-        resultDisplay = new ResultDisplay();
+        loadProgressBar = new ProgressBar(0);
+        loadProgressBar.setMaxWidth(Double.MAX_VALUE);
+        resultDisplayPlaceholder.getChildren().add(loadProgressBar);
+        resultDisplay = new ResultDisplay(refreshScheduler::requestRefresh);
         Region resultDisplayRegion = resultDisplay.getRoot();
         resultDisplayPlaceholder.getChildren().add(resultDisplayRegion);
-        logic.setOnExecutionCompletion(resultDisplay::queueMessages);
+        logic.setOnExecutionCompletion(messages -> {
+            resultDisplay.queueMessages(messages);
+            refreshScheduler.requestRefresh();
+        });
 
         CommandBox commandBox = new CommandBox(logic::queue);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
+
+        // registered after the panels so that they receive the changes first
+        requestRefreshOnChange(logic.getFilteredPatientMap());
+        requestRefreshOnChange(logic.getFilteredVaxTypeMap());
+        requestRefreshOnChange(logic.getFilteredAppointmentMap());
+        logic.detailedPatientProperty().addListener((oldValue, newValue) -> refreshScheduler.requestRefresh());
+        logic.detailedVaxTypeProperty().addListener((oldValue, newValue) -> refreshScheduler.requestRefresh());
+        logic.loadProgressProperty().addListener((oldValue, newValue) -> refreshScheduler.requestRefresh());
+        refreshScheduler.requestRefresh();
+    }
+
+
+    private void requestRefreshOnChange(Observable observable) {
+        observable.addListener(ob -> refreshScheduler.requestRefresh());
     }
 
     /**
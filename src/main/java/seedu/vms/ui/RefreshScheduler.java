@@ -0,0 +1,83 @@
+package seedu.vms.ui;
+
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javafx.application.Platform;
+
+
+/**
+ * Schedules refreshes of the UI on the JavaFX application thread only when
+ * they are requested.
+ *
+ * <p>Requests that arrive before a scheduled refresh runs are coalesced into
+ * that refresh, and refreshes are spaced apart to not exceed the maximum
+ * frame rate.
+ */
+public class RefreshScheduler {
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final Runnable refreshAction;
+    private final long minInterval;
+    private final ScheduledExecutorService delayExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "refresh-scheduler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final AtomicBoolean isScheduled = new AtomicBoolean(false);
+    private volatile long lastRefreshTime;
+
+
+    /**
+     * Constructs a {@code RefreshScheduler}.
+     *
+     * @param refreshAction - the action to refresh the UI. It is run on the
+     *      JavaFX application thread.
+     * @param maxFrameRate - the maximum number of refreshes per second.
+     * @throws IllegalArgumentException if {@code maxFrameRate} is not
+     *      positive.
+     */
+    public RefreshScheduler(Runnable refreshAction, int maxFrameRate) {
+        if (maxFrameRate <= 0) {
+            throw new IllegalArgumentException("Max frame rate must be positive");
+        }
+        this.refreshAction = Objects.requireNonNull(refreshAction);
+        this.minInterval = NANOS_PER_SECOND / maxFrameRate;
+        this.lastRefreshTime = System.nanoTime() - minInterval;
+    }
+
+
+    /**
+     * Requests for a refresh. This method may be called from any thread.
+     */
+    public void requestRefresh() {
+        if (!isScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        long delay = lastRefreshTime + minInterval - System.nanoTime();
+        if (delay <= 0) {
+            Platform.runLater(this::refresh);
+            return;
+        }
+        delayExecutor.schedule(() -> Platform.runLater(this::refresh), delay, TimeUnit.NANOSECONDS);
+    }
+
+
+    private void refresh() {
+        // cleared before refreshing so that changes made during the refresh
+        // schedule another one
+        isScheduled.set(false);
+        lastRefreshTime = System.nanoTime();
+        refreshAction.run();
+    }
+
+
+    /** Stops scheduling delayed refreshes. */
+    public void shutdown() {
+        delayExecutor.shutdownNow();
+    }
+}
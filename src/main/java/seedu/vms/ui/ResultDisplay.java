@@ -2,10 +2,15 @@ package seedu.vms.ui;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.LinkedBlockingDeque;
 
 import javafx.fxml.FXML;
+import javafx.scene.Node;
 import javafx.scene.control.ScrollPane;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
@@ -13,23 +18,37 @@ import seedu.vms.logic.CommandMessage;
 
 /**
  * A ui for the status bar that is displayed at the header of the application.
+ *
+ * <p>Queued messages are rendered a bounded batch at a time, one batch per
+ * refresh. Messages that would be pushed out of the display before they are
+ * seen are collapsed into a single summary message. Message boxes that are
+ * pushed out of the display are kept in a pool and rebound to new messages.
  */
 public class ResultDisplay extends UiPart<Region> implements Refreshable {
     private static final String FXML = "ResultDisplay.fxml";
 
     private static final int DISPLAY_LIMIT = 30;
+    private static final int BATCH_SIZE = 10;
+    private static final String SUMMARY_FORMAT = "%d earlier messages were not displayed: %s";
 
     @FXML private ScrollPane scrollPane;
     @FXML private VBox displayArea;
 
-    private LinkedBlockingDeque<CommandMessage> messageQueue = new LinkedBlockingDeque<>();
+    private final LinkedBlockingDeque<CommandMessage> messageQueue = new LinkedBlockingDeque<>();
+    private final ArrayDeque<ResultMessageBox> displayedBoxes = new ArrayDeque<>();
+    private final ArrayDeque<ResultMessageBox> boxPool = new ArrayDeque<>();
+    private final Runnable refreshRequester;
 
 
     /**
      * Constructs a {@code ResultDisplay}.
+     *
+     * @param refreshRequester - the action to request for another refresh
+     *      when there are queued messages left after a refresh.
      */
-    public ResultDisplay() {
+    public ResultDisplay(Runnable refreshRequester) {
         super(FXML);
+        this.refreshRequester = requireNonNull(refreshRequester);
         scrollPane.viewportBoundsProperty().addListener((ob, o, n) -> {
             double width = n.getWidth();
             double height = n.getHeight();
@@ -59,18 +78,68 @@ public class ResultDisplay extends UiPart<Region> implements Refreshable {
     }
 
 
-    private void displayMessage(CommandMessage commandResult) {
-        displayArea.getChildren().add(new ResultMessageBox(commandResult).getRoot());
-        if (displayArea.getChildren().size() > DISPLAY_LIMIT) {
-            displayArea.getChildren().remove(0);
+    /**
+     * Collapses the queued messages that would be pushed out of the display by
+     * the messages queued after them into a summary message.
+     */
+    private void collapseOverflow() {
+        int overflowCount = messageQueue.size() - DISPLAY_LIMIT + 1;
+        if (overflowCount <= 1) {
+            return;
+        }
+        EnumMap<CommandMessage.State, Integer> stateCounts = new EnumMap<>(CommandMessage.State.class);
+        CommandMessage.State summaryState = CommandMessage.State.INFO;
+        for (int i = 0; i < overflowCount; i++) {
+            CommandMessage message = messageQueue.poll();
+            stateCounts.merge(message.getState(), 1, Integer::sum);
+            if (message.getState().compareTo(summaryState) > 0) {
+                summaryState = message.getState();
+            }
+        }
+
+        ArrayList<String> countStrings = new ArrayList<>();
+        for (Map.Entry<CommandMessage.State, Integer> entry : stateCounts.entrySet()) {
+            countStrings.add(String.format("%d %s", entry.getValue(), entry.getKey()));
+        }
+        String summary = String.format(SUMMARY_FORMAT, overflowCount, String.join(", ", countStrings));
+        messageQueue.addFirst(new CommandMessage(summary, summaryState));
+    }
+
+
+    private ResultMessageBox createBox(CommandMessage message) {
+        ResultMessageBox box = boxPool.poll();
+        if (box == null) {
+            return new ResultMessageBox(message);
         }
+        box.bind(message);
+        return box;
     }
 
 
     @Override
     public void refresh() {
-        for (int i = 0; i < messageQueue.size(); i++) {
-            displayMessage(messageQueue.poll());
+        collapseOverflow();
+        ArrayList<Node> batch = new ArrayList<>();
+        while (batch.size() < BATCH_SIZE && !messageQueue.isEmpty()) {
+            ResultMessageBox box = createBox(messageQueue.poll());
+            displayedBoxes.add(box);
+            batch.add(box.getRoot());
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        displayArea.getChildren().addAll(batch);
+
+        int excessCount = displayedBoxes.size() - DISPLAY_LIMIT;
+        if (excessCount > 0) {
+            displayArea.getChildren().remove(0, excessCount);
+            for (int i = 0; i < excessCount; i++) {
+                boxPool.add(displayedBoxes.poll());
+            }
+        }
+
+        if (!messageQueue.isEmpty()) {
+            refreshRequester.run();
         }
     }
 }
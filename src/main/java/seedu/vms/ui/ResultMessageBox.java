@@ -1,5 +1,7 @@
 package seedu.vms.ui;
 
+import java.util.List;
+
 import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
@@ -18,16 +20,48 @@ public class ResultMessageBox extends UiPart<Region> {
     private static final String STYLE_CLASS_ERROR = "result-message-error-color";
     private static final String STYLE_CLASS_WARNING = "result-message-warning-color";
     private static final String STYLE_CLASS_INFO = "result-message-info-color";
+    private static final List<String> STYLE_CLASSES = List.of(
+            STYLE_CLASS_DEATH, STYLE_CLASS_ERROR, STYLE_CLASS_WARNING, STYLE_CLASS_INFO);
 
     @FXML private Label stateLabel;
     @FXML private TextArea messageArea;
 
 
+    /**
+     * Constructs a {@code ResultMessageBox} that displays nothing until it is
+     * bound.
+     */
+    public ResultMessageBox() {
+        super(FXML_FILE);
+        // listener block adapted from https://stackoverflow.com/a/25643696 and modified
+        messageArea.textProperty().addListener((ob, oldText, newText) -> {
+            Platform.runLater(() -> {
+                Text text = new Text(newText);
+                text.setFont(messageArea.getFont());
+                double height = text.getLayoutBounds().getHeight() * 1.07
+                        + messageArea.getPadding().getTop() + messageArea.getPadding().getBottom()
+                        + 14D;
+                messageArea.setPrefHeight(height);
+            });
+        });
+    }
+
+
     /**
      * Constructs a {@code ResultMessageBox}.
      */
     public ResultMessageBox(CommandMessage result) {
-        super(FXML_FILE);
+        this();
+        bind(result);
+    }
+
+
+    /**
+     * Displays the given message, replacing the message that was displayed.
+     *
+     * @param result - the message to display.
+     */
+    public void bind(CommandMessage result) {
         setStateLabel(result.getState().toString());
         setMessage(result.getMessage());
         setStyle(result.getState());
@@ -40,19 +74,7 @@ public class ResultMessageBox extends UiPart<Region> {
 
 
     private void setMessage(String message) {
-        String displayMessage = StringUtil.wrapText(message, 180);
-        // listener block adapted from https://stackoverflow.com/a/25643696 and modified
-        messageArea.textProperty().addListener((ob, oldText, newText) -> {
-            Platform.runLater(() -> {
-                Text text = new Text(newText);
-                text.setFont(messageArea.getFont());
-                double height = text.getLayoutBounds().getHeight() * 1.07
-                        + messageArea.getPadding().getTop() + messageArea.getPadding().getBottom()
-                        + 14D;
-                messageArea.setPrefHeight(height);
-            });
-        });
-        messageArea.setText(displayMessage);
+        messageArea.setText(StringUtil.wrapText(message, 180));
     }
 
 
@@ -77,6 +99,8 @@ public class ResultMessageBox extends UiPart<Region> {
             break;
 
         }
+        stateLabel.getStyleClass().removeAll(STYLE_CLASSES);
+        messageArea.getStyleClass().removeAll(STYLE_CLASSES);
         stateLabel.getStyleClass().add(colorStyleClass);
         messageArea.getStyleClass().add(colorStyleClass);
     }
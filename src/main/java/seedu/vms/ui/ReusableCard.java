@@ -0,0 +1,24 @@
+package seedu.vms.ui;
+
+import javafx.scene.Node;
+
+
+/**
+ * A graphical representation of a value that can be rebound to display
+ * another value without rebuilding its scene graph.
+ *
+ * @param <T> - the type of value to display.
+ */
+public interface ReusableCard<T> {
+    /**
+     * Displays the given value.
+     *
+     * @param index - the one-based index of the value within its list.
+     * @param value - the value to display.
+     */
+    void bind(int index, T value);
+
+
+    /** Returns the root node of this card. */
+    Node getRoot();
+}
@@ -10,6 +10,9 @@ public interface Ui extends Refreshable {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
+    /** Stops the background work of the UI. */
+    void stop();
+
     /** Show error dialog and close app. */
     void showErrorDialogAndShutdown(String mainMessage, String additionalMessage);
 }
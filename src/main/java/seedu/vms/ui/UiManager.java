@@ -1,13 +1,16 @@
 package seedu.vms.ui;
 
+import java.lang.management.ManagementFactory;
 import java.util.logging.Logger;
 
 import javafx.application.Platform;
+import javafx.scene.Scene;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Alert.AlertType;
 import javafx.scene.image.Image;
 import javafx.stage.Stage;
 import seedu.vms.MainApp;
+import seedu.vms.commons.core.Config;
 import seedu.vms.commons.core.LogsCenter;
 import seedu.vms.commons.util.StringUtil;
 import seedu.vms.logic.Logic;
@@ -24,12 +27,24 @@ public class UiManager implements Ui {
 
     private Logic logic;
     private MainWindow mainWindow;
+    private RefreshScheduler refreshScheduler;
+    private final int maxFrameRate;
 
     /**
-     * Creates a {@code UiManager} with the given {@code Logic}.
+     * Creates a {@code UiManager} with the given {@code Logic} that refreshes
+     * at most {@link Config#DEFAULT_MAX_FRAME_RATE} times a second.
      */
     public UiManager(Logic logic) {
+        this(logic, Config.DEFAULT_MAX_FRAME_RATE);
+    }
+
+    /**
+     * Creates a {@code UiManager} with the given {@code Logic} that refreshes
+     * at most {@code maxFrameRate} times a second.
+     */
+    public UiManager(Logic logic, int maxFrameRate) {
         this.logic = logic;
+        this.maxFrameRate = maxFrameRate;
     }
 
     @Override
@@ -40,7 +55,9 @@ public class UiManager implements Ui {
         primaryStage.getIcons().add(getImage(ICON_APPLICATION));
 
         try {
-            mainWindow = new MainWindow(primaryStage, logic);
+            refreshScheduler = new RefreshScheduler(this::refresh, maxFrameRate);
+            mainWindow = new MainWindow(primaryStage, logic, refreshScheduler);
+            reportFirstPaint(primaryStage.getScene());
             mainWindow.show(); //This should be called before creating other UI parts
             mainWindow.fillInnerParts();
 
@@ -50,11 +67,33 @@ public class UiManager implements Ui {
         }
     }
 
+    /**
+     * Logs the time from the launch of the JVM to the first layout pulse of
+     * the given scene, which is right before it is first painted.
+     */
+    private void reportFirstPaint(Scene scene) {
+        scene.addPostLayoutPulseListener(new Runnable() {
+            @Override
+            public void run() {
+                scene.removePostLayoutPulseListener(this);
+                logger.info(String.format("Time to first paint: %d ms",
+                        ManagementFactory.getRuntimeMXBean().getUptime()));
+            }
+        });
+    }
+
     @Override
     public void refresh() {
         mainWindow.refresh();
     }
 
+    @Override
+    public void stop() {
+        if (refreshScheduler != null) {
+            refreshScheduler.shutdown();
+        }
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
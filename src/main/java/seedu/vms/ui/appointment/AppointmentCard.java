@@ -5,15 +5,18 @@ import java.time.format.DateTimeFormatter;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
+import seedu.vms.model.IdData;
 import seedu.vms.model.appointment.Appointment;
+import seedu.vms.ui.ReusableCard;
 import seedu.vms.ui.UiPart;
 
 
 /**
  * Graphical representation of an appointment.
  */
-public class AppointmentCard extends UiPart<Region> {
+public class AppointmentCard extends UiPart<Region> implements ReusableCard<IdData<Appointment>> {
     private static final String FXML_FILE = "AppointmentCard.fxml";
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("h:mm a MMM d yyyy");
 
     @FXML
     private Label idLabel;
@@ -26,6 +29,14 @@ public class AppointmentCard extends UiPart<Region> {
     @FXML
     private Label status;
 
+    /**
+     * Constructs a {@code AppointmentCard} that displays nothing until it is
+     * bound.
+     */
+    public AppointmentCard() {
+        super(FXML_FILE);
+    }
+
     /**
      * Constructs a {@code AppointmentCard}.
      *
@@ -33,16 +44,29 @@ public class AppointmentCard extends UiPart<Region> {
      * @param id - the id of the appointment to display.
      */
     public AppointmentCard(Appointment appointment, int id) {
-        super(FXML_FILE);
+        this();
+        bind(appointment, id);
+    }
+
+    /**
+     * Displays the given appointment.
+     *
+     * @param appointment - the appointment to display.
+     * @param id - the id of the appointment to display.
+     */
+    public void bind(Appointment appointment, int id) {
         idLabel.setText(String.format("#%04d", id));
         patientId.setText(Integer.toString(appointment.getPatient().getOneBased()));
-        appointmentTime.setText(appointment.getAppointmentTime()
-                .format(DateTimeFormatter.ofPattern("h:mm a MMM d yyyy"))
+        appointmentTime.setText(appointment.getAppointmentTime().format(TIME_FORMATTER)
                 + " ~ "
-                + appointment.getAppointmentEndTime()
-                .format(DateTimeFormatter.ofPattern("h:mm a MMM d yyyy")));
+                + appointment.getAppointmentEndTime().format(TIME_FORMATTER));
         vaccine.setText(appointment.getVaccination().toString());
         status.setText(appointment.getStatus() ? "Completed" : "Not Completed");
     }
+
+    @Override
+    public void bind(int index, IdData<Appointment> data) {
+        bind(data.getValue(), data.getId() + 1);
+    }
 }
 
@@ -1,5 +1,7 @@
 package seedu.vms.ui.patient;
 
+import java.util.List;
+
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
@@ -21,12 +23,14 @@ public class PatientCard extends UiPart<Region> {
     @FXML private Label bloodTypeLabel;
     @FXML private VBox allergyBox;
     @FXML private VBox vaccineBox;
+    @FXML private VBox eligibleBox;
     @FXML private Label phoneLabel;
 
     /**
-     * Creates a {@code PatientCode} with the given {@code Patient} and index to display.
+     * Creates a {@code PatientCode} with the given {@code Patient}, index and
+     * vaccinations the patient can take to display.
      */
-    public PatientCard(Patient patient, int id) {
+    public PatientCard(Patient patient, int id, List<String> eligibleVaccinations) {
         super(FXML);
         idLabel.setText(String.format("#%04d", id));
         nameLabel.setText(patient.getName().toString());
@@ -38,6 +42,9 @@ public class PatientCard extends UiPart<Region> {
         vaccineBox.getChildren().add(new TagFlowView(
                 patient.getVaccineAsString(),
                 TagFlowView.STYLE_CLASS_TAG_GREEN));
+        eligibleBox.getChildren().add(new TagFlowView(
+                eligibleVaccinations,
+                TagFlowView.STYLE_CLASS_TAG_BLUE));
         phoneLabel.setText(patient.getPhone().toString());
     }
 }
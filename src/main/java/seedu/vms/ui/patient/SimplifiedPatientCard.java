@@ -5,27 +5,53 @@ import javafx.scene.control.Label;
 import javafx.scene.layout.HBox;
 import seedu.vms.model.IdData;
 import seedu.vms.model.patient.Patient;
+import seedu.vms.ui.ReusableCard;
 import seedu.vms.ui.UiPart;
 
 
 /**
  * Simplified graphical view of a patient.
  */
-public class SimplifiedPatientCard extends UiPart<HBox> {
+public class SimplifiedPatientCard extends UiPart<HBox> implements ReusableCard<IdData<Patient>> {
     private static final String FXML_FILE = "SimplifiedPatientCard.fxml";
 
     @FXML private Label idLabel;
     @FXML private Label nameLabel;
 
 
+    /**
+     * Constructs a {@code SimplifiedPatientCard} that displays nothing until
+     * it is bound.
+     */
+    public SimplifiedPatientCard() {
+        super(FXML_FILE);
+    }
+
+
     /**
      * Constructs a {@code SimplifiedVaxTypeCard}.
      *
      * @param patient - the vaccination to display.
      */
     public SimplifiedPatientCard(IdData<Patient> data) {
-        super(FXML_FILE);
+        this();
+        bind(data);
+    }
+
+
+    /**
+     * Displays the given patient.
+     *
+     * @param data - the patient to display.
+     */
+    public void bind(IdData<Patient> data) {
         idLabel.setText(String.format("#%04d", data.getId() + 1));
         nameLabel.setText(data.getValue().getName().toString());
     }
+
+
+    @Override
+    public void bind(int index, IdData<Patient> data) {
+        bind(data);
+    }
 }
@@ -4,19 +4,29 @@ import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.HBox;
 import seedu.vms.model.vaccination.VaxType;
+import seedu.vms.ui.ReusableCard;
 import seedu.vms.ui.UiPart;
 
 
 /**
  * Simplified view of a vaccination.
  */
-public class SimplifiedVaxTypeCard extends UiPart<HBox> {
+public class SimplifiedVaxTypeCard extends UiPart<HBox> implements ReusableCard<VaxType> {
     private static final String FXML_FILE = "SimplifiedVaxTypeCard.fxml";
 
     @FXML private Label indexLabel;
     @FXML private Label nameLabel;
 
 
+    /**
+     * Constructs a {@code SimplifiedVaxTypeCard} that displays nothing until
+     * it is bound.
+     */
+    public SimplifiedVaxTypeCard() {
+        super(FXML_FILE);
+    }
+
+
     /**
      * Constructs a {@code SimplifiedVaxTypeCard}.
      *
@@ -24,7 +34,13 @@ public class SimplifiedVaxTypeCard extends UiPart<HBox> {
      * @param vaxType - the vaccination to display.
      */
     public SimplifiedVaxTypeCard(int index, VaxType vaxType) {
-        super(FXML_FILE);
+        this();
+        bind(index, vaxType);
+    }
+
+
+    @Override
+    public void bind(int index, VaxType vaxType) {
         indexLabel.setText(String.valueOf(index));
         nameLabel.setText(vaxType.getName());
     }
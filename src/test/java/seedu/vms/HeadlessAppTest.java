@@ -0,0 +1,104 @@
+package seedu.vms;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.PrintWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.vms.logic.CommandMessage;
+import seedu.vms.logic.LogicManager;
+import seedu.vms.logic.commands.basic.ExitCommand;
+import seedu.vms.logic.commands.patient.ListCommand;
+import seedu.vms.model.ModelManager;
+import seedu.vms.model.keyword.KeywordManager;
+import seedu.vms.model.vaccination.ReadOnlyVaxTypeManage;
+import seedu.vms.storage.JsonUserPrefsStorage;
+import seedu.vms.storage.StorageManager;
+import seedu.vms.storage.appointment.JsonAppointmentStorage;
+import seedu.vms.storage.keyword.JsonKeywordStorage;
+import seedu.vms.storage.patient.JsonPatientManagerStorage;
+import seedu.vms.storage.vaccination.JsonVaxTypeStorage;
+
+public class HeadlessAppTest {
+    @TempDir
+    public Path testFolder;
+
+    private final StringWriter output = new StringWriter();
+    private LogicManager logic;
+    private HeadlessApp app;
+
+    @BeforeEach
+    public void setUp() {
+        // vaccinations and keywords are always saved to the data folder
+        JsonVaxTypeStorage vaxTypeStorage = new JsonVaxTypeStorage() {
+            @Override
+            public void saveVaxTypes(ReadOnlyVaxTypeManage manager) {}
+        };
+        JsonKeywordStorage keywordStorage = new JsonKeywordStorage() {
+            @Override
+            public void saveKeywords(KeywordManager manager) {}
+        };
+        StorageManager storage = new StorageManager(
+                new JsonPatientManagerStorage(testFolder.resolve("patients.json")),
+                vaxTypeStorage,
+                new JsonAppointmentStorage(testFolder.resolve("appointments.json")),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs.json")),
+                keywordStorage);
+        logic = new LogicManager(new ModelManager(), storage);
+        app = new HeadlessApp(logic, new PrintWriter(output, true));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        logic.shutdown();
+    }
+
+    @Test
+    public void run_commandsUntilExit_executedInOrder() throws Exception {
+        assertTrue(app.load());
+        output.getBuffer().setLength(0);
+
+        String input = String.join("\n", "patient list", "", ExitCommand.COMMAND_WORD, "patient list");
+        app.run(new BufferedReader(new StringReader(input)));
+
+        String[] lines = output.toString().split(System.lineSeparator());
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].endsWith(ListCommand.MESSAGE_SUCCESS));
+        assertTrue(lines[1].endsWith(ExitCommand.MESSAGE_EXIT_ACKNOWLEDGEMENT));
+    }
+
+    @Test
+    public void run_commandsChangingDataAndViews_noToolkitNeeded() throws Exception {
+        // no JavaFX toolkit is started in tests, so any use of the JavaFX
+        // application thread would fail these commands
+        assertTrue(app.load());
+        output.getBuffer().setLength(0);
+
+        String input = String.join("\n",
+                "patient add --n John Doe --p 98765432 --d 2001-03-19 --b B+",
+                "patient find --n John",
+                "patient detail 1",
+                "vaccination list",
+                "appointment list",
+                "help",
+                "stats");
+        app.run(new BufferedReader(new StringReader(input)));
+
+        String[] lines = output.toString().split(System.lineSeparator());
+        for (String line : lines) {
+            assertFalse(line.startsWith("[" + CommandMessage.State.ERROR + "]"), line);
+            assertFalse(line.startsWith("[" + CommandMessage.State.DEATH + "]"), line);
+        }
+        assertEquals(1, logic.getFilteredPatientMap().size());
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.vms.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTest {
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+
+    @Test
+    public void getValueAtPercentile_empty_zero() {
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getValueAtPercentile(50));
+    }
+
+
+    @Test
+    public void getValueAtPercentile_smallValues_exact() {
+        for (long value = 1; value <= 10; value++) {
+            histogram.record(value);
+        }
+        assertEquals(5, histogram.getValueAtPercentile(50));
+        assertEquals(10, histogram.getValueAtPercentile(100));
+        assertEquals(10, histogram.getMax());
+    }
+
+
+    @Test
+    public void getValueAtPercentile_largeValues_withinPrecision() {
+        for (long value = 1; value <= 100_000; value++) {
+            histogram.record(value * 1000);
+        }
+        assertEquals(100_000, histogram.getCount());
+        assertWithinPrecision(50_000_000, histogram.getValueAtPercentile(50));
+        assertWithinPrecision(99_000_000, histogram.getValueAtPercentile(99));
+        assertEquals(100_000_000, histogram.getMax());
+    }
+
+
+    @Test
+    public void record_negativeValue_recordedAsZero() {
+        histogram.record(-5);
+        assertEquals(0, histogram.getValueAtPercentile(100));
+    }
+
+
+    @Test
+    public void commandStats_recordedPhases_inSummary() {
+        CommandStats stats = new CommandStats();
+        stats.record("patient.ListCommand", CommandStats.Phase.EXECUTE, 2_000_000);
+        stats.recordScanned("patient.ListCommand", 42);
+        assertEquals(1, stats.getHistogram("patient.ListCommand", CommandStats.Phase.EXECUTE).getCount());
+        assertTrue(stats.toString().contains("patient.ListCommand (records scanned: 42)"));
+        assertTrue(stats.toString().contains("EXECUTE"));
+    }
+
+
+    private void assertWithinPrecision(long expected, long actual) {
+        assertTrue(Math.abs(expected - actual) <= expected / 16,
+                String.format("expected about %d but was %d", expected, actual));
+    }
+}
@@ -0,0 +1,46 @@
+package seedu.vms.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class ValuePropertyTest {
+    private final ValueProperty<String> property = new ValueProperty<>();
+    private final ArrayList<List<String>> changes = new ArrayList<>();
+
+
+    @Test
+    public void set_differentValue_listenersNotified() {
+        property.addListener((oldValue, newValue) -> changes.add(List.of(String.valueOf(oldValue), newValue)));
+        assertNull(property.get());
+
+        property.set("a");
+        property.set("b");
+        assertEquals("b", property.get());
+        assertEquals(List.of(List.of("null", "a"), List.of("a", "b")), changes);
+    }
+
+
+    @Test
+    public void set_equalValue_listenersNotNotified() {
+        property.set("a");
+        property.addListener((oldValue, newValue) -> changes.add(List.of(oldValue, newValue)));
+        property.set(new String("a"));
+        assertEquals(List.of(), changes);
+    }
+
+
+    @Test
+    public void removeListener_listenerRemoved_notNotified() {
+        ReadOnlyValueProperty.ChangeListener<String> listener =
+                (oldValue, newValue) -> changes.add(List.of(newValue));
+        property.addListener(listener);
+        property.removeListener(listener);
+        property.set("a");
+        assertEquals(List.of(), changes);
+    }
+}
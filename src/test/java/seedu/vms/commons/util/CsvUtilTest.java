@@ -0,0 +1,43 @@
+package seedu.vms.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.vms.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.vms.commons.exceptions.IllegalValueException;
+
+
+public class CsvUtilTest {
+    @Test
+    public void parseLine_unquotedFields_splitOnSeparator() throws Exception {
+        assertEquals(List.of("a", " b ", "", "c"), CsvUtil.parseLine("a, b ,,c"));
+        assertEquals(List.of(""), CsvUtil.parseLine(""));
+        assertEquals(List.of("", ""), CsvUtil.parseLine(","));
+    }
+
+
+    @Test
+    public void parseLine_quotedFields_unquoted() throws Exception {
+        assertEquals(List.of("a,b", "say \"hi\"", ""), CsvUtil.parseLine("\"a,b\",\"say \"\"hi\"\"\",\"\""));
+        assertEquals(List.of("x", "a,b"), CsvUtil.parseLine("x,\"a,b\""));
+    }
+
+
+    @Test
+    public void formatLine_specialCharacters_parsedBackUnchanged() throws Exception {
+        List<String> fields = List.of("plain", "a,b", "say \"hi\"", "", "line\nbreak");
+        assertEquals("plain,\"a,b\",\"say \"\"hi\"\"\",,\"line\nbreak\"", CsvUtil.formatLine(fields));
+        assertEquals(fields.subList(0, 4), CsvUtil.parseLine(CsvUtil.formatLine(fields.subList(0, 4))));
+    }
+
+
+    @Test
+    public void parseLine_malformedQuotes_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> CsvUtil.parseLine("\"abc"));
+        assertThrows(IllegalValueException.class, () -> CsvUtil.parseLine("\"abc\"d,e"));
+        assertThrows(IllegalValueException.class, () -> CsvUtil.parseLine("ab\"c,d"));
+    }
+}
@@ -30,6 +30,24 @@ public class StringUtilTest {
         assertFalse(StringUtil.isMatching(text, List.of("Alex", "doe")));
     }
 
+    //---------------- Tests for isNarrowing --------------------------------------
+
+    @Test
+    public void isNarrowing() {
+        assertTrue(StringUtil.isNarrowing(List.of("John"), List.of("John")));
+        assertTrue(StringUtil.isNarrowing(List.of("John", "Doe"), List.of("John")));
+        assertTrue(StringUtil.isNarrowing(List.of("John", "Doe"), List.of("doe")));
+        assertTrue(StringUtil.isNarrowing(List.of("Johnny"), List.of("john")));
+        assertTrue(StringUtil.isNarrowing(List.of("Johnny", "Doe"), List.of("oh", "oe")));
+        assertTrue(StringUtil.isNarrowing(List.of(), List.of("John")));
+
+        assertFalse(StringUtil.isNarrowing(List.of("John"), List.of("John", "Doe")));
+        assertFalse(StringUtil.isNarrowing(List.of("Doe", "John"), List.of("John", "Doe")));
+        // both would have to be found in the single "John"
+        assertFalse(StringUtil.isNarrowing(List.of("John"), List.of("Jo", "hn")));
+        assertFalse(StringUtil.isNarrowing(List.of("John"), List.of()));
+    }
+
     //---------------- Tests for isNonZeroUnsignedInteger --------------------------------------
 
     @Test
@@ -0,0 +1,79 @@
+package seedu.vms.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.jupiter.api.Test;
+
+public class CommandExecutorTest {
+    private final CommandExecutor executor = new CommandExecutor();
+
+
+    @Test
+    public void execute_manyProcesses_executedInOrderOnOneThread() {
+        List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+        HashSet<Thread> threads = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            int index = i;
+            executor.execute(() -> {
+                order.add(index);
+                synchronized (threads) {
+                    threads.add(Thread.currentThread());
+                }
+            });
+        }
+        assertTrue(executor.shutdown(5000));
+
+        ArrayList<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            expected.add(i);
+        }
+        assertEquals(expected, order);
+        assertEquals(1, threads.size());
+    }
+
+
+    @Test
+    public void shutdown_blockedProcess_interruptedAfterTimeout() throws Exception {
+        CountDownLatch neverReleased = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        executor.execute(() -> {
+            try {
+                neverReleased.await();
+            } catch (InterruptedException intEx) {
+                interrupted.countDown();
+            }
+        });
+        assertFalse(executor.shutdown(10));
+        interrupted.await();
+        assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> {}));
+    }
+
+
+    @Test
+    public void commandMetrics_recordedExecutions_summarised() {
+        CommandMetrics metrics = new CommandMetrics();
+        metrics.recordQueued();
+        metrics.recordQueued();
+        metrics.recordStarted(2_000_000);
+        metrics.recordCompleted(4_000_000);
+        metrics.recordStarted(0);
+        metrics.recordCompleted(2_000_000);
+
+        assertEquals(0, metrics.getQueueDepth());
+        assertEquals(2, metrics.getMaxQueueDepth());
+        assertEquals(2, metrics.getCompletedCount());
+        assertEquals(1D, metrics.getAverageWaitMillis());
+        assertEquals(3D, metrics.getAverageRunMillis());
+        assertEquals(4D, metrics.getMaxRunMillis());
+    }
+}
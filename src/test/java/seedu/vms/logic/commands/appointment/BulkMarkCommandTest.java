@@ -0,0 +1,48 @@
+package seedu.vms.logic.commands.appointment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.vms.commons.core.index.Index;
+import seedu.vms.model.GroupName;
+import seedu.vms.model.Model;
+import seedu.vms.model.ModelManager;
+import seedu.vms.model.appointment.Appointment;
+import seedu.vms.model.appointment.predicates.IndexPredicate;
+
+public class BulkMarkCommandTest {
+    private static final LocalDateTime START_TIME = LocalDateTime.of(2099, 1, 1, 10, 0);
+
+    private final Model model = new ModelManager();
+
+
+    @Test
+    public void execute_matchingAppointments_onlyMatchingMarked() throws Exception {
+        addAppointment(0, START_TIME);
+        addAppointment(0, START_TIME.plusDays(1));
+        addAppointment(1, START_TIME);
+
+        new BulkMarkCommand(List.of(new IndexPredicate(Index.fromZeroBased(0)))).execute(model);
+        assertEquals(2, countCompleted());
+        new BulkDeleteCommand(List.of(new IndexPredicate(Index.fromZeroBased(0)))).execute(model);
+        assertEquals(1, model.getAppointmentManager().getMapView().size());
+        assertEquals(0, countCompleted());
+    }
+
+
+    private long countCompleted() {
+        return model.getAppointmentManager().getMapView().values().stream()
+                .filter(data -> data.getValue().getStatus())
+                .count();
+    }
+
+
+    private void addAppointment(int patientId, LocalDateTime startTime) {
+        model.addAppointment(new Appointment(Index.fromZeroBased(patientId), startTime, startTime.plusHours(1),
+                new GroupName("Dose 1")));
+    }
+}
@@ -0,0 +1,59 @@
+package seedu.vms.logic.commands.basic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.vms.testutil.TypicalPatients.getTypicalPatientManager;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.vms.commons.core.index.Index;
+import seedu.vms.logic.commands.exceptions.CommandException;
+import seedu.vms.model.GroupName;
+import seedu.vms.model.Model;
+import seedu.vms.model.ModelManager;
+import seedu.vms.model.UserPrefs;
+import seedu.vms.model.appointment.Appointment;
+
+public class CommitCommandTest {
+    private final Model model = new ModelManager(getTypicalPatientManager(), new UserPrefs());
+
+
+    @Test
+    public void execute_validTransaction_committed() throws Exception {
+        new BeginCommand().execute(model);
+        model.deletePatient(0, false);
+
+        assertEquals(CommitCommand.MESSAGE_SUCCESS, new CommitCommand().execute(model).getMessage());
+        assertFalse(model.isInTransaction());
+        assertFalse(model.hasPatient(0));
+    }
+
+
+    @Test
+    public void execute_invalidTransaction_rolledBack() throws Exception {
+        LocalDateTime startTime = LocalDateTime.of(2099, 1, 1, 10, 0);
+        model.addAppointment(new Appointment(Index.fromZeroBased(0), startTime, startTime.plusHours(1),
+                new GroupName("Dose 1")));
+        new BeginCommand().execute(model);
+        model.deletePatient(0, false);
+
+        assertThrows(CommandException.class, () -> new CommitCommand().execute(model));
+        assertFalse(model.isInTransaction());
+        assertTrue(model.hasPatient(0));
+        assertEquals(1, model.getAppointmentManager().getMapView().size());
+    }
+
+
+    @Test
+    public void execute_noTransaction_throwsCommandException() throws Exception {
+        assertThrows(CommandException.class, () -> new CommitCommand().execute(model));
+        assertThrows(CommandException.class, () -> new RollbackCommand().execute(model));
+
+        new BeginCommand().execute(model);
+        assertThrows(CommandException.class, () -> new BeginCommand().execute(model));
+    }
+}
@@ -0,0 +1,120 @@
+package seedu.vms.logic.commands.basic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.vms.testutil.TypicalPatients.getTypicalPatientManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.vms.logic.CommandMessage;
+import seedu.vms.logic.commands.exceptions.CommandException;
+import seedu.vms.model.Model;
+import seedu.vms.model.ModelManager;
+import seedu.vms.model.UserPrefs;
+
+public class RunCommandTest {
+    private static final String CLEAR_LINE = "patient clear --force true";
+    private static final String INVALID_LINE = "patient unknown";
+
+    @TempDir
+    public Path tempDir;
+
+    private final Model model = new ModelManager(getTypicalPatientManager(), new UserPrefs());
+
+
+    @Test
+    public void execute_validScript_allExecuted() throws Exception {
+        Path script = writeScript("# clears all patients", "", CLEAR_LINE);
+        CommandMessage message = new RunCommand(script, false).execute(model);
+
+        assertEquals(String.format(RunCommand.MESSAGE_SUCCESS, 1, script), message.getMessage());
+        assertTrue(model.getPatientManager().getMapView().isEmpty());
+    }
+
+
+    @Test
+    public void execute_failingLine_remainingExecuted() throws Exception {
+        Path script = writeScript(INVALID_LINE, CLEAR_LINE);
+        CommandMessage message = new RunCommand(script, false).execute(model);
+
+        assertEquals(CommandMessage.State.WARNING, message.getState());
+        assertTrue(message.getMessage().contains("Line 1:"));
+        assertTrue(model.getPatientManager().getMapView().isEmpty());
+    }
+
+
+    @Test
+    public void execute_failingLineAtomic_changesRolledBack() throws Exception {
+        Path script = writeScript(CLEAR_LINE, INVALID_LINE);
+        assertThrows(CommandException.class, () -> new RunCommand(script, true).execute(model));
+        assertEquals(getTypicalPatientManager().getMapView(),
+                model.getPatientManager().getMapView());
+    }
+
+
+    @Test
+    public void execute_transactionLineAtomic_changesRolledBack() throws Exception {
+        Path script = writeScript(CLEAR_LINE, CommitCommand.COMMAND_WORD);
+        assertThrows(CommandException.class, () -> new RunCommand(script, true).execute(model));
+        assertFalse(model.isInTransaction());
+        assertEquals(getTypicalPatientManager().getMapView(),
+                model.getPatientManager().getMapView());
+    }
+
+
+    @Test
+    public void execute_nestedRun_lineFails() throws Exception {
+        Path script = writeScript(RunCommand.COMMAND_WORD + " " + tempDir.resolve("other.txt"));
+        CommandMessage message = new RunCommand(script, false).execute(model);
+        assertTrue(message.getMessage().contains(RunCommand.MESSAGE_NESTED_RUN));
+    }
+
+
+    @Test
+    public void execute_exitLine_lineFails() throws Exception {
+        Path script = writeScript(ExitCommand.COMMAND_WORD, CLEAR_LINE);
+        CommandMessage message = new RunCommand(script, false).execute(model);
+
+        assertEquals(CommandMessage.State.WARNING, message.getState());
+        assertFalse(message.isExit());
+        assertTrue(message.getMessage().contains("Line 1: " + RunCommand.MESSAGE_NOT_SCRIPTABLE));
+        assertTrue(model.getPatientManager().getMapView().isEmpty());
+    }
+
+
+    @Test
+    public void execute_lineWithWarning_warningCollected() throws Exception {
+        Path patients = tempDir.resolve("patients.csv");
+        Files.write(patients, List.of("Name,Phone,DOB,BloodType,Allergies,Vaccines",
+                "John Doe,98765432,2001-03-19,B+,,",
+                "Bad Phone,abc,2001-03-19,B+,,"));
+        Path script = writeScript("patient import " + patients);
+        CommandMessage message = new RunCommand(script, false).execute(model);
+
+        assertEquals(CommandMessage.State.WARNING, message.getState());
+        assertTrue(message.getMessage().startsWith(String.format(RunCommand.MESSAGE_SUCCESS, 1, script)));
+        assertTrue(message.getMessage().contains("Warnings:\nLine 1: "));
+    }
+
+
+    @Test
+    public void execute_missingScript_throwsCommandException() {
+        RunCommand command = new RunCommand(tempDir.resolve("missing.txt"), false);
+        assertThrows(CommandException.class, () -> command.execute(model));
+    }
+
+
+    private Path writeScript(String... lines) throws IOException {
+        Path script = tempDir.resolve("script.txt");
+        Files.write(script, List.of(lines));
+        return script;
+    }
+}
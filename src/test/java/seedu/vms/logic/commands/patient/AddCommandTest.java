@@ -10,21 +10,23 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.locks.Lock;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
-import javafx.beans.property.ObjectProperty;
-import javafx.collections.ObservableList;
 import javafx.collections.ObservableMap;
+import seedu.vms.commons.core.CommandStats;
 import seedu.vms.commons.core.GuiSettings;
 import seedu.vms.commons.core.Retriever;
 import seedu.vms.commons.core.ValueChange;
+import seedu.vms.commons.core.ValueProperty;
 import seedu.vms.commons.exceptions.IllegalValueException;
 import seedu.vms.commons.exceptions.UnexpectedChangeException;
 import seedu.vms.logic.CommandMessage;
 import seedu.vms.logic.parser.ParseResult;
 import seedu.vms.logic.parser.exceptions.ParseException;
+import seedu.vms.model.EligibilityCache;
 import seedu.vms.model.GroupName;
 import seedu.vms.model.IdData;
 import seedu.vms.model.Model;
@@ -36,6 +38,7 @@ import seedu.vms.model.keyword.KeywordManager;
 import seedu.vms.model.patient.Patient;
 import seedu.vms.model.patient.PatientManager;
 import seedu.vms.model.patient.ReadOnlyPatientManager;
+import seedu.vms.model.query.QueryPlan;
 import seedu.vms.model.vaccination.VaxType;
 import seedu.vms.model.vaccination.VaxTypeManager;
 import seedu.vms.testutil.PatientBuilder;
@@ -111,6 +114,51 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addPatients(Collection<Patient> patients) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<IdData<Appointment>> validatePatientChanges(Collection<ValueChange<IdData<Patient>>> changes) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void handlePatientChanges(Collection<ValueChange<IdData<Patient>>> changes) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void deletePatients(Collection<Integer> ids, boolean isForce) throws UnexpectedChangeException {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Integer> findPatientIds(Collection<Predicate<Patient>> filters) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void deleteAppointments(Collection<Integer> ids) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void markAppointments(Collection<Integer> ids) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Integer> findAppointmentIds(Collection<Predicate<Appointment>> filters) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void loadPatients(Collection<IdData<Patient>> patientDatas) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setPatientManager(ReadOnlyPatientManager newData) {
             throw new AssertionError("This method should not be called.");
@@ -156,6 +204,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Predicate<IdData<Patient>> getPatientFiltersSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateFilteredPatientList(Predicate<Patient> predicate) {
             throw new AssertionError("This method should not be called.");
@@ -206,6 +259,51 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Predicate<IdData<Appointment>> getAppointmentFiltersSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void beginTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void rollbackTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean isInTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<String> getEligibleVaccinations(int patientId) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void refreshEligibility(int year) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canTakeVaccination(int patientId, VaxType vaxType) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public EligibilityCache getEligibilityCache() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public KeywordManager getKeywordManager() {
             throw new AssertionError("This method should not be called.");
@@ -232,7 +330,17 @@ public class AddCommandTest {
         }
 
         @Override
-        public void setPatientFilters(Collection<Predicate<Patient>> filters) {
+        public Lock getLock() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public CommandStats getCommandStats() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public QueryPlan<Patient> setPatientFilters(Collection<Predicate<Patient>> filters) {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -241,7 +349,7 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
         @Override
-        public void setAppointmentFilters(Collection<Predicate<Appointment>> filters) {
+        public QueryPlan<Appointment> setAppointmentFilters(Collection<Predicate<Appointment>> filters) {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -266,7 +374,7 @@ public class AddCommandTest {
         }
 
         @Override
-        public ObjectProperty<VaxType> detailedVaccinationProperty() {
+        public ValueProperty<VaxType> detailedVaccinationProperty() {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -276,7 +384,7 @@ public class AddCommandTest {
         }
 
         @Override
-        public ObjectProperty<IdData<Patient>> detailedPatientProperty() {
+        public ValueProperty<IdData<Patient>> detailedPatientProperty() {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -285,11 +393,6 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
-        @Override
-        public void bindVaccinationDisplayList(ObservableList<VaxType> displayList) {
-            throw new AssertionError("This method should not be called.");
-        }
-
         @Override
         public VaxType getVaccination(Retriever<String, VaxType> retriever) throws IllegalValueException {
             throw new AssertionError("This method should not be called.");
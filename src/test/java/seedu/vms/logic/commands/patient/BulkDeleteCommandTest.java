@@ -0,0 +1,80 @@
+package seedu.vms.logic.commands.patient;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.vms.testutil.TypicalPatients.getTypicalPatientManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.vms.commons.core.index.Index;
+import seedu.vms.logic.commands.exceptions.CommandException;
+import seedu.vms.model.GroupName;
+import seedu.vms.model.Model;
+import seedu.vms.model.ModelManager;
+import seedu.vms.model.UserPrefs;
+import seedu.vms.model.appointment.Appointment;
+import seedu.vms.model.patient.BloodType;
+import seedu.vms.model.patient.Patient;
+import seedu.vms.model.patient.predicates.BloodTypePredicate;
+
+public class BulkDeleteCommandTest {
+    private static final BloodType BLOOD_TYPE = new BloodType("A+");
+    private static final List<Predicate<Patient>> FILTERS = List.of(new BloodTypePredicate(BLOOD_TYPE));
+
+    private final Model model = new ModelManager(getTypicalPatientManager(), new UserPrefs());
+
+
+    @Test
+    public void execute_matchingPatients_allDeleted() throws Exception {
+        int size = model.getPatientManager().getMapView().size();
+        int matchCount = model.findPatientIds(FILTERS).size();
+        assertTrue(matchCount > 0);
+
+        new BulkDeleteCommand(FILTERS, false).execute(model);
+        assertEquals(size - matchCount, model.getPatientManager().getMapView().size());
+        assertFalse(model.getPatientManager().getMapView().values().stream()
+                .anyMatch(data -> data.getValue().getBloodType().equals(BLOOD_TYPE)));
+    }
+
+
+    @Test
+    public void execute_cascadeWithoutForce_nothingDeleted() {
+        int patientId = model.findPatientIds(FILTERS).get(0);
+        addAppointment(patientId);
+        int size = model.getPatientManager().getMapView().size();
+
+        assertThrows(CommandException.class, () -> new BulkDeleteCommand(FILTERS, false).execute(model));
+        assertEquals(size, model.getPatientManager().getMapView().size());
+        assertEquals(1, model.getAppointmentManager().getMapView().size());
+    }
+
+
+    @Test
+    public void execute_cascadeWithForce_appointmentsDeleted() throws Exception {
+        List<Integer> ids = model.findPatientIds(FILTERS);
+        addAppointment(ids.get(0));
+        int otherPatientId = model.getPatientManager().getMapView().keySet().stream()
+                .filter(id -> !ids.contains(id))
+                .findFirst()
+                .get();
+        addAppointment(otherPatientId);
+
+        new BulkDeleteCommand(FILTERS, true).execute(model);
+        assertEquals(1, model.getAppointmentManager().getMapView().size());
+        assertEquals(Index.fromZeroBased(otherPatientId),
+                model.getAppointmentManager().getMapView().values().iterator().next().getValue().getPatient());
+    }
+
+
+    private void addAppointment(int patientId) {
+        LocalDateTime startTime = LocalDateTime.of(2099, 1, 1, 10, 0);
+        model.addAppointment(new Appointment(Index.fromZeroBased(patientId), startTime, startTime.plusHours(1),
+                new GroupName("Dose 1")));
+    }
+}
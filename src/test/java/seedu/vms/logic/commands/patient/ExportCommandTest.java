@@ -0,0 +1,85 @@
+package seedu.vms.logic.commands.patient;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.vms.testutil.TypicalPatients.getTypicalPatientManager;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.vms.logic.commands.exceptions.CommandException;
+import seedu.vms.model.IdData;
+import seedu.vms.model.Model;
+import seedu.vms.model.ModelManager;
+import seedu.vms.model.UserPrefs;
+import seedu.vms.model.patient.Patient;
+
+public class ExportCommandTest {
+    @TempDir
+    public Path tempDir;
+
+    private final Model model = new ModelManager(getTypicalPatientManager(), new UserPrefs());
+    private final int size = model.getPatientManager().getMapView().size();
+
+
+    @Test
+    public void execute_csv_importedBackUnchanged() throws Exception {
+        Path file = tempDir.resolve("reports").resolve("patients.csv");
+        new ExportCommand(file, false).execute(model);
+        assertEquals(size + 1, Files.readAllLines(file).size());
+
+        Model importedModel = new ModelManager();
+        new ImportCommand(file).execute(importedModel);
+        assertEquals(patientsOf(model), patientsOf(importedModel));
+    }
+
+
+    @Test
+    public void execute_ndjson_importedBackUnchanged() throws Exception {
+        Path file = tempDir.resolve("patients.ndjson");
+        new ExportCommand(file, false).execute(model);
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(size, lines.size());
+        assertTrue(lines.get(0).startsWith("{\"id\":1,"));
+
+        Model importedModel = new ModelManager();
+        new ImportCommand(file).execute(importedModel);
+        assertEquals(patientsOf(model), patientsOf(importedModel));
+    }
+
+
+    @Test
+    public void execute_filteredList_onlyFilteredExported() throws Exception {
+        Patient first = model.getPatientManager().getMapView().get(0).getValue();
+        model.updateFilteredPatientList(patient -> patient.equals(first));
+
+        Path file = tempDir.resolve("patients.csv");
+        new ExportCommand(file, false).execute(model);
+        assertEquals(2, Files.readAllLines(file).size());
+
+        new ExportCommand(file, true).execute(model);
+        assertEquals(size + 1, Files.readAllLines(file).size());
+    }
+
+
+    @Test
+    public void execute_unsupportedFormat_throwsCommandException() {
+        ExportCommand command = new ExportCommand(tempDir.resolve("patients.txt"), false);
+        assertThrows(CommandException.class, () -> command.execute(model));
+    }
+
+
+    private static HashSet<Patient> patientsOf(Model model) {
+        HashSet<Patient> patients = new HashSet<>();
+        for (IdData<Patient> data : model.getPatientManager().getMapView().values()) {
+            patients.add(data.getValue());
+        }
+        return patients;
+    }
+}
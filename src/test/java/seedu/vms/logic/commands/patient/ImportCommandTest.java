@@ -0,0 +1,150 @@
+package seedu.vms.logic.commands.patient;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.vms.testutil.TypicalPatients.getTypicalPatientManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.vms.logic.CommandMessage;
+import seedu.vms.logic.commands.exceptions.CommandException;
+import seedu.vms.model.IdData;
+import seedu.vms.model.Model;
+import seedu.vms.model.ModelManager;
+import seedu.vms.model.UserPrefs;
+import seedu.vms.model.patient.Patient;
+
+public class ImportCommandTest {
+    private static final String CSV_HEADER = "Name,Phone,DOB,BloodType,Allergies,Vaccines";
+
+    @TempDir
+    public Path tempDir;
+
+    private final Model model = new ModelManager(getTypicalPatientManager(), new UserPrefs());
+    private final int initialSize = model.getPatientManager().getMapView().size();
+
+
+    @Test
+    public void execute_validCsv_allImported() throws Exception {
+        Path file = write("patients.csv",
+                CSV_HEADER,
+                "\"John Doe\",98765432,2001-03-19,B+,cat fur;pollen,covax",
+                "",
+                "Jane Tan,91234567,1999-12-01,O-,,");
+        CommandMessage message = new ImportCommand(file).execute(model);
+
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, 2, file), message.getMessage());
+        assertEquals(initialSize + 2, model.getPatientManager().getMapView().size());
+        Patient imported = findPatient("John Doe");
+        assertEquals(2, imported.getAllergy().size());
+        assertEquals(1, imported.getVaccine().size());
+    }
+
+
+    @Test
+    public void execute_validCsv_detailedPatientUnchanged() throws Exception {
+        Path file = write("patients.csv",
+                CSV_HEADER,
+                "John Doe,98765432,2001-03-19,B+,,",
+                "Jane Tan,91234567,1999-12-01,O-,,");
+        new ImportCommand(file).execute(model);
+        assertNull(model.detailedPatientProperty().get());
+
+        IdData<Patient> detailedPatient = model.getPatientManager().getMapView().get(0);
+        assertNotNull(detailedPatient);
+        model.setDetailedPatient(detailedPatient);
+        new ImportCommand(file).execute(model);
+        assertEquals(detailedPatient, model.detailedPatientProperty().get());
+    }
+
+
+    @Test
+    public void execute_invalidCsvRecords_validImportedInvalidReported() throws Exception {
+        Path file = write("patients.csv",
+                CSV_HEADER,
+                "John Doe,98765432,2001-03-19,B+,,",
+                "Bad Phone,abc,2001-03-19,B+,,",
+                "Too Few,98765432",
+                "\"Unterminated,98765432,2001-03-19,B+,,");
+        CommandMessage message = new ImportCommand(file).execute(model);
+
+        assertEquals(CommandMessage.State.WARNING, message.getState());
+        assertTrue(message.getMessage().contains("Line 3:"));
+        assertTrue(message.getMessage().contains("Line 4:"));
+        assertTrue(message.getMessage().contains("Line 5:"));
+        assertFalse(message.getMessage().contains("Line 2:"));
+        assertEquals(initialSize + 1, model.getPatientManager().getMapView().size());
+    }
+
+
+    @Test
+    public void execute_validJson_allImported() throws Exception {
+        Path file = write("patients.json",
+                "[",
+                "  {\"name\": \"John Doe\", \"phone\": \"98765432\", \"dob\": \"2001-03-19\",",
+                "      \"bloodType\": \"B+\", \"allergies\": [\"cat fur\", \"pollen\"]},",
+                "  {\"name\": \"Bad Phone\", \"phone\": \"abc\", \"dob\": \"2001-03-19\", \"bloodType\": \"B+\"}",
+                "]");
+        CommandMessage message = new ImportCommand(file).execute(model);
+
+        assertTrue(message.getMessage().contains("Line 4:"));
+        assertEquals(initialSize + 1, model.getPatientManager().getMapView().size());
+        assertEquals(2, findPatient("John Doe").getAllergy().size());
+    }
+
+
+    @Test
+    public void execute_manyRejects_reportTruncated() throws Exception {
+        ArrayList<String> lines = new ArrayList<>(List.of(CSV_HEADER));
+        for (int i = 0; i < ImportCommand.BATCH_SIZE + 10; i++) {
+            lines.add("Bad Phone,abc,2001-03-19,B+,,");
+        }
+        Path file = write("patients.csv", lines.toArray(String[]::new));
+        CommandMessage message = new ImportCommand(file).execute(model);
+
+        assertTrue(message.getMessage().contains(String.format(ImportCommand.MESSAGE_MORE_REJECTS,
+                ImportCommand.BATCH_SIZE + 10 - ImportCommand.MAX_REPORTED_REJECTS)));
+        assertEquals(initialSize, model.getPatientManager().getMapView().size());
+    }
+
+
+    @Test
+    public void execute_missingColumn_throwsCommandException() throws Exception {
+        Path file = write("patients.csv", "name,phone,dob", "John Doe,98765432,2001-03-19");
+        assertThrows(CommandException.class, () -> new ImportCommand(file).execute(model));
+    }
+
+
+    @Test
+    public void execute_unsupportedFormat_throwsCommandException() throws Exception {
+        Path file = write("patients.txt", CSV_HEADER);
+        assertThrows(CommandException.class, () -> new ImportCommand(file).execute(model));
+    }
+
+
+    private Patient findPatient(String name) {
+        return model.getPatientManager().getMapView().values().stream()
+                .map(data -> data.getValue())
+                .filter(patient -> patient.getName().toString().equals(name))
+                .findFirst()
+                .orElseThrow();
+    }
+
+
+    private Path write(String fileName, String... lines) throws IOException {
+        Path file = tempDir.resolve(fileName);
+        Files.write(file, List.of(lines));
+        return file;
+    }
+}
@@ -0,0 +1,83 @@
+package seedu.vms.logic.commands.vaccination;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.vms.testutil.TypicalPatients.DANIEL;
+import static seedu.vms.testutil.TypicalPatients.ELLE;
+import static seedu.vms.testutil.TypicalPatients.FIONA;
+import static seedu.vms.testutil.TypicalPatients.getTypicalPatientManager;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.vms.logic.commands.exceptions.CommandException;
+import seedu.vms.logic.parser.ArgumentTokenizer;
+import seedu.vms.logic.parser.vaccination.EligibleVaxTypeParser;
+import seedu.vms.model.Age;
+import seedu.vms.model.GroupName;
+import seedu.vms.model.Model;
+import seedu.vms.model.ModelManager;
+import seedu.vms.model.UserPrefs;
+import seedu.vms.model.patient.Patient;
+import seedu.vms.model.vaccination.Requirement;
+import seedu.vms.model.vaccination.Requirement.RequirementType;
+import seedu.vms.model.vaccination.VaxType;
+
+public class EligibleVaxTypeCommandTest {
+    private static final GroupName DOSE = new GroupName("DOSE");
+
+    private static final VaxType MODERNA = new VaxType(new GroupName("Moderna"), new HashSet<>(Set.of(DOSE)),
+            Age.MIN_AGE, Age.MAX_AGE, new HashSet<>(), List.of());
+    private static final VaxType BOOSTER = new VaxType(new GroupName("Booster"), new HashSet<>(),
+            new Age(25), Age.MAX_AGE, new HashSet<>(Set.of(new GroupName("gluten"))),
+            List.of(new Requirement(RequirementType.ANY, new HashSet<>(Set.of(DOSE)))));
+
+    private final Model model = new ModelManager(getTypicalPatientManager(), new UserPrefs());
+
+
+    @BeforeEach
+    public void addVaxTypes() throws Exception {
+        model.addVaccination(MODERNA);
+        model.addVaccination(BOOSTER);
+    }
+
+
+    @Test
+    public void execute_existingVaccination_eligiblePatientsListed() throws Exception {
+        String message = execute(BOOSTER.getName());
+
+        Set<Patient> listed = model.getFilteredPatientList().values().stream()
+                .map(data -> data.getValue())
+                .collect(Collectors.toSet());
+        // too young, allergic or without a prior dose otherwise
+        assertEquals(Set.of(DANIEL, ELLE, FIONA), listed);
+        assertTrue(message.startsWith(String.format("3 of %d patients are eligible for Booster",
+                model.getPatientManager().getMapView().size())));
+    }
+
+
+    @Test
+    public void isViewOnly_changesPatientFilters_viewOnly() throws Exception {
+        EligibleVaxTypeCommand command = new EligibleVaxTypeParser()
+                .parse(ArgumentTokenizer.tokenize(BOOSTER.getName()));
+        // it only replaces the patient filters, so the model is not saved after it
+        assertTrue(command.isViewOnly());
+    }
+
+
+    @Test
+    public void execute_nonExistentVaccination_throwsCommandException() {
+        assertThrows(CommandException.class, () -> execute("Unknown"));
+    }
+
+
+    private String execute(String args) throws Exception {
+        return new EligibleVaxTypeParser().parse(ArgumentTokenizer.tokenize(args)).execute(model).getMessage();
+    }
+}
@@ -2,18 +2,20 @@ package seedu.vms.logic.commands.vaccination;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.locks.Lock;
 import java.util.function.Predicate;
 
-import javafx.beans.property.ObjectProperty;
-import javafx.collections.ObservableList;
 import javafx.collections.ObservableMap;
+import seedu.vms.commons.core.CommandStats;
 import seedu.vms.commons.core.GuiSettings;
 import seedu.vms.commons.core.Retriever;
 import seedu.vms.commons.core.ValueChange;
+import seedu.vms.commons.core.ValueProperty;
 import seedu.vms.commons.exceptions.IllegalValueException;
 import seedu.vms.commons.exceptions.UnexpectedChangeException;
 import seedu.vms.logic.parser.ParseResult;
 import seedu.vms.logic.parser.exceptions.ParseException;
+import seedu.vms.model.EligibilityCache;
 import seedu.vms.model.FilteredMapView;
 import seedu.vms.model.GroupName;
 import seedu.vms.model.IdData;
@@ -25,6 +27,7 @@ import seedu.vms.model.keyword.Keyword;
 import seedu.vms.model.keyword.KeywordManager;
 import seedu.vms.model.patient.Patient;
 import seedu.vms.model.patient.ReadOnlyPatientManager;
+import seedu.vms.model.query.QueryPlan;
 import seedu.vms.model.vaccination.VaxType;
 import seedu.vms.model.vaccination.VaxTypeManager;
 
@@ -92,6 +95,16 @@ public class VaxTypeModelStub implements Model {
         throw new UnsupportedOperationException("Unimplemented method 'addPatient'");
     }
 
+    @Override
+    public void addPatients(Collection<Patient> patients) {
+        throw new UnsupportedOperationException("Unimplemented method 'addPatients'");
+    }
+
+    @Override
+    public void loadPatients(Collection<IdData<Patient>> patientDatas) {
+        throw new UnsupportedOperationException("Unimplemented method 'loadPatients'");
+    }
+
     @Override
     public void setPatient(int id, Patient editedPatient) {
         throw new UnsupportedOperationException("Unimplemented method 'setPatient'");
@@ -107,6 +120,11 @@ public class VaxTypeModelStub implements Model {
         throw new UnsupportedOperationException("Unimplemented method 'getFilteredPatientList'");
     }
 
+    @Override
+    public Predicate<IdData<Patient>> getPatientFiltersSnapshot() {
+        throw new UnsupportedOperationException("Unimplemented method 'getPatientFiltersSnapshot'");
+    }
+
     @Override
     public ObservableMap<String, VaxType> getFilteredVaxTypeMap() {
         return filteredMapView.asUnmodifiableObservableMap();
@@ -123,7 +141,7 @@ public class VaxTypeModelStub implements Model {
     }
 
     @Override
-    public void setAppointmentFilters(Collection<Predicate<Appointment>> filters) {
+    public QueryPlan<Appointment> setAppointmentFilters(Collection<Predicate<Appointment>> filters) {
         throw new UnsupportedOperationException("Unimplemented method 'setAppointmentFilters'");
     }
 
@@ -142,6 +160,11 @@ public class VaxTypeModelStub implements Model {
         throw new UnsupportedOperationException("Unimplemented method 'getFilteredAppointmentMap'");
     }
 
+    @Override
+    public Predicate<IdData<Appointment>> getAppointmentFiltersSnapshot() {
+        throw new UnsupportedOperationException("Unimplemented method 'getAppointmentFiltersSnapshot'");
+    }
+
     @Override
     public AppointmentManager getAppointmentManager() {
         throw new UnsupportedOperationException("Unimplemented method 'getAppointmentManager'");
@@ -175,6 +198,16 @@ public class VaxTypeModelStub implements Model {
         throw new UnsupportedOperationException("Unimplemented method 'setKeywordManager'");
     }
 
+    @Override
+    public Lock getLock() {
+        throw new UnsupportedOperationException("Unimplemented method 'getLock'");
+    }
+
+    @Override
+    public CommandStats getCommandStats() {
+        throw new UnsupportedOperationException("Unimplemented method 'getCommandStats'");
+    }
+
     @Override
     public ParseResult parseCommand(String userCommand) throws ParseException {
         throw new UnsupportedOperationException("Unimplemented method 'parseCommand'");
@@ -191,7 +224,7 @@ public class VaxTypeModelStub implements Model {
     }
 
     @Override
-    public void setPatientFilters(Collection<Predicate<Patient>> filters) {
+    public QueryPlan<Patient> setPatientFilters(Collection<Predicate<Patient>> filters) {
         throw new UnsupportedOperationException("Unimplemented method 'setPatientFilters'");
     }
 
@@ -221,7 +254,7 @@ public class VaxTypeModelStub implements Model {
     }
 
     @Override
-    public ObjectProperty<VaxType> detailedVaccinationProperty() {
+    public ValueProperty<VaxType> detailedVaccinationProperty() {
         throw new UnsupportedOperationException("Unimplemented method 'detailVaxTypeProperty'");
     }
 
@@ -231,7 +264,7 @@ public class VaxTypeModelStub implements Model {
     }
 
     @Override
-    public ObjectProperty<IdData<Patient>> detailedPatientProperty() {
+    public ValueProperty<IdData<Patient>> detailedPatientProperty() {
         throw new UnsupportedOperationException("Unimplemented method 'detailedPatientProperty'");
     }
 
@@ -240,11 +273,6 @@ public class VaxTypeModelStub implements Model {
         throw new UnsupportedOperationException("Unimplemented method 'setDetailedPatient'");
     }
 
-    @Override
-    public void bindVaccinationDisplayList(ObservableList<VaxType> displayList) {
-        throw new UnsupportedOperationException("Unimplemented method 'bindDisplayList'");
-    }
-
     @Override
     public VaxType getVaccination(Retriever<String, VaxType> retriever) throws IllegalValueException {
         return retriever.retrieve(manager.asUnmodifiableObservableMap(), null);
@@ -273,4 +301,78 @@ public class VaxTypeModelStub implements Model {
         throw new UnsupportedOperationException("Unimplemented method 'resetPatientIds'");
     }
 
+    @Override
+    public List<IdData<Appointment>> validatePatientChanges(Collection<ValueChange<IdData<Patient>>> changes) {
+        throw new UnsupportedOperationException("Unimplemented method 'validatePatientChanges'");
+    }
+
+    @Override
+    public void handlePatientChanges(Collection<ValueChange<IdData<Patient>>> changes) {
+        throw new UnsupportedOperationException("Unimplemented method 'handlePatientChanges'");
+    }
+
+    @Override
+    public void deletePatients(Collection<Integer> ids, boolean isForce) throws UnexpectedChangeException {
+        throw new UnsupportedOperationException("Unimplemented method 'deletePatients'");
+    }
+
+    @Override
+    public List<Integer> findPatientIds(Collection<Predicate<Patient>> filters) {
+        throw new UnsupportedOperationException("Unimplemented method 'findPatientIds'");
+    }
+
+    @Override
+    public void deleteAppointments(Collection<Integer> ids) {
+        throw new UnsupportedOperationException("Unimplemented method 'deleteAppointments'");
+    }
+
+    @Override
+    public void markAppointments(Collection<Integer> ids) {
+        throw new UnsupportedOperationException("Unimplemented method 'markAppointments'");
+    }
+
+    @Override
+    public List<Integer> findAppointmentIds(Collection<Predicate<Appointment>> filters) {
+        throw new UnsupportedOperationException("Unimplemented method 'findAppointmentIds'");
+    }
+
+    @Override
+    public void beginTransaction() {
+        throw new UnsupportedOperationException("Unimplemented method 'beginTransaction'");
+    }
+
+    @Override
+    public void commitTransaction() {
+        throw new UnsupportedOperationException("Unimplemented method 'commitTransaction'");
+    }
+
+    @Override
+    public void rollbackTransaction() {
+        throw new UnsupportedOperationException("Unimplemented method 'rollbackTransaction'");
+    }
+
+    @Override
+    public boolean isInTransaction() {
+        throw new UnsupportedOperationException("Unimplemented method 'isInTransaction'");
+    }
+
+    @Override
+    public List<String> getEligibleVaccinations(int patientId) {
+        throw new UnsupportedOperationException("Unimplemented method 'getEligibleVaccinations'");
+    }
+
+    @Override
+    public void refreshEligibility(int year) {
+        throw new UnsupportedOperationException("Unimplemented method 'refreshEligibility'");
+    }
+
+    @Override
+    public boolean canTakeVaccination(int patientId, VaxType vaxType) {
+        throw new UnsupportedOperationException("Unimplemented method 'canTakeVaccination'");
+    }
+
+    @Override
+    public EligibilityCache getEligibilityCache() {
+        throw new UnsupportedOperationException("Unimplemented method 'getEligibilityCache'");
+    }
 }
@@ -3,6 +3,8 @@ package seedu.vms.logic.parser;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -91,6 +93,29 @@ public class ArgumentTokenizerTest {
     }
 
 
+    @Test
+    public void tokenize_fromIndex_partBeforeIndexIgnored() {
+        String arg = "patient add PREAMBLE --flag value";
+        ArgumentMultimap argMap = tokenizeSuccess(arg, "patient add".length());
+        assertPreamblePresent(argMap, "PREAMBLE");
+        assertArgumentPresent(argMap, new Prefix("flag"), "value");
+    }
+
+
+    @Test
+    public void tokenize_cliSyntaxFlags_internedPrefixes() {
+        ArgumentMultimap argMap = tokenizeSuccess("--n John --unknown value");
+        Prefix namePrefix = argMap.getUnusedArgs().stream()
+                .map(entry -> entry.getKey())
+                .filter(CliSyntax.PREFIX_NAME::equals)
+                .findFirst()
+                .get();
+        assertSame(CliSyntax.PREFIX_NAME, namePrefix);
+        assertSame(Prefix.intern("n"), Prefix.of("n"));
+        assertNotSame(Prefix.of("unknown"), Prefix.of("unknown"));
+    }
+
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
@@ -141,9 +166,14 @@ public class ArgumentTokenizerTest {
 
 
     private ArgumentMultimap tokenizeSuccess(String args) {
+        return tokenizeSuccess(args, 0);
+    }
+
+
+    private ArgumentMultimap tokenizeSuccess(String args, int fromIndex) {
         ArgumentMultimap argMap = new ArgumentMultimap();
         try {
-            argMap = ArgumentTokenizer.tokenize(args);
+            argMap = ArgumentTokenizer.tokenize(args, fromIndex);
         } catch (Throwable ex) {
             fail(ex);
         }
@@ -0,0 +1,98 @@
+package seedu.vms.logic.parser;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.vms.logic.parser.exceptions.ParseException;
+
+
+/**
+ * Benchmarks the throughput of parsing scripted and bulk command input, and
+ * of tokenizing arguments against the previous regex based tokenizer.
+ *
+ * <p>This is not run as part of the tests. Run it with the test runtime
+ * classpath.
+ */
+public class ParserBenchmark {
+    private static final int COMMAND_COUNT = 200_000;
+    private static final int ROUND_COUNT = 5;
+
+    private static final String[] COMMAND_TEMPLATES = {
+        "patient add --n Patient %d --p 9%07d --d 2001-03-19 --b B+ --a catfur --a pollen --v Dose %d",
+        "patient edit %d --n Patient %d --p 8%07d",
+        "patient find --n Patient %d --b B+",
+        "appointment add --p %d --s 2099-03-19 1300 --e 2099-03-19 1400 --v Dose %d",
+        "vaccination add Dose %d --g DOSE --lal 5 --ual 200 --i ALC-0315 --h NONE::DOSE",
+        "patient list",
+    };
+
+
+    public static void main(String[] args) throws Exception {
+        List<String> commands = createCommands();
+        VmsParser parser = new VmsParser();
+        for (int round = 1; round <= ROUND_COUNT; round++) {
+            System.out.println("Round " + round);
+            time("parse", commands, command -> parser.parseCommand(command));
+            time("tokenize", commands, command -> ArgumentTokenizer.tokenize(command));
+            time("regex", commands, command -> tokenizeWithRegex(command));
+        }
+    }
+
+
+    private static List<String> createCommands() {
+        ArrayList<String> commands = new ArrayList<>(COMMAND_COUNT);
+        for (int i = 0; i < COMMAND_COUNT; i++) {
+            String template = COMMAND_TEMPLATES[i % COMMAND_TEMPLATES.length];
+            commands.add(String.format(template, i, i, i));
+        }
+        return commands;
+    }
+
+
+    /**
+     * Runs the given action over all commands and prints the time taken, the
+     * throughput and the number of commands that failed to parse.
+     */
+    private static void time(String label, List<String> commands, ParseAction action) {
+        int failedCount = 0;
+        long startTime = System.nanoTime();
+        for (String command : commands) {
+            try {
+                action.run(command);
+            } catch (ParseException parseEx) {
+                failedCount++;
+            }
+        }
+        long elapsedNanos = System.nanoTime() - startTime;
+        System.out.println(String.format("  %-10s %6d ms, %9.0f commands/s, %d failed",
+                label,
+                elapsedNanos / 1_000_000,
+                commands.size() * 1e9 / elapsedNanos,
+                failedCount));
+    }
+
+
+    /** Tokenizes arguments the way the tokenizer did before it scanned the input directly. */
+    private static ArgumentMultimap tokenizeWithRegex(String argString) throws ParseException {
+        ArgumentMultimap argMap = new ArgumentMultimap();
+        String[] args = (argString.strip() + " ").split("\\s*" + CliSyntax.DELIMITER);
+        argMap.put(new Prefix(""), args[0].strip());
+        for (int i = 1; i < args.length; i++) {
+            String[] inputs = args[i].strip().split("\\s+", 2);
+            if (inputs[0].isBlank()) {
+                throw new ParseException(ArgumentTokenizer.MESSAGE_MISSING_FLAG);
+            }
+            argMap.put(new Prefix(inputs[0]), inputs.length > 1 ? inputs[1] : "");
+        }
+        return argMap;
+    }
+
+
+
+
+
+    /** An action on a command that may fail to parse. */
+    private interface ParseAction {
+        void run(String command) throws ParseException;
+    }
+}
@@ -5,9 +5,14 @@ import static seedu.vms.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.vms.logic.parser.CommandParserTestUtil.assertParseSuccess;
 import static seedu.vms.testutil.TypicalIndexes.INDEX_FIRST_PATIENT;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.vms.logic.commands.patient.BulkDeleteCommand;
 import seedu.vms.logic.commands.patient.DeleteCommand;
+import seedu.vms.model.patient.BloodType;
+import seedu.vms.model.patient.predicates.BloodTypePredicate;
 
 /**
  * As we are only doing white-box testing, our test cases do not cover path variations
@@ -29,4 +34,16 @@ public class DeleteCommandParserTest {
     public void parse_invalidArgs_throwsParseException() {
         assertParseFailure(parser, "a", String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteCommand.MESSAGE_USAGE));
     }
+
+    @Test
+    public void parse_findFlags_returnsBulkDeleteCommand() {
+        assertParseSuccess(parser, "--b A+ --force true",
+                new BulkDeleteCommand(List.of(new BloodTypePredicate(new BloodType("A+"))), true));
+    }
+
+    @Test
+    public void parse_noFilters_throwsParseException() {
+        assertParseFailure(parser, "--force true",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, BulkDeleteCommand.MESSAGE_USAGE));
+    }
 }
@@ -23,6 +23,13 @@ public class FindCommandParserTest {
         assertParseFailure(parser, "     ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
     }
 
+    @Test
+    public void parse_explainFlagOnly_returnsExplainingFindCommand() {
+        assertParseSuccess(parser, "--explain true", new FindCommand(new FindPatientDescriptor(), true));
+        assertParseFailure(parser, "--explain false",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
     @Test
     public void parse_validArgs_returnsFindCommand() {
         // no leading and trailing whitespaces
@@ -51,4 +58,13 @@ public class FindCommandParserTest {
         // AMY Flags
         assertParseSuccess(parser, "--n Amy Bee --p 11111111 --d 1998-05-23 --b A+ --a gluten", expectedFindCommand);
     }
+
+    @Test
+    public void parse_explainFlag_returnsExplainingFindCommand() {
+        FindPatientDescriptor expectedFindPatientDescriptor = new FindPatientDescriptorBuilder(FIND_AMY).build();
+        FindCommand expectedFindCommand = new FindCommand(expectedFindPatientDescriptor, true);
+
+        assertParseSuccess(parser, "--n Amy Bee --p 11111111 --d 1998-05-23 --b A+ --a gluten --explain true",
+                expectedFindCommand);
+    }
 }
@@ -0,0 +1,74 @@
+package seedu.vms.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.MapChangeListener;
+
+public class BatchObservableMapTest {
+    private final BatchObservableMap<Integer, String> map = new BatchObservableMap<>();
+    private final ArrayList<MapChangeListener.Change<? extends Integer, ? extends String>> changes =
+            new ArrayList<>();
+    private final ArrayList<List<? extends MapChangeListener.Change<? extends Integer, ? extends String>>> batches =
+            new ArrayList<>();
+
+
+    @BeforeEach
+    public void setUp() {
+        map.putAll(Map.of(1, "a", 2, "b", 3, "c"));
+        map.addListener((MapChangeListener<Integer, String>) changes::add);
+        map.asUnmodifiable().addListener((BatchMapChangeListener<Integer, String>) batches::add);
+    }
+
+
+    @Test
+    public void setAll_plainListener_changePerEntry() {
+        map.setAll(Map.of(1, "a", 2, "z", 4, "d"));
+
+        assertEquals(Map.of(1, "a", 2, "z", 4, "d"), map);
+        // the unchanged entry is not published
+        assertEquals(3, changes.size());
+        for (MapChangeListener.Change<? extends Integer, ? extends String> change : changes) {
+            assertNotNull(change.getKey());
+            assertTrue(change.wasAdded() || change.wasRemoved());
+        }
+        assertEquals(1, batches.size());
+        assertEquals(changes, batches.get(0));
+    }
+
+
+    @Test
+    public void update_removedThenAdded_singleBatch() {
+        map.update(Map.of(3, "x", 5, "e"), List.of(1, 3));
+
+        assertEquals(Map.of(2, "b", 3, "x", 5, "e"), map);
+        assertEquals(1, batches.size());
+        assertEquals(4, batches.get(0).size());
+    }
+
+
+    @Test
+    public void put_singleChange_batchOfOne() {
+        map.put(4, "d");
+        map.remove(9);
+
+        assertEquals(1, changes.size());
+        assertEquals(List.of(List.of(changes.get(0))), batches);
+    }
+
+
+    @Test
+    public void asUnmodifiable_modify_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> map.asUnmodifiable().put(4, "d"));
+        assertThrows(UnsupportedOperationException.class, () -> map.asUnmodifiable().remove(1));
+    }
+}
@@ -0,0 +1,126 @@
+package seedu.vms.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.vms.commons.core.ValueChange;
+import seedu.vms.model.patient.Patient;
+import seedu.vms.model.vaccination.Requirement;
+import seedu.vms.model.vaccination.Requirement.RequirementType;
+import seedu.vms.model.vaccination.VaxType;
+import seedu.vms.testutil.PatientBuilder;
+
+public class EligibilityCacheTest {
+    private static final int YEAR = LocalDate.now().getYear();
+    private static final GroupName DOSE = new GroupName("DOSE");
+
+    private static final VaxType MODERNA = createType("Moderna", Set.of(DOSE), List.of());
+    private static final VaxType BOOSTER = createType("Booster", Set.of(),
+            List.of(new Requirement(RequirementType.ANY, new HashSet<>(Set.of(DOSE)))));
+
+    private final HashMap<String, VaxType> vaccinations = new HashMap<>();
+    private final IdData<Patient> patient = new IdData<>(0,
+            new PatientBuilder().withDob("1990-01-01").withVaccines("Moderna").build());
+
+
+    @Test
+    public void canTake_repeatedLookup_hit() {
+        EligibilityCache cache = createCache(8);
+        assertTrue(cache.canTake(patient, BOOSTER, vaccinations, YEAR));
+        assertTrue(cache.canTake(patient, BOOSTER, vaccinations, YEAR));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+
+    @Test
+    public void canTake_afterPatientChange_reevaluated() {
+        EligibilityCache cache = createCache(8);
+        assertTrue(cache.canTake(patient, BOOSTER, vaccinations, YEAR));
+
+        IdData<Patient> edited = new IdData<>(0, new PatientBuilder(patient.getValue()).withVaccines().build());
+        cache.handlePatientChange(new ValueChange<>(patient, edited));
+        assertFalse(cache.canTake(edited, BOOSTER, vaccinations, YEAR));
+        assertEquals(0, cache.getHitCount());
+    }
+
+
+    @Test
+    public void canTake_afterDependencyChange_reevaluated() {
+        EligibilityCache cache = createCache(8);
+        assertTrue(cache.canTake(patient, BOOSTER, vaccinations, YEAR));
+
+        // the taken vaccination no longer satisfies the history requirement of the booster
+        VaxType edited = createType("Moderna", Set.of(new GroupName("OTHER")), List.of());
+        vaccinations.put(edited.getName(), edited);
+        cache.handleVaccinationChange(new ValueChange<>(MODERNA, edited), vaccinations);
+        assertFalse(cache.canTake(patient, BOOSTER, vaccinations, YEAR));
+        assertEquals(0, cache.getHitCount());
+    }
+
+
+    @Test
+    public void handleChange_deleted_versionDropped() {
+        EligibilityCache cache = createCache(8);
+        IdData<Patient> edited = new IdData<>(0, new PatientBuilder(patient.getValue()).withVaccines().build());
+        cache.handlePatientChange(new ValueChange<>(patient, edited));
+        cache.handleVaccinationChange(new ValueChange<>(null, MODERNA), vaccinations);
+        // the booster depends on the groups of moderna so its version is bumped too
+        assertEquals(3, cache.getVersionCount());
+
+        cache.handlePatientChange(new ValueChange<>(edited, null));
+        vaccinations.remove(MODERNA.getName());
+        cache.handleVaccinationChange(new ValueChange<>(MODERNA, null), vaccinations);
+        assertEquals(1, cache.getVersionCount());
+
+        // added back with the same ID, so it must not hit the results of the deleted patient
+        assertTrue(cache.canTake(patient, MODERNA, vaccinations, YEAR));
+        cache.handlePatientChange(new ValueChange<>(null, edited));
+        assertTrue(cache.canTake(edited, MODERNA, vaccinations, YEAR));
+        assertEquals(0, cache.getHitCount());
+    }
+
+
+    @Test
+    public void clear_versionsKept_versionsCleared() {
+        EligibilityCache cache = createCache(8);
+        cache.canTake(patient, BOOSTER, vaccinations, YEAR);
+        cache.handlePatientChange(new ValueChange<>(null, patient));
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getVersionCount());
+    }
+
+
+    @Test
+    public void canTake_overCapacity_leastRecentlyUsedEvicted() {
+        EligibilityCache cache = createCache(1);
+        cache.canTake(patient, BOOSTER, vaccinations, YEAR);
+        cache.canTake(patient, MODERNA, vaccinations, YEAR);
+        cache.canTake(patient, BOOSTER, vaccinations, YEAR);
+        assertEquals(1, cache.size());
+        assertEquals(3, cache.getMissCount());
+    }
+
+
+    private EligibilityCache createCache(int capacity) {
+        vaccinations.put(MODERNA.getName(), MODERNA);
+        vaccinations.put(BOOSTER.getName(), BOOSTER);
+        return new EligibilityCache(capacity, YEAR);
+    }
+
+
+    private static VaxType createType(String name, Set<GroupName> groups, List<Requirement> historyReqs) {
+        return new VaxType(new GroupName(name), new HashSet<>(groups), Age.MIN_AGE, Age.MAX_AGE,
+                new HashSet<>(), historyReqs);
+    }
+}
@@ -0,0 +1,101 @@
+package seedu.vms.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.vms.testutil.TypicalPatients.getTypicalPatientManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.vms.model.patient.Patient;
+import seedu.vms.model.patient.predicates.VaxEligibilityPredicate;
+import seedu.vms.model.vaccination.Requirement;
+import seedu.vms.model.vaccination.Requirement.RequirementType;
+import seedu.vms.model.vaccination.VaxType;
+import seedu.vms.testutil.PatientBuilder;
+
+public class EligibilityMatrixTest {
+    private static final GroupName DOSE = new GroupName("DOSE");
+    private static final GroupName GLUTEN = new GroupName("gluten");
+
+    private static final VaxType MODERNA = createType("Moderna", Set.of(DOSE), new Age(0), Set.of(), List.of());
+    private static final VaxType BOOSTER = createType("Booster", Set.of(), new Age(25), Set.of(GLUTEN),
+            List.of(new Requirement(RequirementType.ANY, new HashSet<>(Set.of(DOSE)))));
+
+    private final ModelManager model = new ModelManager(getTypicalPatientManager(), new UserPrefs());
+
+
+    @BeforeEach
+    public void addVaxTypes() throws Exception {
+        model.addVaccination(MODERNA);
+        model.addVaccination(BOOSTER);
+    }
+
+
+    @Test
+    public void getEligibleVaccinations_afterPatientChanges_matchesRecompute() {
+        assertMatchesRecompute();
+
+        // an allergy to an ingredient of the booster
+        Patient patient = model.getPatientManager().getMapView().get(3).getValue();
+        model.setPatient(3, new PatientBuilder(patient).withAllergies("gluten").build());
+        assertEquals(List.of("Moderna"), model.getEligibleVaccinations(3));
+        assertMatchesRecompute();
+
+        model.addPatient(new PatientBuilder().withDob("1990-01-01").withVaccines("Moderna").build());
+        assertMatchesRecompute();
+    }
+
+
+    @Test
+    public void getEligibleVaccinations_afterVaccinationChanges_matchesRecompute() throws Exception {
+        // the booster no longer depends on the renamed dose
+        model.editVaccination(MODERNA.getName(),
+                createType("Moderna (2)", Set.of(new GroupName("OTHER")), new Age(0), Set.of(), List.of()));
+        assertMatchesRecompute();
+
+        model.deleteVaccination(new GroupName("Moderna (2)"), true);
+        assertMatchesRecompute();
+    }
+
+
+    @Test
+    public void refreshEligibility_newYear_matchesRecompute() {
+        // patients are younger in an earlier year, so fewer can take the booster
+        int year = LocalDate.now().getYear() - 30;
+        model.refreshEligibility(year);
+        assertMatchesRecompute(year);
+    }
+
+
+    private void assertMatchesRecompute() {
+        assertMatchesRecompute(LocalDate.now().getYear());
+    }
+
+
+    private void assertMatchesRecompute(int year) {
+        for (IdData<Patient> data : model.getPatientManager().getMapView().values()) {
+            ArrayList<String> expected = new ArrayList<>();
+            for (VaxType vaxType : model.getVaxTypeManager().asUnmodifiableObservableMap().values()) {
+                if (new VaxEligibilityPredicate(vaxType, model.getVaxTypeManager().asUnmodifiableObservableMap(),
+                        year).test(data.getValue())) {
+                    expected.add(vaxType.getName());
+                }
+            }
+            expected.sort(null);
+            assertEquals(expected, model.getEligibleVaccinations(data.getId()));
+        }
+    }
+
+
+    private static VaxType createType(String name, Set<GroupName> groups, Age minAge, Set<GroupName> ingredients,
+                List<Requirement> historyReqs) {
+        return new VaxType(new GroupName(name), new HashSet<>(groups), minAge, Age.MAX_AGE,
+                new HashSet<>(ingredients), historyReqs);
+    }
+}
@@ -0,0 +1,206 @@
+package seedu.vms.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.MapChangeListener;
+import javafx.collections.ObservableMap;
+
+public class FilteredMapViewTest {
+    private static final Predicate<Integer> IS_EVEN = value -> value % 2 == 0;
+    private static final Predicate<Integer> IS_MULTIPLE_OF_3 = value -> value % 3 == 0;
+
+    private final ObservableMap<Integer, Integer> source = FXCollections.observableHashMap();
+    private final ArrayList<List<? extends MapChangeListener.Change<? extends Integer, ? extends Integer>>> changes =
+            new ArrayList<>();
+
+    private FilteredMapView<Integer, Integer> view;
+
+
+    @BeforeEach
+    public void setUp() {
+        for (int i = 0; i < 12; i++) {
+            source.put(i, i);
+        }
+        view = new FilteredMapView<>(source);
+        view.asUnmodifiableObservableMap().addListener((BatchMapChangeListener<Integer, Integer>) changes::add);
+    }
+
+
+    @Test
+    public void setFilters_narrowing_singleBatchChange() {
+        view.setFilters(List.of(IS_EVEN));
+        assertEquals(Map.of(0, 0, 2, 2, 4, 4, 6, 6, 8, 8, 10, 10), view.asUnmodifiableObservableMap());
+
+        view.setFilters(List.of(IS_EVEN, IS_MULTIPLE_OF_3));
+        assertEquals(Map.of(0, 0, 6, 6), view.asUnmodifiableObservableMap());
+        assertEquals(2, changes.size());
+        assertEquals(4, changes.get(1).size());
+        for (MapChangeListener.Change<? extends Integer, ? extends Integer> change : changes.get(1)) {
+            assertFalse(change.wasAdded());
+            assertTrue(change.wasRemoved());
+        }
+    }
+
+
+    @Test
+    public void setFilters_narrowedFilterReplaced_resultRefiltered() {
+        ArrayList<Long> scanCounts = new ArrayList<>();
+        view.setScanListener(scanCounts::add);
+        view.setFilters(List.of(new MultiplePredicate(2)));
+        view.setFilters(List.of(new MultiplePredicate(4)));
+        assertEquals(Map.of(0, 0, 4, 4, 8, 8), view.asUnmodifiableObservableMap());
+        // only the 6 even values are tested again
+        assertEquals(List.of(12L, 6L), scanCounts);
+
+        view.setFilters(List.of(new MultiplePredicate(3)));
+        assertEquals(Map.of(0, 0, 3, 3, 6, 6, 9, 9), view.asUnmodifiableObservableMap());
+        assertEquals(List.of(12L, 6L, 12L), scanCounts);
+    }
+
+
+    @Test
+    public void setFilters_widening_rescansSource() {
+        view.setFilters(List.of(IS_EVEN, IS_MULTIPLE_OF_3));
+        view.setFilters(List.of(IS_MULTIPLE_OF_3));
+        assertEquals(Map.of(0, 0, 3, 3, 6, 6, 9, 9), view.asUnmodifiableObservableMap());
+
+        view.setFilters(List.of());
+        assertEquals(source, view.asUnmodifiableObservableMap());
+        assertEquals(3, changes.size());
+    }
+
+
+    @Test
+    public void setFilters_sameFilters_noChange() {
+        view.setFilters(List.of(IS_EVEN));
+        view.setFilters(List.of(IS_EVEN));
+        assertEquals(1, changes.size());
+    }
+
+
+    @Test
+    public void sourceChange_afterNarrowing_allFiltersTested() {
+        view.setFilters(List.of(IS_EVEN));
+        view.setFilters(List.of(IS_EVEN, IS_MULTIPLE_OF_3));
+        changes.clear();
+
+        source.put(12, 12);
+        source.put(14, 14);
+        source.remove(0);
+        assertEquals(Map.of(6, 6, 12, 12), view.asUnmodifiableObservableMap());
+        assertEquals(2, changes.size());
+    }
+
+
+    @Test
+    public void setFilters_aboveParallelThreshold_sameAsSequential() {
+        for (int i = 12; i < 20000; i++) {
+            source.put(i, i);
+        }
+        FilteredMapView<Integer, Integer> parallelView = new FilteredMapView<>(source);
+        parallelView.setParallelThreshold(100);
+
+        parallelView.setFilters(List.of(IS_MULTIPLE_OF_3));
+        view.setFilters(List.of(IS_MULTIPLE_OF_3));
+        assertEquals(view.asUnmodifiableObservableMap(), parallelView.asUnmodifiableObservableMap());
+
+        parallelView.setFilters(List.of(IS_MULTIPLE_OF_3, IS_EVEN));
+        view.setFilters(List.of(IS_MULTIPLE_OF_3, IS_EVEN));
+        assertEquals(view.asUnmodifiableObservableMap(), parallelView.asUnmodifiableObservableMap());
+        assertEquals(19998 / 6 + 1, parallelView.asUnmodifiableObservableMap().size());
+    }
+
+
+    @Test
+    public void setParallelThreshold_nonPositive_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> view.setParallelThreshold(0));
+    }
+
+
+    @Test
+    public void setFilters_concurrently_consistentWithLastFilters() throws Exception {
+        ArrayList<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            List<Predicate<Integer>> filters = i % 2 == 0 ? List.of(IS_EVEN) : List.of(IS_MULTIPLE_OF_3);
+            threads.add(new Thread(() -> {
+                for (int j = 0; j < 200; j++) {
+                    view.setFilters(filters);
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        Map<Integer, Integer> result = Map.copyOf(view.asUnmodifiableObservableMap());
+        assertTrue(result.equals(Map.of(0, 0, 2, 2, 4, 4, 6, 6, 8, 8, 10, 10))
+                || result.equals(Map.of(0, 0, 3, 3, 6, 6, 9, 9)));
+    }
+
+
+    @Test
+    public void sourceBatch_singleBatchOfFilteredChanges() {
+        BatchObservableMap<Integer, Integer> batchSource = new BatchObservableMap<>();
+        batchSource.putAll(source);
+        FilteredMapView<Integer, Integer> batchView = new FilteredMapView<>(batchSource);
+        batchView.setFilters(List.of(IS_EVEN));
+        batchView.asUnmodifiableObservableMap().addListener((BatchMapChangeListener<Integer, Integer>) changes::add);
+
+        batchSource.update(Map.of(12, 12, 13, 13, 14, 14), List.of(0, 1));
+        assertEquals(Map.of(2, 2, 4, 4, 6, 6, 8, 8, 10, 10, 12, 12, 14, 14),
+                batchView.asUnmodifiableObservableMap());
+        assertEquals(1, changes.size());
+        assertEquals(3, changes.get(0).size());
+    }
+
+
+    @Test
+    public void firstPage_filteredValues_pagedInOrder() {
+        view.setFilters(List.of(IS_EVEN));
+        ResultPage<Integer> page = view.firstPage(Comparator.reverseOrder(), 4);
+        assertEquals(List.of(10, 8, 6, 4), page.getItems());
+        assertEquals(List.of(2, 0), page.next().getItems());
+    }
+
+
+
+
+
+    /** Tests that a value is a multiple of a divisor. */
+    private static class MultiplePredicate implements NarrowablePredicate<Integer> {
+        private final int divisor;
+
+
+        MultiplePredicate(int divisor) {
+            this.divisor = divisor;
+        }
+
+
+        @Override
+        public boolean test(Integer value) {
+            return value % divisor == 0;
+        }
+
+
+        @Override
+        public boolean narrows(Predicate<?> other) {
+            return other instanceof MultiplePredicate && divisor % ((MultiplePredicate) other).divisor == 0;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package seedu.vms.model;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+
+public class IdBitmapTest {
+    private static final int DENSE_COUNT = IdBitmap.ARRAY_LIMIT * 2;
+
+
+    @Test
+    public void add_newAndExistingIds_reportsChange() {
+        IdBitmap bitmap = new IdBitmap();
+        assertTrue(bitmap.add(5));
+        assertFalse(bitmap.add(5));
+        assertTrue(bitmap.add(70000));
+        assertTrue(bitmap.contains(5));
+        assertTrue(bitmap.contains(70000));
+        assertFalse(bitmap.contains(6));
+        assertEquals(2, bitmap.cardinality());
+    }
+
+
+    @Test
+    public void add_negativeId_exceptionThrown() {
+        assertThrows(IllegalArgumentException.class, () -> new IdBitmap().add(-1));
+    }
+
+
+    @Test
+    public void remove_presentAndAbsentIds_reportsChange() {
+        IdBitmap bitmap = IdBitmap.of(1, 2, 3);
+        assertTrue(bitmap.remove(2));
+        assertFalse(bitmap.remove(2));
+        assertFalse(bitmap.remove(-1));
+        assertArrayEquals(new int[] {1, 3}, bitmap.toArray());
+
+        bitmap.remove(1);
+        bitmap.remove(3);
+        assertTrue(bitmap.isEmpty());
+    }
+
+
+    @Test
+    public void add_denseIds_allIdsPresent() {
+        IdBitmap bitmap = new IdBitmap();
+        for (int i = 0; i < DENSE_COUNT; i++) {
+            bitmap.add(i * 2);
+        }
+        assertEquals(DENSE_COUNT, bitmap.cardinality());
+        for (int i = 0; i < DENSE_COUNT * 2; i++) {
+            assertEquals(i % 2 == 0, bitmap.contains(i));
+        }
+
+        // back to sparse
+        for (int i = 0; i < DENSE_COUNT - 3; i++) {
+            bitmap.remove(i * 2);
+        }
+        int last = (DENSE_COUNT - 1) * 2;
+        assertArrayEquals(new int[] {last - 4, last - 2, last}, bitmap.toArray());
+    }
+
+
+    @Test
+    public void andOr_mixedContainers_matchesSetOperations() {
+        IdBitmap sparse = new IdBitmap();
+        IdBitmap dense = new IdBitmap();
+        TreeSet<Integer> sparseSet = new TreeSet<>();
+        TreeSet<Integer> denseSet = new TreeSet<>();
+        for (int i = 0; i < 200000; i += 37) {
+            sparse.add(i);
+            sparseSet.add(i);
+        }
+        for (int i = 0; i < DENSE_COUNT; i++) {
+            dense.add(i);
+            denseSet.add(i);
+        }
+        dense.add(131072);
+        denseSet.add(131072);
+
+        TreeSet<Integer> expectedAnd = new TreeSet<>(sparseSet);
+        expectedAnd.retainAll(denseSet);
+        TreeSet<Integer> expectedOr = new TreeSet<>(sparseSet);
+        expectedOr.addAll(denseSet);
+
+        assertArrayEquals(toArray(expectedAnd), sparse.and(dense).toArray());
+        assertArrayEquals(toArray(expectedAnd), dense.and(sparse).toArray());
+        assertArrayEquals(toArray(expectedOr), sparse.or(dense).toArray());
+        assertArrayEquals(toArray(expectedOr), dense.or(sparse).toArray());
+        assertEquals(dense, dense.and(dense));
+    }
+
+
+    @Test
+    public void copy_modifyCopy_originalUnchanged() {
+        IdBitmap bitmap = IdBitmap.of(1, 2);
+        IdBitmap copy = bitmap.copy();
+        copy.add(3);
+        assertEquals(IdBitmap.of(1, 2), bitmap);
+        assertEquals(IdBitmap.of(1, 2, 3), copy);
+    }
+
+
+    private static int[] toArray(TreeSet<Integer> set) {
+        return set.stream().mapToInt(Integer::intValue).toArray();
+    }
+}
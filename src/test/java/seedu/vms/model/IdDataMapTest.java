@@ -139,6 +139,56 @@ public class IdDataMapTest {
     }
 
 
+    @Test
+    public void addDatas_singleBatchPublished() {
+        ArrayList<Integer> batchSizes = new ArrayList<>();
+        idMap.asUnmodifiableObservableMap().addListener(
+                (BatchMapChangeListener<Integer, IdData<Integer>>) changes -> batchSizes.add(changes.size()));
+        idMap.addDatas(formRandDataList());
+        assertEquals(List.of(TESTING_LIMIT), batchSizes);
+        for (int i = 0; i < TESTING_LIMIT; i++) {
+            assertEquals(i, idMap.get(i).getValue());
+        }
+    }
+
+
+    @Test
+    public void addAll_singleBatchPublished() {
+        idMap.add(0);
+        idMap.add(new IdData<>(true, 2, 2));
+        ArrayList<Integer> batchSizes = new ArrayList<>();
+        idMap.asUnmodifiableObservableMap().addListener(
+                (BatchMapChangeListener<Integer, IdData<Integer>>) changes -> batchSizes.add(changes.size()));
+        List<IdData<Integer>> added = idMap.addAll(List.of(3, 4));
+        assertEquals(List.of(2), batchSizes);
+        assertEquals(List.of(3, 4), List.of(added.get(0).getId(), added.get(1).getId()));
+        assertEquals(4, idMap.get(4).getValue());
+    }
+
+
+    @Test
+    public void addAll_overLimit_nothingAdded() {
+        idMap.add(0);
+        ArrayList<Integer> values = new ArrayList<>();
+        for (int i = 0; i < TESTING_LIMIT; i++) {
+            values.add(i);
+        }
+        assertThrows(LimitExceededException.class, () -> idMap.addAll(values));
+        assertEquals(1, idMap.asUnmodifiableObservableMap().size());
+    }
+
+
+    @Test
+    public void setDatas_sameDatas_nothingPublished() {
+        idMap.setDatas(formRandDataList());
+        ArrayList<Integer> batchSizes = new ArrayList<>();
+        idMap.asUnmodifiableObservableMap().addListener(
+                (BatchMapChangeListener<Integer, IdData<Integer>>) changes -> batchSizes.add(changes.size()));
+        idMap.setDatas(formRandDataList());
+        assertTrue(batchSizes.isEmpty());
+    }
+
+
     @Test
     public void set() {
         int initial = 0;
@@ -2,19 +2,30 @@ package seedu.vms.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.vms.model.Model.PREDICATE_SHOW_ALL_PATIENTS;
 import static seedu.vms.testutil.Assert.assertThrows;
 import static seedu.vms.testutil.TypicalPatients.ALICE;
 import static seedu.vms.testutil.TypicalPatients.BENSON;
+import static seedu.vms.testutil.TypicalPatients.getTypicalPatientManager;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.vms.commons.core.GuiSettings;
+import seedu.vms.commons.core.Retriever;
+import seedu.vms.commons.core.index.Index;
+import seedu.vms.commons.exceptions.IllegalValueException;
+import seedu.vms.commons.exceptions.UnexpectedChangeException;
+import seedu.vms.model.appointment.Appointment;
 import seedu.vms.model.patient.PatientManager;
 import seedu.vms.model.patient.predicates.NameContainsKeywordsPredicate;
+import seedu.vms.model.vaccination.VaxType;
 import seedu.vms.testutil.PatientManagerBuilder;
 
 public class ModelManagerTest {
@@ -50,6 +61,13 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPatientList().put(0, null));
     }
 
+    @Test
+    public void loadPatients_patientsLoaded_noPatientDetailed() {
+        modelManager.loadPatients(getTypicalPatientManager().getMapView().values());
+        assertEquals(getTypicalPatientManager().getMapView().size(), modelManager.getFilteredPatientList().size());
+        assertNull(modelManager.detailedPatientProperty().get());
+    }
+
     @Test
     public void equals() {
         PatientManager patientManager = new PatientManagerBuilder().withPatient(ALICE).withPatient(BENSON).build();
@@ -86,4 +104,108 @@ public class ModelManagerTest {
         differentUserPrefs.setGuiSettings(new GuiSettings(0, 0, 0, 0));
         assertFalse(modelManager.equals(new ModelManager(patientManager, differentUserPrefs)));
     }
+
+    @Test
+    public void commitTransaction_deleteWithAppointment_validatedOnCommitAndRolledBack() throws Exception {
+        modelManager = new ModelManager(getTypicalPatientManager(), new UserPrefs());
+        addAppointment(0);
+        modelManager.beginTransaction();
+
+        // deletion is cascaded right away but not validated until commit
+        modelManager.deletePatient(0, false);
+        assertFalse(modelManager.hasPatient(0));
+        assertTrue(modelManager.getAppointmentManager().getMapView().isEmpty());
+        assertThrows(UnexpectedChangeException.class, () -> modelManager.commitTransaction());
+
+        assertFalse(modelManager.isInTransaction());
+        assertEquals(getTypicalPatientManager().getMapView(), modelManager.getPatientManager().getMapView());
+        assertEquals(1, modelManager.getAppointmentManager().getMapView().size());
+    }
+
+    @Test
+    public void commitTransaction_appointmentDeletedFirst_committed() throws Exception {
+        modelManager = new ModelManager(getTypicalPatientManager(), new UserPrefs());
+        addAppointment(0);
+        modelManager.beginTransaction();
+
+        modelManager.deleteAppointment(0);
+        modelManager.deletePatient(0, false);
+        modelManager.commitTransaction();
+        assertFalse(modelManager.isInTransaction());
+        assertFalse(modelManager.hasPatient(0));
+    }
+
+    @Test
+    public void commitTransaction_forcedDelete_appointmentsCascaded() throws Exception {
+        modelManager = new ModelManager(getTypicalPatientManager(), new UserPrefs());
+        addAppointment(0);
+        modelManager.beginTransaction();
+
+        modelManager.deletePatient(0, true);
+        // later commands of the transaction never see dangling appointments
+        assertTrue(modelManager.getAppointmentManager().getMapView().isEmpty());
+        modelManager.commitTransaction();
+        assertTrue(modelManager.getAppointmentManager().getMapView().isEmpty());
+    }
+
+    @Test
+    public void transaction_changesMade_eligibilityKeptConsistent() throws Exception {
+        modelManager = new ModelManager(getTypicalPatientManager(), new UserPrefs());
+        modelManager.addVaccination(new VaxType(new GroupName("Vax"), new HashSet<>(),
+                Age.MIN_AGE, Age.MAX_AGE, new HashSet<>(), List.of()));
+        modelManager.beginTransaction();
+
+        modelManager.deletePatient(0, true);
+        modelManager.addPatient(ALICE);
+        int addedId = modelManager.getPatientManager().getMapView().size();
+        assertEquals(List.of("Vax"), modelManager.getEligibleVaccinations(addedId));
+        assertTrue(modelManager.getEligibleVaccinations(0).isEmpty());
+
+        modelManager.rollbackTransaction();
+        assertTrue(modelManager.getEligibleVaccinations(addedId).isEmpty());
+        assertEquals(List.of("Vax"), modelManager.getEligibleVaccinations(0));
+    }
+
+    @Test
+    public void rollbackTransaction_changesMade_dataRestored() throws Exception {
+        modelManager = new ModelManager(getTypicalPatientManager(), new UserPrefs());
+        addAppointment(0);
+        modelManager.beginTransaction();
+
+        modelManager.deletePatient(0, true);
+        modelManager.addPatient(ALICE);
+        modelManager.rollbackTransaction();
+        assertFalse(modelManager.isInTransaction());
+        assertEquals(getTypicalPatientManager().getMapView(), modelManager.getPatientManager().getMapView());
+        assertEquals(1, modelManager.getAppointmentManager().getMapView().size());
+    }
+
+    @Test
+    public void transaction_invalidState_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, () -> modelManager.commitTransaction());
+        assertThrows(IllegalStateException.class, () -> modelManager.rollbackTransaction());
+        modelManager.beginTransaction();
+        assertThrows(IllegalStateException.class, () -> modelManager.beginTransaction());
+    }
+
+    @Test
+    public void getVaccination_index_resolvedAgainstFilteredVaccinationsByName() throws Exception {
+        for (int i = 20; i > 0; i--) {
+            modelManager.addVaccination(new VaxType(new GroupName(String.format("Vax %02d", i)), new HashSet<>(),
+                    Age.MIN_AGE, Age.MAX_AGE, new HashSet<>(), List.of()));
+        }
+        assertEquals("Vax 01", modelManager.getVaccination(Retriever.of(0)).getName());
+        assertEquals("Vax 20", modelManager.getVaccination(Retriever.of(19)).getName());
+
+        // resolved against the new filters right after they are set
+        modelManager.setVaccinationFilters(List.of(vaxType -> vaxType.getName().endsWith("0")));
+        assertEquals("Vax 20", modelManager.getVaccination(Retriever.of(1)).getName());
+        assertThrows(IllegalValueException.class, () -> modelManager.getVaccination(Retriever.of(2)));
+    }
+
+    private void addAppointment(int patientId) {
+        LocalDateTime startTime = LocalDateTime.of(2099, 1, 1, 10, 0);
+        modelManager.addAppointment(new Appointment(Index.fromZeroBased(patientId), startTime,
+                startTime.plusHours(1), new GroupName("Dose 1")));
+    }
 }
@@ -0,0 +1,93 @@
+package seedu.vms.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class ResultPageTest {
+    private final ArrayList<Integer> values = new ArrayList<>(List.of(7, 3, 9, 1, 5, 8, 2, 6, 4, 0));
+
+
+    @Test
+    public void first_unsortedValues_smallestValuesInOrder() {
+        ResultPage<Integer> page = ResultPage.first(values, Comparator.naturalOrder(), 4);
+        assertEquals(List.of(0, 1, 2, 3), page.getItems());
+        assertFalse(page.hasPrevious());
+        assertTrue(page.hasNext());
+
+        ResultPage<Integer> descendingPage = ResultPage.first(values, Comparator.reverseOrder(), 3);
+        assertEquals(List.of(9, 8, 7), descendingPage.getItems());
+    }
+
+
+    @Test
+    public void next_untilEnd_allValuesPaged() {
+        ResultPage<Integer> page = ResultPage.first(values, Comparator.naturalOrder(), 4);
+        page = page.next();
+        assertEquals(List.of(4, 5, 6, 7), page.getItems());
+        assertTrue(page.hasPrevious());
+        assertTrue(page.hasNext());
+
+        page = page.next();
+        assertEquals(List.of(8, 9), page.getItems());
+        assertFalse(page.hasNext());
+        assertTrue(page.next().getItems().isEmpty());
+    }
+
+
+    @Test
+    public void previous_fromLastPage_previousValuesInOrder() {
+        ResultPage<Integer> page = ResultPage.first(values, Comparator.naturalOrder(), 4).next().next();
+        page = page.previous();
+        assertEquals(List.of(4, 5, 6, 7), page.getItems());
+        assertTrue(page.hasNext());
+        assertTrue(page.hasPrevious());
+
+        page = page.previous(3);
+        assertEquals(List.of(1, 2, 3), page.getItems());
+        assertTrue(page.hasPrevious());
+    }
+
+
+    @Test
+    public void next_valuesChangedInBetween_continuesFromCursor() {
+        ResultPage<Integer> page = ResultPage.first(values, Comparator.naturalOrder(), 4);
+        values.remove(Integer.valueOf(4));
+        values.add(-1);
+        assertEquals(List.of(5, 6, 7, 8), page.next().getItems());
+    }
+
+
+    @Test
+    public void withValues_snapshotPage_continuesFromNewValues() {
+        List<Integer> snapshot = List.copyOf(values);
+        ResultPage<Integer> page = ResultPage.first(snapshot, Comparator.naturalOrder(), 4).withValues(values);
+        values.add(10);
+        assertEquals(List.of(0, 1, 2, 3), page.getItems());
+        assertEquals(List.of(8, 9, 10), page.next().next().getItems());
+    }
+
+
+    @Test
+    public void first_maxPageSize_allValues() {
+        ResultPage<Integer> page = ResultPage.first(values, Comparator.naturalOrder(), Integer.MAX_VALUE);
+        ArrayList<Integer> expected = new ArrayList<>(values);
+        Collections.sort(expected);
+        assertEquals(expected, page.getItems());
+        assertFalse(page.hasNext());
+    }
+
+
+    @Test
+    public void first_nonPositivePageSize_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> ResultPage.first(values, Comparator.naturalOrder(), 0));
+    }
+}
@@ -1,15 +1,23 @@
 package seedu.vms.model.appointment;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import seedu.vms.commons.core.index.Index;
+import seedu.vms.model.BatchMapChangeListener;
 import seedu.vms.model.GroupName;
+import seedu.vms.model.IdData;
 
 class AppointmentManagerTest {
 
@@ -34,6 +42,38 @@ class AppointmentManagerTest {
         assertThrows(AssertionError.class, () -> appointmentManager.mark(1));
     }
 
+    @Test
+    void markAll_singleBatchPublished() {
+        for (int i = 0; i < 3; i++) {
+            appointmentManager.add(newAppointment(false));
+        }
+        ArrayList<Integer> batchSizes = new ArrayList<>();
+        appointmentManager.getMapView().addListener(
+                (BatchMapChangeListener<Integer, IdData<Appointment>>) changes -> batchSizes.add(changes.size()));
+
+        appointmentManager.markAll(List.of(0, 2));
+
+        assertEquals(List.of(2), batchSizes);
+        assertTrue(appointmentManager.get(0).getValue().getStatus());
+        assertFalse(appointmentManager.get(1).getValue().getStatus());
+        assertTrue(appointmentManager.get(2).getValue().getStatus());
+    }
+
+    @Test
+    void removeAll_singleBatchPublished() {
+        for (int i = 0; i < 3; i++) {
+            appointmentManager.add(newAppointment(false));
+        }
+        ArrayList<Integer> batchSizes = new ArrayList<>();
+        appointmentManager.getMapView().addListener(
+                (BatchMapChangeListener<Integer, IdData<Appointment>>) changes -> batchSizes.add(changes.size()));
+
+        assertEquals(2, appointmentManager.removeAll(List.of(0, 2, 5)).size());
+
+        assertEquals(List.of(2), batchSizes);
+        assertEquals(Set.of(1), appointmentManager.getMapView().keySet());
+    }
+
     @Test
     void unmark() {
         Index patientId = Index.fromOneBased(1);
@@ -47,4 +87,10 @@ class AppointmentManagerTest {
         assertDoesNotThrow(() -> appointmentManager.unmark(1));
         assertThrows(AssertionError.class, () -> appointmentManager.unmark(1));
     }
+
+    private static Appointment newAppointment(boolean isCompleted) {
+        LocalDateTime startTime = LocalDateTime.now();
+        return new Appointment(Index.fromOneBased(1), startTime, startTime.plusHours(1),
+                new GroupName("Test Vaccine"), isCompleted);
+    }
 }
@@ -2,12 +2,17 @@ package seedu.vms.model.patient;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.vms.testutil.Assert.assertThrows;
+import static seedu.vms.testutil.TypicalPatients.ALICE;
 import static seedu.vms.testutil.TypicalPatients.getTypicalPatientManager;
 
+import java.util.List;
 import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.vms.model.IdBitmap;
+import seedu.vms.testutil.PatientBuilder;
+
 public class PatientManagerTest {
 
     private final PatientManager patientManager = new PatientManager();
@@ -35,4 +40,27 @@ public class PatientManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> getTypicalPatientManager().getMapView().remove(0));
     }
 
+    @Test
+    public void findByAllergy_typicalPatients_matchingIds() {
+        PatientManager manager = getTypicalPatientManager();
+        assertEquals(IdBitmap.of(0, 2), manager.findByAllergy(List.of("glu")));
+        assertEquals(IdBitmap.of(), manager.findByAllergy(List.of("gluten", "seafood")));
+    }
+
+    @Test
+    public void findByVaccine_afterSetAndRemove_indexUpdated() {
+        PatientManager manager = getTypicalPatientManager();
+        assertEquals(IdBitmap.of(2, 4), manager.findByVaccine(List.of("pfizer")));
+
+        manager.set(0, new PatientBuilder(ALICE).withVaccines("Pfizer").build());
+        manager.remove(2);
+        assertEquals(IdBitmap.of(0, 4), manager.findByVaccine(List.of("pfizer")));
+        assertEquals(IdBitmap.of(), manager.findByAllergy(List.of("gluten")).and(IdBitmap.of(2)));
+    }
+
+    @Test
+    public void findByAllergy_copiedManager_indexRebuilt() {
+        PatientManager manager = new PatientManager(getTypicalPatientManager());
+        assertEquals(IdBitmap.of(0, 2), manager.findByAllergy(List.of("gluten")));
+    }
 }
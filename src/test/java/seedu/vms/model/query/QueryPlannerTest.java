@@ -0,0 +1,86 @@
+package seedu.vms.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.vms.testutil.TypicalPatients.getTypicalPatientManager;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.vms.model.GroupName;
+import seedu.vms.model.IdBitmap;
+import seedu.vms.model.patient.BloodType;
+import seedu.vms.model.patient.Patient;
+import seedu.vms.model.patient.PatientManager;
+import seedu.vms.model.patient.predicates.AllergyContainsKeywordsPredicate;
+import seedu.vms.model.patient.predicates.BloodTypePredicate;
+import seedu.vms.model.patient.predicates.NameContainsKeywordsPredicate;
+import seedu.vms.model.patient.predicates.VaccineContainsKeywordsPredicate;
+
+public class QueryPlannerTest {
+    private static final Predicate<Patient> NAME_PREDICATE = new NameContainsKeywordsPredicate(List.of("a"));
+    private static final Predicate<Patient> BLOOD_TYPE_PREDICATE = new BloodTypePredicate(new BloodType("A+"));
+    private static final Predicate<Patient> ALLERGY_PREDICATE =
+            new AllergyContainsKeywordsPredicate(Set.of(new GroupName("seafood")));
+    private static final Predicate<Patient> VACCINE_PREDICATE =
+            new VaccineContainsKeywordsPredicate(Set.of(new GroupName("pfizer")));
+
+    private final PatientManager patientManager = getTypicalPatientManager();
+    private final QueryPlanner<Patient> planner = new QueryPlanner<>(patientManager::findIndexed);
+
+
+    @Test
+    public void plan_noIndexedFilter_fullScanCheapestFirst() {
+        QueryPlan<Patient> plan = planner.plan(List.of(NAME_PREDICATE, BLOOD_TYPE_PREDICATE), 7);
+        assertTrue(plan.getCandidates().isEmpty());
+        assertEquals(List.of(BLOOD_TYPE_PREDICATE, NAME_PREDICATE), plan.getResidualFilters());
+        assertEquals(List.of(BLOOD_TYPE_PREDICATE, NAME_PREDICATE), plan.getFilters());
+        assertTrue(plan.getSteps().get(0).startsWith("full scan"));
+    }
+
+
+    @Test
+    public void plan_dataSampled_orderedByMeasuredSelectivity() {
+        Predicate<Patient> noMatchPredicate = new NameContainsKeywordsPredicate(List.of("zzz"));
+        Predicate<Patient> allMatchPredicate = patient -> true;
+
+        // heuristically, an unknown filter is cheaper and rejects half the rows
+        QueryPlan<Patient> estimatedPlan = planner.plan(List.of(noMatchPredicate, allMatchPredicate), 7);
+        assertEquals(List.of(allMatchPredicate, noMatchPredicate), estimatedPlan.getResidualFilters());
+
+        // but no row is rejected by it
+        QueryPlan<Patient> sampledPlan = planner.plan(List.of(noMatchPredicate, allMatchPredicate),
+                patientManager.getMapView().values());
+        assertEquals(List.of(noMatchPredicate, allMatchPredicate), sampledPlan.getResidualFilters());
+        assertTrue(sampledPlan.getSteps().get(1).contains("sampled from 7 rows"));
+        assertEquals(1, sampledPlan.getEstimatedSize());
+    }
+
+
+    @Test
+    public void plan_indexedFilters_drivenFromMostSelectiveIndex() {
+        QueryPlan<Patient> plan = planner.plan(
+                List.of(ALLERGY_PREDICATE, NAME_PREDICATE, VACCINE_PREDICATE), 7);
+        // 2 patients have taken pfizer, 4 are allergic to seafood
+        assertTrue(plan.getSteps().get(0).contains(VaccineContainsKeywordsPredicate.class.getSimpleName()));
+        assertEquals(IdBitmap.of(2), plan.getCandidates().get());
+        assertEquals(List.of(NAME_PREDICATE), plan.getResidualFilters());
+        assertEquals(List.of(NAME_PREDICATE, VACCINE_PREDICATE, ALLERGY_PREDICATE), plan.getFilters());
+    }
+
+
+    @Test
+    public void explain_executedPlan_containsTimings() {
+        QueryPlan<Patient> plan = planner.plan(List.of(ALLERGY_PREDICATE), 7);
+        assertFalse(plan.isExecuted());
+        assertFalse(plan.explain().contains("executed"));
+
+        QueryPlan<Patient> executedPlan = plan.withExecution(1_000_000, 4);
+        assertTrue(executedPlan.isExecuted());
+        assertTrue(executedPlan.explain().contains("executed in 1.000 ms (4 rows)"));
+    }
+}
@@ -0,0 +1,88 @@
+package seedu.vms.model.vaccination;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.vms.model.Age;
+import seedu.vms.model.GroupName;
+import seedu.vms.model.vaccination.Requirement.RequirementType;
+
+public class VaxEvaluatorTest {
+    private static final Age AGE = new Age(20);
+    private static final GroupName DOSE = new GroupName("EVAL_DOSE");
+    private static final GroupName BOOSTER = new GroupName("EVAL_BOOSTER");
+    private static final GroupName INGREDIENT = new GroupName("EVAL_INGREDIENT");
+
+    private static final VaxType DOSE_1 = createType("EVAL_DOSE_1", Set.of(DOSE), Set.of(), List.of());
+    private static final VaxType DOSE_2 = createType("EVAL_DOSE_2", Set.of(DOSE), Set.of(), List.of());
+    private static final VaxType BOOSTER_1 = createType("EVAL_BOOSTER_1", Set.of(DOSE, BOOSTER),
+            Set.of(INGREDIENT), List.of(
+                    new Requirement(RequirementType.ANY, new HashSet<>(Set.of(DOSE))),
+                    new Requirement(RequirementType.ANY, new HashSet<>(Set.of(DOSE))),
+                    new Requirement(RequirementType.NONE, new HashSet<>(Set.of(BOOSTER)))));
+
+
+    @Test
+    public void check_repeatedRequirement_needsDistinctVaccinations() {
+        assertFalse(BOOSTER_1.getEvaluator().check(AGE, Set.of(), List.of(DOSE_1)));
+        assertTrue(BOOSTER_1.getEvaluator().check(AGE, Set.of(), List.of(DOSE_1, DOSE_2)));
+    }
+
+
+    @Test
+    public void check_forbiddenGroupTaken_returnsFalse() {
+        assertFalse(BOOSTER_1.getEvaluator().check(AGE, Set.of(), List.of(DOSE_1, DOSE_2, BOOSTER_1)));
+    }
+
+
+    @Test
+    public void check_allergies() {
+        assertFalse(BOOSTER_1.getEvaluator().check(AGE, Set.of(INGREDIENT), List.of(DOSE_1, DOSE_2)));
+        // allergies that are not ingredients of any vaccination
+        assertTrue(BOOSTER_1.getEvaluator().check(AGE, Set.of(new GroupName("EVAL_UNKNOWN")),
+                List.of(DOSE_1, DOSE_2)));
+    }
+
+
+    @Test
+    public void check_takenCompiledWithFullInterner_comparedByName() {
+        VaxType oldDose1 = createType("EVAL_OLD_DOSE_1", Set.of(DOSE), Set.of(), List.of());
+        VaxType oldDose2 = createType("EVAL_OLD_DOSE_2", Set.of(DOSE), Set.of(), List.of());
+        oldDose1.getEvaluator();
+        oldDose2.getEvaluator();
+
+        GroupInterner fullInterner = GroupInterner.current();
+        for (int i = fullInterner.size(); i < GroupInterner.CAPACITY; i++) {
+            fullInterner.intern(new GroupName("EVAL_FILL_" + i));
+        }
+        assertNotSame(fullInterner, GroupInterner.current());
+
+        VaxType booster = createType("EVAL_NEW_BOOSTER", Set.of(BOOSTER), Set.of(), List.of(
+                new Requirement(RequirementType.ANY, new HashSet<>(Set.of(DOSE))),
+                new Requirement(RequirementType.ANY, new HashSet<>(Set.of(DOSE)))));
+        assertFalse(booster.getEvaluator().check(AGE, Set.of(), List.of(oldDose1)));
+        assertTrue(booster.getEvaluator().check(AGE, Set.of(), List.of(oldDose1, oldDose2)));
+        assertTrue(booster.getEvaluator().dependsOn(oldDose1));
+    }
+
+
+    @Test
+    public void getEvaluator_compiledOnce() {
+        assertSame(BOOSTER_1.getEvaluator(), BOOSTER_1.getEvaluator());
+    }
+
+
+    private static VaxType createType(String name, Set<GroupName> groups, Set<GroupName> ingredients,
+                List<Requirement> historyReqs) {
+        return new VaxType(new GroupName(name), new HashSet<>(groups), Age.MIN_AGE, Age.MAX_AGE,
+                new HashSet<>(ingredients), historyReqs);
+    }
+}
@@ -84,6 +84,19 @@ public class JsonPatientManagerStorageTest {
 
     }
 
+    @Test
+    public void readPatientManager_withDecodedHandler_allPatientsPassed() throws Exception {
+        Path filePath = testFolder.resolve("TempPatientManager.json");
+        PatientManager original = getTypicalPatientManager();
+        JsonPatientManagerStorage jsonPatientManagerStorage = new JsonPatientManagerStorage(filePath);
+        jsonPatientManagerStorage.savePatientManager(original);
+
+        PatientManager decoded = new PatientManager();
+        ReadOnlyPatientManager readBack = jsonPatientManagerStorage.readPatientManager(decoded::add);
+        assertEquals(original, decoded);
+        assertEquals(original, new PatientManager(readBack));
+    }
+
     @Test
     public void savePatientManager_nullPatientManager_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> savePatientManager(null, "SomeFile.json"));
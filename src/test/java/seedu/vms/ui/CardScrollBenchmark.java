@@ -0,0 +1,91 @@
+package seedu.vms.ui;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableMap;
+import javafx.scene.Scene;
+import javafx.stage.Stage;
+import seedu.vms.model.IdData;
+import seedu.vms.model.patient.Patient;
+import seedu.vms.testutil.PatientBuilder;
+import seedu.vms.ui.patient.SimplifiedPatientCard;
+
+
+/**
+ * Benchmarks scrolling through a patient list whose cells rebuild their card
+ * on every update against one whose cells rebind a reusable card.
+ *
+ * <p>This is not run as part of the tests as it requires a display. Run it
+ * with the test runtime classpath.
+ */
+public class CardScrollBenchmark {
+    private static final int ROW_COUNT = 5000;
+    private static final int SCROLL_STEP = 3;
+    private static final int ROUND_COUNT = 3;
+
+
+    public static void main(String[] args) throws Exception {
+        CountDownLatch startLatch = new CountDownLatch(1);
+        Platform.startup(startLatch::countDown);
+        startLatch.await();
+
+        ObservableMap<Integer, IdData<Patient>> patientMap = createPatientMap();
+        FutureTask<Void> benchmark = new FutureTask<>(() -> {
+            for (int round = 1; round <= ROUND_COUNT; round++) {
+                System.out.println("Round " + round);
+                scroll("rebuilding", count -> new ListViewPanel<>(patientMap, (index, idData) -> {
+                    count.incrementAndGet();
+                    return new SimplifiedPatientCard(idData).getRoot();
+                }, ROW_COUNT));
+                scroll("reusable", count -> new ListViewPanel<>(patientMap, () -> {
+                    count.incrementAndGet();
+                    return new SimplifiedPatientCard();
+                }, ROW_COUNT));
+            }
+            return null;
+        });
+        Platform.runLater(benchmark);
+        benchmark.get();
+        Platform.exit();
+    }
+
+
+    private static ObservableMap<Integer, IdData<Patient>> createPatientMap() {
+        ObservableMap<Integer, IdData<Patient>> patientMap = FXCollections.observableHashMap();
+        for (int id = 0; id < ROW_COUNT; id++) {
+            Patient patient = new PatientBuilder().withName(String.format("Patient %d", id)).build();
+            patientMap.put(id, new IdData<>(id, patient));
+        }
+        return patientMap;
+    }
+
+
+    /**
+     * Scrolls from the top to the bottom of the list view panel created by
+     * the given function and prints the time taken and the number of cards
+     * created.
+     */
+    private static void scroll(String label,
+                Function<AtomicInteger, ListViewPanel<IdData<Patient>>> panelFactory) {
+        AtomicInteger cardCount = new AtomicInteger();
+        ListViewPanel<IdData<Patient>> panel = panelFactory.apply(cardCount);
+        Stage stage = new Stage();
+        stage.setScene(new Scene(panel, 400, 600));
+        stage.show();
+
+        long startTime = System.nanoTime();
+        for (int i = 0; i < ROW_COUNT; i += SCROLL_STEP) {
+            panel.scrollTo(i);
+            panel.layout();
+        }
+        long elapsedMillis = (System.nanoTime() - startTime) / 1_000_000;
+        stage.close();
+
+        System.out.println(String.format("  %-10s %6d ms, %6d cards created", label, elapsedMillis, cardCount.get()));
+    }
+}